@@ -0,0 +1,68 @@
+package benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.starkbank.Event;
+import com.starkbank.utils.GsonEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Cost of decoding one webhook event, without signature verification.
+ *
+ * treeDeserializer is the previous Event.Deserializer, which builds a JsonObject for the whole
+ * event before dispatching on its subscription, kept as the baseline. The streaming adapter is
+ * measured with the log both before and after the subscription, since it has to buffer the log
+ * in the first case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventDecodeBenchmark {
+
+    private static final String log = "{\"id\": \"5184180217364480\", \"type\": \"success\", \"errors\": [], \"created\": \"2020-10-16T13:49:48.291734+00:00\", "
+            + "\"transfer\": {\"id\": \"6693962735681536\", \"status\": \"success\", \"amount\": 10000, \"name\": \"Daenerys Targaryen Stormborn\", "
+            + "\"bankCode\": \"341\", \"branchCode\": \"2201\", \"accountNumber\": \"76543-8\", \"taxId\": \"594.739.480-42\", "
+            + "\"tags\": [\"daenerys\"], \"fee\": 0, \"transactionIds\": [\"6693962735681536\"], "
+            + "\"created\": \"2020-10-16T13:49:46.916446+00:00\", \"updated\": \"2020-10-16T13:49:48.291734+00:00\"}}";
+
+    private static final String logFirst = "{\"log\": " + log + ", \"subscription\": \"transfer\", \"id\": \"5656565656565656\", "
+            + "\"isDelivered\": false, \"created\": \"2020-10-16T13:49:48.505466+00:00\", \"workspaceId\": \"5078376503050240\"}";
+
+    private static final String subscriptionFirst = "{\"id\": \"5656565656565656\", \"subscription\": \"transfer\", \"isDelivered\": false, "
+            + "\"created\": \"2020-10-16T13:49:48.505466+00:00\", \"workspaceId\": \"5078376503050240\", \"log\": " + log + "}";
+
+    private final Gson treeGson = new GsonBuilder()
+            .registerTypeAdapter(Event.class, new Event.Deserializer())
+            .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSSSSZ")
+            .create();
+    private final Gson streamingGson = GsonEvent.getInstance();
+
+    @Benchmark
+    public Event treeDeserializer() {
+        return treeGson.fromJson(logFirst, Event.class);
+    }
+
+    @Benchmark
+    public Event streamingLogFirst() {
+        return streamingGson.fromJson(logFirst, Event.class);
+    }
+
+    @Benchmark
+    public Event streamingSubscriptionFirst() {
+        return streamingGson.fromJson(subscriptionFirst, Event.class);
+    }
+}
@@ -0,0 +1,71 @@
+package benchmarks;
+
+import com.starkbank.Organization;
+import com.starkbank.Project;
+import com.starkbank.ellipticcurve.Ecdsa;
+import com.starkbank.ellipticcurve.PrivateKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Per-request cost of obtaining the signing key, with and without the PrivateKey cached in User.
+ *
+ * parsePem and signParsingPem reproduce the previous behavior, where the PEM string was
+ * decoded on every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrivateKeyBenchmark {
+
+    private static final String message = "project/5656565656565656:1673000000:{\"transfers\": []}";
+
+    private Project project;
+    private Organization organization;
+
+    @Setup
+    public void setup() throws Exception {
+        String pem = new PrivateKey().toPem();
+        project = new Project("sandbox", "5656565656565656", pem);
+        organization = new Organization("sandbox", "4545454545454545", pem);
+    }
+
+    @Benchmark
+    public PrivateKey parsePem() {
+        return PrivateKey.fromPem(project.pem);
+    }
+
+    @Benchmark
+    public PrivateKey cachedKey() {
+        return project.privateKey();
+    }
+
+    @Benchmark
+    public String signParsingPem() {
+        return Ecdsa.sign(message, PrivateKey.fromPem(project.pem)).toBase64();
+    }
+
+    @Benchmark
+    public String signCachedKey() {
+        return Ecdsa.sign(message, project.privateKey()).toBase64();
+    }
+
+    @Benchmark
+    public Organization replaceWorkspace() throws Exception {
+        return Organization.replace(organization, "4848484848484848");
+    }
+}
@@ -0,0 +1,63 @@
+package benchmarks;
+
+import com.starkbank.ellipticcurve.Ecdsa;
+import com.starkbank.ellipticcurve.PrivateKey;
+import com.starkbank.utils.EcdsaSigner;
+import com.starkbank.utils.Secp256k1Signer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Cost of signing the Access-Signature of one request with each RequestSigner.
+ *
+ * librarySign is the previous Ecdsa.sign call, kept as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestSignerBenchmark {
+
+    private static final String message = "project/5656565656565656:1673000000:{\"transfers\": []}";
+
+    private final Secp256k1Signer secp256k1Signer = new Secp256k1Signer();
+    private final EcdsaSigner ecdsaSigner = new EcdsaSigner();
+    private PrivateKey privateKey;
+    private byte[] digest;
+
+    @Setup
+    public void setup() throws Exception {
+        privateKey = new PrivateKey();
+        digest = MessageDigest.getInstance("SHA-256").digest(message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public String librarySign() {
+        return Ecdsa.sign(message, privateKey).toBase64();
+    }
+
+    @Benchmark
+    public String ecdsaSigner() {
+        return ecdsaSigner.sign(digest, privateKey);
+    }
+
+    @Benchmark
+    public String secp256k1Signer() {
+        return secp256k1Signer.sign(digest, privateKey);
+    }
+}
@@ -0,0 +1,80 @@
+package benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.starkbank.Transfer;
+import com.starkbank.utils.GsonEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Cost of building the request body of Transfer.create, which is the part of the call that runs
+ * on the client besides signing and decoding the response.
+ *
+ * newGson is the previous payload building, with a new Gson instance per call, kept as the
+ * baseline. Run with -prof gc to compare the allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransferPayloadBenchmark {
+
+    @Param({"1", "100"})
+    public int size;
+
+    private List<Transfer> transfers;
+
+    @Setup
+    public void setup() throws Exception {
+        transfers = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            List<Transfer.Rule> rules = new ArrayList<>();
+            rules.add(new Transfer.Rule("resendingLimit", 5));
+
+            HashMap<String, Object> data = new HashMap<>();
+            data.put("amount", 100000000);
+            data.put("bankCode", "341");
+            data.put("branchCode", "2201");
+            data.put("accountNumber", "76543-8");
+            data.put("accountType", "checking");
+            data.put("externalId", "java-" + i);
+            data.put("taxId", "594.739.480-42");
+            data.put("name", "Daenerys Targaryen Stormborn");
+            data.put("tags", new String[]{"daenerys", "invoice/1234"});
+            data.put("rules", rules);
+            transfers.add(new Transfer(data));
+        }
+    }
+
+    @Benchmark
+    public String newGson() {
+        JsonObject payload = new JsonObject();
+        payload.add("transfers", new Gson().toJsonTree(transfers).getAsJsonArray());
+        return payload.toString();
+    }
+
+    @Benchmark
+    public String sharedGson() {
+        JsonObject payload = new JsonObject();
+        payload.add("transfers", GsonEvent.getInstance().toJsonTree(transfers).getAsJsonArray());
+        return payload.toString();
+    }
+}
@@ -0,0 +1,98 @@
+package com.starkbank;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.starkbank.ellipticcurve.Ecdsa;
+import com.starkbank.ellipticcurve.PrivateKey;
+import com.starkbank.ellipticcurve.PublicKey;
+import com.starkbank.ellipticcurve.Signature;
+import com.starkbank.ellipticcurve.utils.ByteString;
+import com.starkbank.utils.Secp256k1Signer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Webhook events parsed per second, with the Stark Bank public key already cached.
+ *
+ * libraryParse repeats the previous Event.parse steps (a new Gson per call, decoding through a
+ * JsonObject tree and Ecdsa.verify over the String), kept as the baseline.
+ *
+ * Lives in com.starkbank to seed the package-private public key cache, so no request is made.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventParseBenchmark {
+
+    private static final String content = "{\"event\": {\"id\": \"5656565656565656\", \"subscription\": \"transfer\", "
+            + "\"isDelivered\": false, \"created\": \"2020-10-16T13:49:48.505466+00:00\", \"workspaceId\": \"5078376503050240\", "
+            + "\"log\": {\"id\": \"5184180217364480\", \"type\": \"success\", \"errors\": [], \"created\": \"2020-10-16T13:49:48.291734+00:00\", "
+            + "\"transfer\": {\"id\": \"6693962735681536\", \"status\": \"success\", \"amount\": 10000, \"name\": \"Daenerys Targaryen Stormborn\", "
+            + "\"bankCode\": \"341\", \"branchCode\": \"2201\", \"accountNumber\": \"76543-8\", \"taxId\": \"594.739.480-42\", "
+            + "\"tags\": [\"daenerys\"], \"fee\": 0, \"transactionIds\": [\"6693962735681536\"], "
+            + "\"created\": \"2020-10-16T13:49:46.916446+00:00\", \"updated\": \"2020-10-16T13:49:48.291734+00:00\"}}}}";
+
+    private User user;
+    private PublicKey publicKey;
+    private byte[] bytes;
+    private String signature;
+
+    @Setup
+    public void setup() throws Exception {
+        user = new Project("sandbox", "5656565656565656", new PrivateKey().toPem());
+        PrivateKey privateKey = new PrivateKey();
+        publicKey = privateKey.publicKey();
+        Cache.starkBankPublicKeys.put(user.environment, publicKey.toPem());
+        bytes = content.getBytes(StandardCharsets.UTF_8);
+        signature = new Secp256k1Signer().sign(MessageDigest.getInstance("SHA-256").digest(bytes), privateKey);
+    }
+
+    @Benchmark
+    public Event libraryParse() {
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapter(Event.class, new Event.Deserializer())
+                .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSSSSZ")
+                .create();
+        Event event = gson.fromJson(
+                new Gson().fromJson(content, JsonObject.class).get("event").getAsJsonObject(),
+                Event.class
+        );
+        if (!Ecdsa.verify(content, Signature.fromBase64(new ByteString(signature.getBytes())), publicKey)) {
+            throw new IllegalStateException("invalid signature");
+        }
+        return event;
+    }
+
+    @Benchmark
+    public Event parseString() throws Exception {
+        return Event.parse(content, signature, user);
+    }
+
+    @Benchmark
+    public Event parseBytes() throws Exception {
+        return Event.parse(bytes, signature, user);
+    }
+
+    @Benchmark
+    public Event parseByteBuffer() throws Exception {
+        return Event.parse(ByteBuffer.wrap(bytes), signature, user);
+    }
+}
@@ -0,0 +1,70 @@
+package com.starkbank.utils;
+
+import com.starkbank.Project;
+import com.starkbank.ellipticcurve.PrivateKey;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import retrofit2.Call;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Contention on the request path before the network: resolving the HTTP client of the user's
+ * environment and creating the call, from 64 threads at once.
+ *
+ * locked takes the HttpClient class lock around the lookup, as every request did before the
+ * instances were published through volatile fields, and is kept as the baseline.
+ *
+ * Lives in com.starkbank.utils to reach the package-private HttpClient lookup and ClientService.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class HttpClientBenchmark {
+
+    private Project project;
+    private Map<String, String> headers;
+
+    @Setup
+    public void setup() throws Exception {
+        project = new Project("sandbox", "5656565656565656", new PrivateKey().toPem());
+        headers = new HashMap<>();
+        headers.put("Access-Id", project.accessId());
+        headers.put("Content-Type", "application/json");
+        HttpClient.getProjectInstance(project);
+    }
+
+    @Benchmark
+    public ClientService lookup() throws Exception {
+        return HttpClient.getProjectInstance(project);
+    }
+
+    @Benchmark
+    public ClientService locked() throws Exception {
+        synchronized (HttpClient.class) {
+            return HttpClient.getProjectInstance(project);
+        }
+    }
+
+    @Benchmark
+    public Call<ResponseBody> call() throws Exception {
+        return HttpClient.getProjectInstance(project).get("balance", headers, null);
+    }
+}
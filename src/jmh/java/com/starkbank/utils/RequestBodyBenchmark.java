@@ -0,0 +1,87 @@
+package com.starkbank.utils;
+
+import com.google.gson.JsonObject;
+import com.starkbank.Transfer;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Cost of turning a list of transfers into the signed digest and the request body of a POST,
+ * without the signature itself.
+ *
+ * tree is the previous path (JsonObject tree, body String, message String and its bytes), kept
+ * as the baseline. Run with -prof gc to compare the allocation per request.
+ *
+ * Lives in com.starkbank.utils to reach the package-private Payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestBodyBenchmark {
+
+    private static final String prefix = "project/5656565656565656:1673000000:";
+
+    @Param({"1", "100"})
+    public int size;
+
+    private List<Transfer> transfers;
+
+    @Setup
+    public void setup() throws Exception {
+        transfers = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            HashMap<String, Object> data = new HashMap<>();
+            data.put("amount", 100000000);
+            data.put("bankCode", "341");
+            data.put("branchCode", "2201");
+            data.put("accountNumber", "76543-8");
+            data.put("accountType", "checking");
+            data.put("externalId", "java-" + i);
+            data.put("taxId", "594.739.480-42");
+            data.put("name", "Daenerys Targaryen Stormborn");
+            data.put("tags", new String[]{"daenerys", "invoice/1234"});
+            transfers.add(new Transfer(data));
+        }
+    }
+
+    @Benchmark
+    public Object tree() throws Exception {
+        JsonObject payload = new JsonObject();
+        payload.add("transfers", GsonEvent.getInstance().toJsonTree(transfers).getAsJsonArray());
+        String body = payload.toString();
+        String message = prefix + body;
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(message.getBytes(StandardCharsets.UTF_8));
+        return new Object[]{digest, RequestBody.create(MediaType.parse("text/plain"), body)};
+    }
+
+    @Benchmark
+    public Object payload() throws Exception {
+        Payload payload = Payload.list("transfers", transfers);
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(prefix.getBytes(StandardCharsets.UTF_8));
+        payload.update(digest);
+        return new Object[]{digest.digest(), payload.requestBody()};
+    }
+}
@@ -7,6 +7,7 @@ import com.starkbank.utils.Rest;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 public final class Balance extends Resource {
@@ -70,4 +71,33 @@ public final class Balance extends Resource {
     public static Balance get() throws Exception {
         return Balance.get(null);
     }
+
+    /**
+     * Retrieve the Balance object asynchronously
+     * <p>
+     * Receive the Balance object linked to your workspace in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Balance object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Balance> getAsync(User user) throws Exception {
+        return Rest.getPageAsync(data, new HashMap<String, Object>(), user).thenApply(page -> (Balance) page.entities.get(0));
+    }
+
+    /**
+     * Retrieve the Balance object asynchronously
+     * <p>
+     * Receive the Balance object linked to your workspace in the Stark Bank API
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Balance object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Balance> getAsync() throws Exception {
+        return Balance.getAsync(null);
+    }
 }
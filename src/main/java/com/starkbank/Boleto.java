@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 public final class Boleto extends Resource {
@@ -275,6 +276,21 @@ public final class Boleto extends Resource {
         return Boleto.get(id, null);
     }
 
+    /**
+     * Retrieve a specific Boleto asynchronously
+     * <p>
+     * Receive a single Boleto object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * Return:
+     * @return CompletableFuture completed with Boleto object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Boleto> getAsync(String id) throws Exception {
+        return Boleto.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific Boleto
      * <p>
@@ -292,6 +308,23 @@ public final class Boleto extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific Boleto asynchronously
+     * <p>
+     * Receive a single Boleto object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * Return:
+     * @return CompletableFuture completed with Boleto object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Boleto> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Retrieve Boletos
      * <p>
@@ -405,6 +438,32 @@ public final class Boleto extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged Boletos asynchronously
+     * <p>
+     * Receive a list of up to 100 Boleto objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * status [string, default null]: filter for status of retrieved objects. ex: "paid" or "registered"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Boleto.Page object:
+     * Boleto.Page.boletos: list of Boleto objects with updated attributes
+     * Boleto.Page.cursor: cursor to retrieve the next page of Boleto objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged Boletos
      * <p>
@@ -424,6 +483,25 @@ public final class Boleto extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged Boletos asynchronously
+     * <p>
+     * Receive a list of up to 100 Boleto objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Boleto.Page object:
+     * Boleto.Page.boletos: list of Boleto objects with updated attributes
+     * Boleto.Page.cursor: cursor to retrieve the next page of Boleto objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged Boletos
      * <p>
@@ -440,6 +518,22 @@ public final class Boleto extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged Boletos asynchronously
+     * <p>
+     * Receive a list of up to 100 Boleto objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Boleto.Page object:
+     * Boleto.Page.boletos: list of Boleto objects with updated attributes
+     * Boleto.Page.cursor: cursor to retrieve the next page of Boleto objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged Boletos
      * <p>
@@ -472,6 +566,39 @@ public final class Boleto extends Resource {
         return new Page(boletos, page.cursor);
     }
 
+    /**
+     * Retrieve paged Boletos asynchronously
+     * <p>
+     * Receive a list of up to 100 Boleto objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * status [string, default null]: filter for status of retrieved objects. ex: "paid" or "registered"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Boleto.Page object:
+     * Boleto.Page.boletos: list of Boleto objects with updated attributes
+     * Boleto.Page.cursor: cursor to retrieve the next page of Boleto objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<Boleto> boletos = new ArrayList<>();
+            for (SubResource boleto: page.entities) {
+                boletos.add((Boleto) boleto);
+            }
+            return new Page(boletos, page.cursor);
+        });
+    }
+
     /**
      * Create Boletos
      * <p>
@@ -502,6 +629,36 @@ public final class Boleto extends Resource {
         return Rest.post(data, boletoList, user);
     }
 
+    /**
+     * Create Boletos asynchronously
+     * <p>
+     * Send a list of Boleto objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param boletos [list of Boleto objects or HashMaps]: list of Boleto objects to be created in the API
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of Boleto objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<List<Boleto>> createAsync(List<?> boletos, User user) throws Exception {
+        List<Boleto> boletoList = new ArrayList<>();
+        for (Object boleto : boletos){
+            if (boleto instanceof Map){
+                boletoList.add(new Boleto((Map<String, Object>) boleto));
+                continue;
+            }
+            if (boleto instanceof Boleto){
+                boletoList.add((Boleto) boleto);
+                continue;
+            }
+            throw new Exception("Unknown type \"" + boleto.getClass() + "\", use Boleto or HashMap");
+        }
+        return Rest.postAsync(data, boletoList, user);
+    }
+
     /**
      * Create Boletos
      * <p>
@@ -518,6 +675,22 @@ public final class Boleto extends Resource {
         return create(boletos, null);
     }
 
+    /**
+     * Create Boletos asynchronously
+     * <p>
+     * Send a list of Boleto objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param boletos [list of Boleto objects or HashMaps]: list of Boleto objects to be created in the API
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of Boleto objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<Boleto>> createAsync(List<?> boletos) throws Exception {
+        return createAsync(boletos, null);
+    }
+
     /**
      * Retrieve a specific Boleto pdf file
      * <p>
@@ -534,6 +707,22 @@ public final class Boleto extends Resource {
         return Boleto.pdf(id, null, null);
     }
 
+    /**
+     * Retrieve a specific Boleto pdf file asynchronously
+     * <p>
+     * Receive a single Boleto pdf file generated in the Stark Bank API by passing its id.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Boleto pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id) throws Exception {
+        return Boleto.pdfAsync(id, null, null);
+    }
+
     /**
      * Retrieve a specific Boleto pdf file
      * <p>
@@ -553,6 +742,25 @@ public final class Boleto extends Resource {
         return Boleto.pdf(id, options, null);
     }
 
+    /**
+     * Retrieve a specific Boleto pdf file asynchronously
+     * <p>
+     * Receive a single Boleto pdf file generated in the Stark Bank API by passing its id.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param options [Map of String: Object]: PDF generation options
+     * layout [string]: Layout specification. Available options are "default" and "booklet"
+     * hiddenFields [list of strings, default null]: List of string fields to be hidden in the Boleto pdf. ex: ["customerAddress"]
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Boleto pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id, Map<String, Object> options) throws Exception {
+        return Boleto.pdfAsync(id, options, null);
+    }
+
     /**
      * Retrieve a specific Boleto pdf file
      * <p>
@@ -570,6 +778,23 @@ public final class Boleto extends Resource {
         return Boleto.pdf(id, null, user);
     }
 
+    /**
+     * Retrieve a specific Boleto pdf file asynchronously
+     * <p>
+     * Receive a single Boleto pdf file generated in the Stark Bank API by passing its id.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Boleto pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id, User user) throws Exception {
+        return Boleto.pdfAsync(id, null, user);
+    }
+
     /**
      * Retrieve a specific Boleto pdf file
      * <p>
@@ -590,6 +815,26 @@ public final class Boleto extends Resource {
         return Rest.getContent(data, id, "pdf", user, options);
     }
 
+    /**
+     * Retrieve a specific Boleto pdf file asynchronously
+     * <p>
+     * Receive a single Boleto pdf file generated in the Stark Bank API by passing its id.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param options [Map of String: Object]: PDF generation options
+     * layout [string]: Layout specification. Available options are "default" and "booklet"
+     * hiddenFields [list of strings, default null]: List of string fields to be hidden in the Boleto pdf. ex: ["customerAddress"]
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Boleto pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id, Map<String, Object> options, User user) throws Exception {
+        return Rest.getContentAsync(data, id, "pdf", user, options);
+    }
+
     /**
      * Delete a Boleto entity
      * <p>
@@ -606,6 +851,22 @@ public final class Boleto extends Resource {
         return Boleto.delete(id, null);
     }
 
+    /**
+     * Delete a Boleto entity asynchronously
+     * <p>
+     * Delete a Boleto entity previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: Boleto unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted Boleto object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Boleto> deleteAsync(String id) throws Exception {
+        return Boleto.deleteAsync(id, null);
+    }
+
     /**
      * Delete a Boleto entity
      * <p>
@@ -623,6 +884,23 @@ public final class Boleto extends Resource {
         return Rest.delete(data, id, user);
     }
 
+    /**
+     * Delete a Boleto entity asynchronously
+     * <p>
+     * Delete a Boleto entity previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: Boleto unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted Boleto object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Boleto> deleteAsync(String id, User user) throws Exception {
+        return Rest.deleteAsync(data, id, user);
+    }
+
     /**
      * Boleto.Discount object
      * <p>
@@ -736,6 +1014,22 @@ public final class Boleto extends Resource {
             return Log.get(id, null);
         }
 
+        /**
+         * Retrieve a specific Boleto Log asynchronously
+         * <p>
+         * Receive a single Boleto Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Boleto Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id) throws Exception {
+            return Log.getAsync(id, null);
+        }
+
         /**
          * Retrieve a specific Boleto Log
          * <p>
@@ -753,6 +1047,23 @@ public final class Boleto extends Resource {
             return Rest.getId(data, id, user);
         }
 
+        /**
+         * Retrieve a specific Boleto Log asynchronously
+         * <p>
+         * Receive a single Boleto Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Boleto Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id, User user) throws Exception {
+            return Rest.getIdAsync(data, id, user);
+        }
+
         /**
          * Retrieve Boleto Logs
          * <p>
@@ -864,6 +1175,31 @@ public final class Boleto extends Resource {
             return Log.page(params, null);
         }
 
+        /**
+         * Retrieve paged Boleto.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Boleto.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter for log event types. ex: "paid" or "registered"
+         * boletoIds [list of strings, default null]: list of Boleto ids to filter logs. ex: ["5656565656565656", "4545454545454545"]
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Boleto.Log.Page object:
+         * Boleto.Log.Page.logs: list of Boleto.Log objects with updated attributes
+         * Boleto.Log.Page.cursor: cursor to retrieve the next page of Boleto.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params) throws Exception {
+            return Log.pageAsync(params, null);
+        }
+
         /**
          * Retrieve paged Boleto.Logs
          * <p>
@@ -883,6 +1219,25 @@ public final class Boleto extends Resource {
             return Log.page(new HashMap<>(), user);
         }
 
+        /**
+         * Retrieve paged Boleto.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Boleto.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Boleto.Log.Page object:
+         * Boleto.Log.Page.logs: list of Boleto.Log objects with updated attributes
+         * Boleto.Log.Page.cursor: cursor to retrieve the next page of Boleto.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(User user) throws Exception {
+            return Log.pageAsync(new HashMap<>(), user);
+        }
+
         /**
          * Retrieve paged Boleto.Logs
          * <p>
@@ -899,6 +1254,22 @@ public final class Boleto extends Resource {
             return Log.page(new HashMap<>(), null);
         }
 
+        /**
+         * Retrieve paged Boleto.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Boleto.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Boleto.Log.Page object:
+         * Boleto.Log.Page.logs: list of Boleto.Log objects with updated attributes
+         * Boleto.Log.Page.cursor: cursor to retrieve the next page of Boleto.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync() throws Exception {
+            return Log.pageAsync(new HashMap<>(), null);
+        }
+
         /**
          * Retrieve paged Boleto.Logs
          * <p>
@@ -929,5 +1300,37 @@ public final class Boleto extends Resource {
             }
             return new Log.Page(logs, page.cursor);
         }
+
+        /**
+         * Retrieve paged Boleto.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Boleto.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter for log event types. ex: "paid" or "registered"
+         * boletoIds [list of strings, default null]: list of Boleto ids to filter logs. ex: ["5656565656565656", "4545454545454545"]
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Boleto.Log.Page object:
+         * Boleto.Log.Page.logs: list of Boleto.Log objects with updated attributes
+         * Boleto.Log.Page.cursor: cursor to retrieve the next page of Boleto.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+            return Rest.getPageAsync(data, params, user).thenApply(page -> {
+                List<Log> logs = new ArrayList<>();
+                for (SubResource log: page.entities) {
+                    logs.add((Log) log);
+                }
+                return new Log.Page(logs, page.cursor);
+            });
+        }
     }
 }
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public final class BoletoHolmes extends Resource {
     
@@ -108,6 +109,21 @@ public final class BoletoHolmes extends Resource {
         return BoletoHolmes.get(id, null);
     }
 
+    /**
+     * Retrieve a specific BoletoHolmes asynchronously
+     * <p>
+     * Receive a single BoletoHolmes object previously created by the Stark Bank API by passing its id
+     * <p>
+     * Parameters (required):
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * Return:
+     * @return CompletableFuture completed with BoletoHolmes object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<BoletoHolmes> getAsync(String id) throws Exception {
+        return BoletoHolmes.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific BoletoHolmes
      * <p>
@@ -126,6 +142,24 @@ public final class BoletoHolmes extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific BoletoHolmes asynchronously
+     * <p>
+     * Receive a single BoletoHolmes object previously created by the Stark Bank API by passing its id
+     * <p>
+     * Parameters (required):
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Parameters (optional):
+     * @param user [Project object]: Project object. Not necessary if starkbank.user was set before function call
+     * Return:
+     * @return CompletableFuture completed with BoletoHolmes object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<BoletoHolmes> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Create BoletoHolmes
      * <p>
@@ -158,6 +192,38 @@ public final class BoletoHolmes extends Resource {
         return Rest.post(data, holmesList, user);
     }
 
+    /**
+     * Create BoletoHolmes asynchronously
+     * <p>
+     * Send a list of BoletoHolmes objects for creation in the Stark Bank API
+     * <p>
+     * Parameters (required):
+     * @param holmes [list of BoletoHolmes objects]: list of BoletoHolmes objects to be created in the API
+     * <p>
+     * Parameters (optional):
+     * @param user [Project object]: Project object. Not necessary if starkbank.user was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of BoletoHolmes objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<List<BoletoHolmes>> createAsync(List<?> holmes, User user) throws Exception {
+        List<BoletoHolmes> holmesList = new ArrayList<>();
+        for (Object sherlock : holmes){
+            if (sherlock instanceof Map){
+                holmesList.add(new BoletoHolmes((Map<String, Object>) sherlock));
+                continue;
+            }
+            if (sherlock instanceof BoletoHolmes){
+                holmesList.add((BoletoHolmes) sherlock);
+                continue;
+            }
+            throw new Exception("Unknown type \"" + sherlock.getClass() + "\", use Boleto or HashMap");
+        }
+        return Rest.postAsync(data, holmesList, user);
+    }
+
     /**
      * Create BoletoHolmes
      * <p>
@@ -174,6 +240,22 @@ public final class BoletoHolmes extends Resource {
         return BoletoHolmes.create(holmes, null);
     }
 
+    /**
+     * Create BoletoHolmes asynchronously
+     * <p>
+     * Send a list of BoletoHolmes objects for creation in the Stark Bank API
+     * <p>
+     * Parameters (required):
+     * @param holmes [list of BoletoHolmes objects]: list of BoletoHolmes objects to be created in the API
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of BoletoHolmes objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<BoletoHolmes>> createAsync(List<?> holmes) throws Exception {
+        return BoletoHolmes.createAsync(holmes, null);
+    }
+
     /**
      * Retrieve BoletoHolmes
      * <p>
@@ -290,6 +372,33 @@ public final class BoletoHolmes extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged BoletoHolmess asynchronously
+     * <p>
+     * Receive a list of up to 100 BoletoHolmes objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [datetime.date or string, default null] date filter for objects created only after specified date. ex: datetime.date(2020, 3, 10)
+     * before [datetime.date or string, default null] date filter for objects created only before specified date. ex: datetime.date(2020, 3, 10)
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * status [string, default null]: filter for status of retrieved objects. ex: "solving"
+     * boletoId [string, default null]: filter for holmes that investigate a specific boleto by its ID. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BoletoHolmes.Page object:
+     * BoletoHolmes.Page.holmes: list of BoletoHolmes objects with updated attributes
+     * BoletoHolmes.Page.cursor: cursor to retrieve the next page of BoletoHolmes objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged BoletoHolmess
      * <p>
@@ -309,6 +418,25 @@ public final class BoletoHolmes extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged BoletoHolmess asynchronously
+     * <p>
+     * Receive a list of up to 100 BoletoHolmes objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BoletoHolmes.Page object:
+     * BoletoHolmes.Page.holmes: list of BoletoHolmes objects with updated attributes
+     * BoletoHolmes.Page.cursor: cursor to retrieve the next page of BoletoHolmes objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged BoletoHolmess
      * <p>
@@ -325,6 +453,22 @@ public final class BoletoHolmes extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged BoletoHolmess asynchronously
+     * <p>
+     * Receive a list of up to 100 BoletoHolmes objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BoletoHolmes.Page object:
+     * BoletoHolmes.Page.holmes: list of BoletoHolmes objects with updated attributes
+     * BoletoHolmes.Page.cursor: cursor to retrieve the next page of BoletoHolmes objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged BoletoHolmess
      * <p>
@@ -358,6 +502,40 @@ public final class BoletoHolmes extends Resource {
         return new Page(holmes, page.cursor);
     }
 
+    /**
+     * Retrieve paged BoletoHolmess asynchronously
+     * <p>
+     * Receive a list of up to 100 BoletoHolmes objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [datetime.date or string, default null] date filter for objects created only after specified date. ex: datetime.date(2020, 3, 10)
+     * before [datetime.date or string, default null] date filter for objects created only before specified date. ex: datetime.date(2020, 3, 10)
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * status [string, default null]: filter for status of retrieved objects. ex: "solving"
+     * boletoId [string, default null]: filter for holmes that investigate a specific boleto by its ID. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BoletoHolmes.Page object:
+     * BoletoHolmes.Page.holmes: list of BoletoHolmes objects with updated attributes
+     * BoletoHolmes.Page.cursor: cursor to retrieve the next page of BoletoHolmes objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<BoletoHolmes> holmes = new ArrayList<>();
+            for (SubResource sherlock: page.entities) {
+                holmes.add((BoletoHolmes) sherlock);
+            }
+            return new Page(holmes, page.cursor);
+        });
+    }
+
     public final static class Log extends Resource {
         static ClassData data = new ClassData(Log.class, "BoletoHolmesLog");
 
@@ -403,6 +581,23 @@ public final class BoletoHolmes extends Resource {
             return Log.get(id, null);
         }
 
+        /**
+         * Retrieve BoletoHolmes.Log's asynchronously
+         * <p>
+         * Receive a generator of BoletoHolmes.Log objects previously created in the Stark Bank API.
+         * Use this function instead of page if you want to stream the objects without worrying about cursors and pagination.
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BoletoHolmes.Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id) throws Exception {
+            return Log.getAsync(id, null);
+        }
+
         /**
          * Retrieve BoletoHolmes.Log's
          * <p>
@@ -421,6 +616,24 @@ public final class BoletoHolmes extends Resource {
             return Rest.getId(data, id, user);
         }
 
+        /**
+         * Retrieve BoletoHolmes.Log's asynchronously
+         * <p>
+         * Receive a generator of BoletoHolmes.Log objects previously created in the Stark Bank API.
+         * Use this function instead of page if you want to stream the objects without worrying about cursors and pagination.
+         * <p>
+         * Parameters
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * @param user [Project object]: Project object. Not necessary if starkbank.user was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BoletoHolmes.Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id, User user) throws Exception {
+            return Rest.getIdAsync(data, id, user);
+        }
+
         /**
          * Retrieve BoletoHolmes.Log's
          * <p>
@@ -532,6 +745,31 @@ public final class BoletoHolmes extends Resource {
             return Log.page(params, null);
         }
 
+        /**
+         * Retrieve paged BoletoHolmes.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 BoletoHolmes.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [datetime.date or string, default null] date filter for objects created only after specified date. ex: datetime.date(2020, 3, 10)
+         * before [datetime.date or string, default null] date filter for objects created only before specified date. ex: datetime.date(2020, 3, 10)
+         * types [list of strings, default null]: filter retrieved objects by event type. ex: ["solving", "solved"]
+         * holmesIds [list of strings, default null]: list of BoletoHolmes ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BoletoHolmes.Log.Page object:
+         * BoletoHolmes.Log.Page.logs: list of BoletoHolmes.Log objects with updated attributes
+         * BoletoHolmes.Log.Page.cursor: cursor to retrieve the next page of BoletoHolmes.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params) throws Exception {
+            return Log.pageAsync(params, null);
+        }
+
         /**
          * Retrieve paged BoletoHolmes.Logs
          * <p>
@@ -551,6 +789,25 @@ public final class BoletoHolmes extends Resource {
             return Log.page(new HashMap<>(), user);
         }
 
+        /**
+         * Retrieve paged BoletoHolmes.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 BoletoHolmes.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BoletoHolmes.Log.Page object:
+         * BoletoHolmes.Log.Page.logs: list of BoletoHolmes.Log objects with updated attributes
+         * BoletoHolmes.Log.Page.cursor: cursor to retrieve the next page of BoletoHolmes.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(User user) throws Exception {
+            return Log.pageAsync(new HashMap<>(), user);
+        }
+
         /**
          * Retrieve paged BoletoHolmes.Logs
          * <p>
@@ -567,6 +824,22 @@ public final class BoletoHolmes extends Resource {
             return Log.page(new HashMap<>(), null);
         }
 
+        /**
+         * Retrieve paged BoletoHolmes.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 BoletoHolmes.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BoletoHolmes.Log.Page object:
+         * BoletoHolmes.Log.Page.logs: list of BoletoHolmes.Log objects with updated attributes
+         * BoletoHolmes.Log.Page.cursor: cursor to retrieve the next page of BoletoHolmes.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync() throws Exception {
+            return Log.pageAsync(new HashMap<>(), null);
+        }
+
         /**
          * Retrieve paged BoletoHolmes.Logs
          * <p>
@@ -597,5 +870,37 @@ public final class BoletoHolmes extends Resource {
             }
             return new Log.Page(logs, page.cursor);
         }
+
+        /**
+         * Retrieve paged BoletoHolmes.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 BoletoHolmes.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [datetime.date or string, default null] date filter for objects created only after specified date. ex: datetime.date(2020, 3, 10)
+         * before [datetime.date or string, default null] date filter for objects created only before specified date. ex: datetime.date(2020, 3, 10)
+         * types [list of strings, default null]: filter retrieved objects by event type. ex: ["solving", "solved"]
+         * holmesIds [list of strings, default null]: list of BoletoHolmes ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BoletoHolmes.Log.Page object:
+         * BoletoHolmes.Log.Page.logs: list of BoletoHolmes.Log objects with updated attributes
+         * BoletoHolmes.Log.Page.cursor: cursor to retrieve the next page of BoletoHolmes.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+            return Rest.getPageAsync(data, params, user).thenApply(page -> {
+                List<Log> logs = new ArrayList<>();
+                for (SubResource log: page.entities) {
+                    logs.add((Log) log);
+                }
+                return new Log.Page(logs, page.cursor);
+            });
+        }
     }
 }
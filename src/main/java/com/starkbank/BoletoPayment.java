@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 public final class BoletoPayment extends Resource {
@@ -138,6 +139,22 @@ public final class BoletoPayment extends Resource {
         return BoletoPayment.get(id, null);
     }
 
+    /**
+     * Retrieve a specific BoletoPayment asynchronously
+     * <p>
+     * Receive a single BoletoPayment object previously created by the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BoletoPayment object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<BoletoPayment> getAsync(String id) throws Exception {
+        return BoletoPayment.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific BoletoPayment
      * <p>
@@ -155,6 +172,23 @@ public final class BoletoPayment extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific BoletoPayment asynchronously
+     * <p>
+     * Receive a single BoletoPayment object previously created by the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BoletoPayment object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<BoletoPayment> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Retrieve BoletoPayments
      * <p>
@@ -269,6 +303,32 @@ public final class BoletoPayment extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged BoletoPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 BoletoPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * status [string, default null]: filter for status of retrieved objects. ex: "success"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BoletoPayment.Page object:
+     * BoletoPayment.Page.payments: list of BoletoPayment objects with updated attributes
+     * BoletoPayment.Page.cursor: cursor to retrieve the next page of BoletoPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged BoletoPayments
      * <p>
@@ -288,6 +348,25 @@ public final class BoletoPayment extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged BoletoPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 BoletoPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BoletoPayment.Page object:
+     * BoletoPayment.Page.payments: list of BoletoPayment objects with updated attributes
+     * BoletoPayment.Page.cursor: cursor to retrieve the next page of BoletoPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged BoletoPayments
      * <p>
@@ -304,6 +383,22 @@ public final class BoletoPayment extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged BoletoPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 BoletoPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BoletoPayment.Page object:
+     * BoletoPayment.Page.payments: list of BoletoPayment objects with updated attributes
+     * BoletoPayment.Page.cursor: cursor to retrieve the next page of BoletoPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged BoletoPayments
      * <p>
@@ -336,6 +431,39 @@ public final class BoletoPayment extends Resource {
         return new Page(payments, page.cursor);
     }
 
+    /**
+     * Retrieve paged BoletoPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 BoletoPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * status [string, default null]: filter for status of retrieved objects. ex: "success"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BoletoPayment.Page object:
+     * BoletoPayment.Page.payments: list of BoletoPayment objects with updated attributes
+     * BoletoPayment.Page.cursor: cursor to retrieve the next page of BoletoPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<BoletoPayment> payments = new ArrayList<>();
+            for (SubResource payment: page.entities) {
+                payments.add((BoletoPayment) payment);
+            }
+            return new Page(payments, page.cursor);
+        });
+    }
+
     /**
      * Create BoletoPayments
      * <p>
@@ -352,6 +480,22 @@ public final class BoletoPayment extends Resource {
         return BoletoPayment.create(payments, null);
     }
 
+    /**
+     * Create BoletoPayments asynchronously
+     * <p>
+     * Send a list of BoletoPayment objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param payments [list of BoletoPayment objects or HashMaps]: list of BoletoPayment objects to be created in the API
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of BoletoPayment objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<BoletoPayment>> createAsync(List<?> payments) throws Exception {
+        return BoletoPayment.createAsync(payments, null);
+    }
+
     /**
      * Create BoletoPayments
      * <p>
@@ -382,6 +526,36 @@ public final class BoletoPayment extends Resource {
         return Rest.post(data, paymentList, user);
     }
 
+    /**
+     * Create BoletoPayments asynchronously
+     * <p>
+     * Send a list of BoletoPayment objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param payments [list of BoletoPayment objects or HashMaps]: list of BoletoPayment objects to be created in the API
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of BoletoPayment objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<List<BoletoPayment>> createAsync(List<?> payments, User user) throws Exception {
+        List<BoletoPayment> paymentList = new ArrayList<>();
+        for (Object payment : payments){
+            if (payment instanceof Map){
+                paymentList.add(new BoletoPayment((Map<String, Object>) payment));
+                continue;
+            }
+            if (payment instanceof BoletoPayment){
+                paymentList.add((BoletoPayment) payment);
+                continue;
+            }
+            throw new Exception("Unknown type \"" + payment.getClass() + "\", use BoletoPayment or HashMap");
+        }
+        return Rest.postAsync(data, paymentList, user);
+    }
+
     /**
      * Retrieve a specific BoletoPayment pdf file
      * <p>
@@ -399,6 +573,23 @@ public final class BoletoPayment extends Resource {
         return BoletoPayment.pdf(id, null);
     }
 
+    /**
+     * Retrieve a specific BoletoPayment pdf file asynchronously
+     * <p>
+     * Receive a single BoletoPayment pdf file generated in the Stark Bank API by passing its id.
+     * Only valid for boleto payments with "success" status.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BoletoPayment pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id) throws Exception {
+        return BoletoPayment.pdfAsync(id, null);
+    }
+
     /**
      * Retrieve a specific BoletoPayment pdf file
      * <p>
@@ -417,6 +608,24 @@ public final class BoletoPayment extends Resource {
         return Rest.getContent(data, id, "pdf", user, null);
     }
 
+    /**
+     * Retrieve a specific BoletoPayment pdf file asynchronously
+     * <p>
+     * Receive a single BoletoPayment pdf file generated in the Stark Bank API by passing its id.
+     * Only valid for boleto payments with "success" status.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BoletoPayment pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id, User user) throws Exception {
+        return Rest.getContentAsync(data, id, "pdf", user, null);
+    }
+
     /**
      * Delete a BoletoPayment entity
      * <p>
@@ -433,6 +642,22 @@ public final class BoletoPayment extends Resource {
         return BoletoPayment.delete(id, null);
     }
 
+    /**
+     * Delete a BoletoPayment entity asynchronously
+     * <p>
+     * Delete a BoletoPayment entity previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: BoletoPayment unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted BoletoPayment object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<BoletoPayment> deleteAsync(String id) throws Exception {
+        return BoletoPayment.deleteAsync(id, null);
+    }
+
     /**
      * Delete a BoletoPayment entity
      * <p>
@@ -450,6 +675,23 @@ public final class BoletoPayment extends Resource {
         return Rest.delete(data, id, user);
     }
 
+    /**
+     * Delete a BoletoPayment entity asynchronously
+     * <p>
+     * Delete a BoletoPayment entity previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: BoletoPayment unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted BoletoPayment object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<BoletoPayment> deleteAsync(String id, User user) throws Exception {
+        return Rest.deleteAsync(data, id, user);
+    }
+
     public final static class Log extends Resource {
         static ClassData data = new ClassData(Log.class, "BoletoPaymentLog");
 
@@ -497,6 +739,22 @@ public final class BoletoPayment extends Resource {
             return Log.get(id, null);
         }
 
+        /**
+         * Retrieve a specific BoletoPayment Log asynchronously
+         * <p>
+         * Receive a single BoletoPayment Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BoletoPayment Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id) throws Exception {
+            return Log.getAsync(id, null);
+        }
+
         /**
          * Retrieve a specific BoletoPayment Log
          * <p>
@@ -514,6 +772,23 @@ public final class BoletoPayment extends Resource {
             return Rest.getId(data, id, user);
         }
 
+        /**
+         * Retrieve a specific BoletoPayment Log asynchronously
+         * <p>
+         * Receive a single BoletoPayment Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BoletoPayment Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id, User user) throws Exception {
+            return Rest.getIdAsync(data, id, user);
+        }
+
         /**
          * Retrieve BoletoPayment Logs
          * <p>
@@ -625,6 +900,31 @@ public final class BoletoPayment extends Resource {
             return Log.page(params, null);
         }
 
+        /**
+         * Retrieve paged BoletoPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 BoletoPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter retrieved objects by event types. ex: "processing" or "success"
+         * paymentIds [list of strings, default null]: list of BoletoPayment ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BoletoPayment.Log.Page object:
+         * BoletoPayment.Log.Page.logs: list of BoletoPayment.Log objects with updated attributes
+         * BoletoPayment.Log.Page.cursor: cursor to retrieve the next page of BoletoPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params) throws Exception {
+            return Log.pageAsync(params, null);
+        }
+
         /**
          * Retrieve paged BoletoPayment.Logs
          * <p>
@@ -644,6 +944,25 @@ public final class BoletoPayment extends Resource {
             return Log.page(new HashMap<>(), user);
         }
 
+        /**
+         * Retrieve paged BoletoPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 BoletoPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BoletoPayment.Log.Page object:
+         * BoletoPayment.Log.Page.logs: list of BoletoPayment.Log objects with updated attributes
+         * BoletoPayment.Log.Page.cursor: cursor to retrieve the next page of BoletoPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(User user) throws Exception {
+            return Log.pageAsync(new HashMap<>(), user);
+        }
+
         /**
          * Retrieve paged BoletoPayment.Logs
          * <p>
@@ -660,6 +979,22 @@ public final class BoletoPayment extends Resource {
             return Log.page(new HashMap<>(), null);
         }
 
+        /**
+         * Retrieve paged BoletoPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 BoletoPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BoletoPayment.Log.Page object:
+         * BoletoPayment.Log.Page.logs: list of BoletoPayment.Log objects with updated attributes
+         * BoletoPayment.Log.Page.cursor: cursor to retrieve the next page of BoletoPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync() throws Exception {
+            return Log.pageAsync(new HashMap<>(), null);
+        }
+
         /**
          * Retrieve paged BoletoPayment.Logs
          * <p>
@@ -690,5 +1025,37 @@ public final class BoletoPayment extends Resource {
             }
             return new Log.Page(logs, page.cursor);
         }
+
+        /**
+         * Retrieve paged BoletoPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 BoletoPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter retrieved objects by event types. ex: "processing" or "success"
+         * paymentIds [list of strings, default null]: list of BoletoPayment ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BoletoPayment.Log.Page object:
+         * BoletoPayment.Log.Page.logs: list of BoletoPayment.Log objects with updated attributes
+         * BoletoPayment.Log.Page.cursor: cursor to retrieve the next page of BoletoPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+            return Rest.getPageAsync(data, params, user).thenApply(page -> {
+                List<Log> logs = new ArrayList<>();
+                for (SubResource log: page.entities) {
+                    logs.add((Log) log);
+                }
+                return new Log.Page(logs, page.cursor);
+            });
+        }
     }
 }
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public final class BrcodePayment extends Resource {
     /**
@@ -165,6 +166,21 @@ public final class BrcodePayment extends Resource {
         return BrcodePayment.get(id, null);
     }
 
+    /**
+     * Retrieve a specific BrcodePayment asynchronously
+     * <p>
+     * Receive a single BrcodePayment object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * Return:
+     * @return CompletableFuture completed with BrcodePayment object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<BrcodePayment> getAsync(String id) throws Exception {
+        return BrcodePayment.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific BrcodePayment
      * <p>
@@ -182,6 +198,23 @@ public final class BrcodePayment extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific BrcodePayment asynchronously
+     * <p>
+     * Receive a single BrcodePayment object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * Return:
+     * @return CompletableFuture completed with BrcodePayment object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<BrcodePayment> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Update notification BrcodePayment entity
      * <p>
@@ -201,6 +234,25 @@ public final class BrcodePayment extends Resource {
         return BrcodePayment.update(id, patchData, null);
     }
 
+    /**
+     * Update notification BrcodePayment entity asynchronously
+     * <p>
+     * Update BrcodePayment by passing id.
+     * If isDelivered is True, the event will no longer be returned on queries with isDelivered=False.
+     * <p>
+     * Parameters:
+     * @param id [string]: BrcodePayment unique ids. ex: "5656565656565656"
+     * @param patchData map of parameters to patch
+     * status [string]: If the BrcodePayment hasn't been paid yet, you may cancel it by passing "canceled" in the status
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BrcodePayment object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<BrcodePayment> updateAsync(String id, Map<String, Object> patchData) throws Exception {
+        return BrcodePayment.updateAsync(id, patchData, null);
+    }
+
     /**
      * Update notification BrcodePayment entity
      * <p>
@@ -220,6 +272,25 @@ public final class BrcodePayment extends Resource {
         return Rest.patch(data, id, patchData, user);
     }
 
+    /**
+     * Update notification BrcodePayment entity asynchronously
+     * <p>
+     * Update notification BrcodePayment by passing id.
+     * <p>
+     * Parameters:
+     * @param id [string]: BrcodePayment unique ids. ex: "5656565656565656"
+     * @param patchData map of properties to patch
+     * status [string]: If the BrcodePayment hasn't been paid yet, you may cancel it by passing "canceled" in the status
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BrcodePayment object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<BrcodePayment> updateAsync(String id, Map<String, Object> patchData, User user) throws Exception {
+        return Rest.patchAsync(data, id, patchData, user);
+    }
+
     /**
      * Retrieve a specific BrcodePayment pdf file
      * <p>
@@ -236,6 +307,22 @@ public final class BrcodePayment extends Resource {
         return BrcodePayment.pdf(id, null);
     }
 
+    /**
+     * Retrieve a specific BrcodePayment pdf file asynchronously
+     * <p>
+     * Receive a single BrcodePayment pdf receipt file generated in the Stark Bank API by passing its id.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BrcodePayment pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id) throws Exception {
+        return BrcodePayment.pdfAsync(id, null);
+    }
+
     /**
      * Retrieve a specific BrcodePayment pdf file
      * <p>
@@ -253,6 +340,23 @@ public final class BrcodePayment extends Resource {
         return Rest.getContent(data, id, "pdf", user, new HashMap<>());
     }
 
+    /**
+     * Retrieve a specific BrcodePayment pdf file asynchronously
+     * <p>
+     * Receive a single BrcodePayment pdf receipt file generated in the Stark Bank API by passing its id.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BrcodePayment pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id, User user) throws Exception {
+        return Rest.getContentAsync(data, id, "pdf", user, new HashMap<>());
+    }
+
     /**
      * Retrieve BrcodePayments
      * <p>
@@ -366,6 +470,32 @@ public final class BrcodePayment extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged BrcodePayments asynchronously
+     * <p>
+     * Receive a list of up to 100 BrcodePayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * status [string, default null]: filter for status of retrieved objects. ex: "success"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BrcodePayment.Page object:
+     * BrcodePayment.Page.payments: list of BrcodePayment objects with updated attributes
+     * BrcodePayment.Page.cursor: cursor to retrieve the next page of BrcodePayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged BrcodePayments
      * <p>
@@ -385,6 +515,25 @@ public final class BrcodePayment extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged BrcodePayments asynchronously
+     * <p>
+     * Receive a list of up to 100 BrcodePayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BrcodePayment.Page object:
+     * BrcodePayment.Page.payments: list of BrcodePayment objects with updated attributes
+     * BrcodePayment.Page.cursor: cursor to retrieve the next page of BrcodePayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged BrcodePayments
      * <p>
@@ -401,6 +550,22 @@ public final class BrcodePayment extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged BrcodePayments asynchronously
+     * <p>
+     * Receive a list of up to 100 BrcodePayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BrcodePayment.Page object:
+     * BrcodePayment.Page.payments: list of BrcodePayment objects with updated attributes
+     * BrcodePayment.Page.cursor: cursor to retrieve the next page of BrcodePayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged BrcodePayments
      * <p>
@@ -433,6 +598,39 @@ public final class BrcodePayment extends Resource {
         return new Page(payments, page.cursor);
     }
 
+    /**
+     * Retrieve paged BrcodePayments asynchronously
+     * <p>
+     * Receive a list of up to 100 BrcodePayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * status [string, default null]: filter for status of retrieved objects. ex: "success"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with BrcodePayment.Page object:
+     * BrcodePayment.Page.payments: list of BrcodePayment objects with updated attributes
+     * BrcodePayment.Page.cursor: cursor to retrieve the next page of BrcodePayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<BrcodePayment> payments = new ArrayList<>();
+            for (SubResource payment: page.entities) {
+                payments.add((BrcodePayment) payment);
+            }
+            return new Page(payments, page.cursor);
+        });
+    }
+
     /**
      * Create BrcodePayments
      * <p>
@@ -463,6 +661,36 @@ public final class BrcodePayment extends Resource {
         return Rest.post(data, paymentList, user);
     }
 
+    /**
+     * Create BrcodePayments asynchronously
+     * <p>
+     * Send a list of BrcodePayment objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param payments [list of BrcodePayment objects or HashMaps]: list of BrcodePayment objects to be created in the API
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of BrcodePayment objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<List<BrcodePayment>> createAsync(List<?> payments, User user) throws Exception {
+        List<BrcodePayment> paymentList = new ArrayList<>();
+        for (Object payment : payments){
+            if (payment instanceof Map){
+                paymentList.add(new BrcodePayment((Map<String, Object>) payment));
+                continue;
+            }
+            if (payment instanceof BrcodePayment){
+                paymentList.add((BrcodePayment) payment);
+                continue;
+            }
+            throw new Exception("Unknown type \"" + payment.getClass() + "\", use BrcodePayment or HashMap");
+        }
+        return Rest.postAsync(data, paymentList, user);
+    }
+
     /**
      * Create BrcodePayments
      * <p>
@@ -478,6 +706,22 @@ public final class BrcodePayment extends Resource {
     public static List<BrcodePayment> create(List<?> payments) throws Exception {
         return BrcodePayment.create(payments, null);
     }
+
+    /**
+     * Create BrcodePayments asynchronously
+     * <p>
+     * Send a list of BrcodePayment objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param payments [list of BrcodePayment objects or HashMaps]: list of BrcodePayment objects to be created in the API
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of BrcodePayment objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<BrcodePayment>> createAsync(List<?> payments) throws Exception {
+        return BrcodePayment.createAsync(payments, null);
+    }
     public final static class Log extends Resource {
         static ClassData data = new ClassData(Log.class, "BrcodePaymentLog");
 
@@ -525,6 +769,22 @@ public final class BrcodePayment extends Resource {
             return Log.get(id, null);
         }
 
+        /**
+         * Retrieve a specific BrcodePayment Log asynchronously
+         * <p>
+         * Receive a single BrcodePayment Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BrcodePayment Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id) throws Exception {
+            return Log.getAsync(id, null);
+        }
+
         /**
          * Retrieve a specific BrcodePayment Log
          * <p>
@@ -542,6 +802,23 @@ public final class BrcodePayment extends Resource {
             return Rest.getId(data, id, user);
         }
 
+        /**
+         * Retrieve a specific BrcodePayment Log asynchronously
+         * <p>
+         * Receive a single BrcodePayment Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BrcodePayment Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id, User user) throws Exception {
+            return Rest.getIdAsync(data, id, user);
+        }
+
         /**
          * Retrieve BrcodePayment Logs
          * <p>
@@ -653,6 +930,31 @@ public final class BrcodePayment extends Resource {
             return Log.page(params, null);
         }
 
+        /**
+         * Retrieve paged BrcodePayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 BrcodePayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter for log event types. ex: "success"
+         * paymentIds [list of strings, default null]: list of BrcodePayment ids to filter logs. ex: ["5656565656565656", "4545454545454545"]
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BrcodePayment.Log.Page object:
+         * BrcodePayment.Log.Page.logs: list of BrcodePayment.Log objects with updated attributes
+         * BrcodePayment.Log.Page.cursor: cursor to retrieve the next page of BrcodePayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params) throws Exception {
+            return Log.pageAsync(params, null);
+        }
+
         /**
          * Retrieve paged BrcodePayment.Logs
          * <p>
@@ -672,6 +974,25 @@ public final class BrcodePayment extends Resource {
             return Log.page(new HashMap<>(), user);
         }
 
+        /**
+         * Retrieve paged BrcodePayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 BrcodePayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BrcodePayment.Log.Page object:
+         * BrcodePayment.Log.Page.logs: list of BrcodePayment.Log objects with updated attributes
+         * BrcodePayment.Log.Page.cursor: cursor to retrieve the next page of BrcodePayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(User user) throws Exception {
+            return Log.pageAsync(new HashMap<>(), user);
+        }
+
         /**
          * Retrieve paged BrcodePayment.Logs
          * <p>
@@ -688,6 +1009,22 @@ public final class BrcodePayment extends Resource {
             return Log.page(new HashMap<>(), null);
         }
 
+        /**
+         * Retrieve paged BrcodePayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 BrcodePayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BrcodePayment.Log.Page object:
+         * BrcodePayment.Log.Page.logs: list of BrcodePayment.Log objects with updated attributes
+         * BrcodePayment.Log.Page.cursor: cursor to retrieve the next page of BrcodePayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync() throws Exception {
+            return Log.pageAsync(new HashMap<>(), null);
+        }
+
         /**
          * Retrieve paged BrcodePayment.Logs
          * <p>
@@ -718,6 +1055,38 @@ public final class BrcodePayment extends Resource {
             }
             return new Log.Page(logs, page.cursor);
         }
+
+        /**
+         * Retrieve paged BrcodePayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 BrcodePayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter for log event types. ex: "success"
+         * paymentIds [list of strings, default null]: list of BrcodePayment ids to filter logs. ex: ["5656565656565656", "4545454545454545"]
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with BrcodePayment.Log.Page object:
+         * BrcodePayment.Log.Page.logs: list of BrcodePayment.Log objects with updated attributes
+         * BrcodePayment.Log.Page.cursor: cursor to retrieve the next page of BrcodePayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+            return Rest.getPageAsync(data, params, user).thenApply(page -> {
+                List<Log> logs = new ArrayList<>();
+                for (SubResource log: page.entities) {
+                    logs.add((Log) log);
+                }
+                return new Log.Page(logs, page.cursor);
+            });
+        }
     }
 
     private List<BrcodePayment.Rule> parseRules(List<Object> rules) throws Exception {
@@ -1,8 +1,8 @@
 package com.starkbank;
 
-import com.starkbank.ellipticcurve.PublicKey;
-
 
 abstract class Cache {
-    public static PublicKey starkBankPublicKey = null;
+    // keys expire after 1 hour, refreshes after a failed verification happen at most every 30 seconds
+    // and a rotated key is still accepted for 10 minutes
+    static final PublicKeyCache starkBankPublicKeys = new PublicKeyCache(60 * 60 * 1000, 30 * 1000, 10 * 60 * 1000);
 }
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 public final class DarfPayment extends Resource {
@@ -155,6 +156,21 @@ public final class DarfPayment extends Resource {
         return DarfPayment.create(payments, null);
     }
 
+    /**
+     * Create DarfPayments asynchronously
+     * <p>
+     * Send a list of DarfPayment objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param payments [list of DarfPayment objects or HashMaps]: list of DarfPayment objects to be created in the API
+     * Return:
+     * @return CompletableFuture completed with list of DarfPayment objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<DarfPayment>> createAsync(List<?> payments) throws Exception {
+        return DarfPayment.createAsync(payments, null);
+    }
+
     /**
      * Create DarfPayments
      * <p>
@@ -168,6 +184,27 @@ public final class DarfPayment extends Resource {
      * @throws Exception error in the request
      */
     public static List<DarfPayment> create(List<?> payments, User user) throws Exception {
+        return Rest.post(data, parse(payments), user);
+    }
+
+    /**
+     * Create DarfPayments asynchronously
+     * <p>
+     * Send a list of DarfPayment objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param payments [list of DarfPayment objects or HashMaps]: list of DarfPayment objects to be created in the API
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * Return:
+     * @return CompletableFuture completed with list of DarfPayment objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<DarfPayment>> createAsync(List<?> payments, User user) throws Exception {
+        return Rest.postAsync(data, parse(payments), user);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<DarfPayment> parse(List<?> payments) throws Exception {
         List<DarfPayment> paymentList = new ArrayList<>();
         for (Object payment : payments) {
             if (payment instanceof Map) {
@@ -180,7 +217,7 @@ public final class DarfPayment extends Resource {
             }
             throw new Exception("Unknown type \"" + payment.getClass() + "\", use DarfPayment or HashMap");
         }
-        return Rest.post(data, paymentList, user);
+        return paymentList;
     }
 
     /**
@@ -199,6 +236,22 @@ public final class DarfPayment extends Resource {
         return DarfPayment.get(id, null);
     }
 
+    /**
+     * Retrieve a specific DarfPayment asynchronously
+     * <p>
+     * Receive a single DarfPayment object previously created by the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DarfPayment object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<DarfPayment> getAsync(String id) throws Exception {
+        return DarfPayment.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific DarfPayment
      * <p>
@@ -216,6 +269,23 @@ public final class DarfPayment extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific DarfPayment asynchronously
+     * <p>
+     * Receive a single DarfPayment object previously created by the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DarfPayment object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<DarfPayment> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Retrieve a specific DarfPayment pdf file
      * <p>
@@ -233,6 +303,23 @@ public final class DarfPayment extends Resource {
         return DarfPayment.pdf(id, null);
     }
 
+    /**
+     * Retrieve a specific DarfPayment pdf file asynchronously
+     * <p>
+     * Receive a single DarfPayment pdf file generated in the Stark Bank API by passing its id.
+     * Only valid for tax payments with "success" status.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DarfPayment pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id) throws Exception {
+        return DarfPayment.pdfAsync(id, null);
+    }
+
     /**
      * Retrieve a specific DarfPayment pdf file
      * <p>
@@ -251,6 +338,24 @@ public final class DarfPayment extends Resource {
         return Rest.getContent(data, id, "pdf", user, null);
     }
 
+    /**
+     * Retrieve a specific DarfPayment pdf file asynchronously
+     * <p>
+     * Receive a single DarfPayment pdf file generated in the Stark Bank API by passing its id.
+     * Only valid for tax payments with "success" status.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DarfPayment pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id, User user) throws Exception {
+        return Rest.getContentAsync(data, id, "pdf", user, null);
+    }
+
 
     /**
      * Retrieve DarfPayments
@@ -366,6 +471,32 @@ public final class DarfPayment extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged DarfPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 DarfPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * status [string, default null]: filter for status of retrieved objects. ex: "success"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DarfPayment.Page object:
+     * DarfPayment.Page.payments: list of DarfPayment objects with updated attributes
+     * DarfPayment.Page.cursor: cursor to retrieve the next page of DarfPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged DarfPayments
      * <p>
@@ -385,6 +516,25 @@ public final class DarfPayment extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged DarfPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 DarfPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DarfPayment.Page object:
+     * DarfPayment.Page.payments: list of DarfPayment objects with updated attributes
+     * DarfPayment.Page.cursor: cursor to retrieve the next page of DarfPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged DarfPayments
      * <p>
@@ -401,6 +551,22 @@ public final class DarfPayment extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged DarfPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 DarfPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DarfPayment.Page object:
+     * DarfPayment.Page.payments: list of DarfPayment objects with updated attributes
+     * DarfPayment.Page.cursor: cursor to retrieve the next page of DarfPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged DarfPayments
      * <p>
@@ -433,6 +599,39 @@ public final class DarfPayment extends Resource {
         return new Page(payments, page.cursor);
     }
 
+    /**
+     * Retrieve paged DarfPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 DarfPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * status [string, default null]: filter for status of retrieved objects. ex: "success"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DarfPayment.Page object:
+     * DarfPayment.Page.payments: list of DarfPayment objects with updated attributes
+     * DarfPayment.Page.cursor: cursor to retrieve the next page of DarfPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<DarfPayment> payments = new ArrayList<>();
+            for (SubResource payment : page.entities) {
+                payments.add((DarfPayment) payment);
+            }
+            return new Page(payments, page.cursor);
+        });
+    }
+
     /**
      * Delete a DarfPayment entity
      * <p>
@@ -449,6 +648,22 @@ public final class DarfPayment extends Resource {
         return DarfPayment.delete(id, null);
     }
 
+    /**
+     * Delete a DarfPayment entity asynchronously
+     * <p>
+     * Delete a DarfPayment entity previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: DarfPayment unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted DarfPayment object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<DarfPayment> deleteAsync(String id) throws Exception {
+        return DarfPayment.deleteAsync(id, null);
+    }
+
     /**
      * Delete a DarfPayment entity
      * <p>
@@ -466,6 +681,23 @@ public final class DarfPayment extends Resource {
         return Rest.delete(data, id, user);
     }
 
+    /**
+     * Delete a DarfPayment entity asynchronously
+     * <p>
+     * Delete a DarfPayment entity previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: DarfPayment unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted DarfPayment object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<DarfPayment> deleteAsync(String id, User user) throws Exception {
+        return Rest.deleteAsync(data, id, user);
+    }
+
     public final static class Log extends Resource {
         static ClassData data = new ClassData(DarfPayment.Log.class, "DarfPaymentLog");
 
@@ -498,6 +730,22 @@ public final class DarfPayment extends Resource {
             return Log.get(id, null);
         }
 
+        /**
+         * Retrieve a specific DarfPayment Log asynchronously
+         * <p>
+         * Receive a single DarfPayment Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with DarfPayment Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id) throws Exception {
+            return Log.getAsync(id, null);
+        }
+
         /**
          * Retrieve a specific DarfPayment Log
          * <p>
@@ -515,6 +763,23 @@ public final class DarfPayment extends Resource {
             return Rest.getId(data, id, user);
         }
 
+        /**
+         * Retrieve a specific DarfPayment Log asynchronously
+         * <p>
+         * Receive a single DarfPayment Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with DarfPayment Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id, User user) throws Exception {
+            return Rest.getIdAsync(data, id, user);
+        }
+
         /**
          * Retrieve DarfPayment Logs
          * <p>
@@ -626,6 +891,31 @@ public final class DarfPayment extends Resource {
             return Log.page(params, null);
         }
 
+        /**
+         * Retrieve paged DarfPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 DarfPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter retrieved objects by event types. ex: "processing" or "success"
+         * paymentIds [list of strings, default null]: list of DarfPayment ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with DarfPayment.Log.Page object:
+         * DarfPayment.Log.Page.logs: list of DarfPayment.Log objects with updated attributes
+         * DarfPayment.Log.Page.cursor: cursor to retrieve the next page of DarfPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params) throws Exception {
+            return Log.pageAsync(params, null);
+        }
+
         /**
          * Retrieve paged DarfPayment.Logs
          * <p>
@@ -645,6 +935,25 @@ public final class DarfPayment extends Resource {
             return Log.page(new HashMap<>(), user);
         }
 
+        /**
+         * Retrieve paged DarfPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 DarfPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with DarfPayment.Log.Page object:
+         * DarfPayment.Log.Page.logs: list of DarfPayment.Log objects with updated attributes
+         * DarfPayment.Log.Page.cursor: cursor to retrieve the next page of DarfPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(User user) throws Exception {
+            return Log.pageAsync(new HashMap<>(), user);
+        }
+
         /**
          * Retrieve paged DarfPayment.Logs
          * <p>
@@ -661,6 +970,22 @@ public final class DarfPayment extends Resource {
             return Log.page(new HashMap<>(), null);
         }
 
+        /**
+         * Retrieve paged DarfPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 DarfPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with DarfPayment.Log.Page object:
+         * DarfPayment.Log.Page.logs: list of DarfPayment.Log objects with updated attributes
+         * DarfPayment.Log.Page.cursor: cursor to retrieve the next page of DarfPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync() throws Exception {
+            return Log.pageAsync(new HashMap<>(), null);
+        }
+
         /**
          * Retrieve paged DarfPayment.Logs
          * <p>
@@ -691,5 +1016,37 @@ public final class DarfPayment extends Resource {
             }
             return new Log.Page(logs, page.cursor);
         }
+
+        /**
+         * Retrieve paged DarfPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 DarfPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter retrieved objects by event types. ex: "processing" or "success"
+         * paymentIds [list of strings, default null]: list of DarfPayment ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with DarfPayment.Log.Page object:
+         * DarfPayment.Log.Page.logs: list of DarfPayment.Log objects with updated attributes
+         * DarfPayment.Log.Page.cursor: cursor to retrieve the next page of DarfPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+            return Rest.getPageAsync(data, params, user).thenApply(page -> {
+                List<DarfPayment.Log> logs = new ArrayList<>();
+                for (SubResource log: page.entities) {
+                    logs.add((DarfPayment.Log) log);
+                }
+                return new Log.Page(logs, page.cursor);
+            });
+        }
     }
 }
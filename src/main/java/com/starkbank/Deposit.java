@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public final class Deposit extends Resource {
     /**
@@ -107,6 +108,21 @@ public final class Deposit extends Resource {
         return Deposit.get(id, null);
     }
 
+    /**
+     * Retrieve a specific Deposit asynchronously
+     * <p>
+     * Receive a single Deposit object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * Return:
+     * @return CompletableFuture completed with Deposit object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Deposit> getAsync(String id) throws Exception {
+        return Deposit.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific Deposit
      * <p>
@@ -124,6 +140,23 @@ public final class Deposit extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific Deposit asynchronously
+     * <p>
+     * Receive a single Deposit object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * Return:
+     * @return CompletableFuture completed with Deposit object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Deposit> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Retrieve Deposits
      * <p>
@@ -240,6 +273,33 @@ public final class Deposit extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged Deposits asynchronously
+     * <p>
+     * Receive a list of up to 100 Deposit objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * status [string, default null]: filter for status of retrieved objects. ex: "paid" or "registered"
+     * sort [string, default "-created"]: sort order considered in response. Valid options are "created" or "-created".
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Deposit.Page object:
+     * Deposit.Page.deposits: list of Deposit objects with updated attributes
+     * Deposit.Page.cursor: cursor to retrieve the next page of Deposit objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged Deposits
      * <p>
@@ -259,6 +319,25 @@ public final class Deposit extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged Deposits asynchronously
+     * <p>
+     * Receive a list of up to 100 Deposit objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Deposit.Page object:
+     * Deposit.Page.deposits: list of Deposit objects with updated attributes
+     * Deposit.Page.cursor: cursor to retrieve the next page of Deposit objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged Deposits
      * <p>
@@ -275,6 +354,22 @@ public final class Deposit extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged Deposits asynchronously
+     * <p>
+     * Receive a list of up to 100 Deposit objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Deposit.Page object:
+     * Deposit.Page.deposits: list of Deposit objects with updated attributes
+     * Deposit.Page.cursor: cursor to retrieve the next page of Deposit objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged Deposits
      * <p>
@@ -307,6 +402,40 @@ public final class Deposit extends Resource {
         }
         return new Page(deposits, page.cursor);
     }
+
+    /**
+     * Retrieve paged Deposits asynchronously
+     * <p>
+     * Receive a list of up to 100 Deposit objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * status [string, default null]: filter for status of retrieved objects. ex: "paid" or "registered"
+     * sort [string, default "-created"]: sort order considered in response. Valid options are "created" or "-created".
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Deposit.Page object:
+     * Deposit.Page.deposits: list of Deposit objects with updated attributes
+     * Deposit.Page.cursor: cursor to retrieve the next page of Deposit objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<Deposit> deposits = new ArrayList<>();
+            for (SubResource deposit: page.entities) {
+                deposits.add((Deposit) deposit);
+            }
+            return new Page(deposits, page.cursor);
+        });
+    }
     
     public final static class Log extends Resource {
         static ClassData data = new ClassData(Log.class, "DepositLog");
@@ -355,6 +484,22 @@ public final class Deposit extends Resource {
             return Log.get(id, null);
         }
 
+        /**
+         * Retrieve a specific Deposit Log asynchronously
+         * <p>
+         * Receive a single Deposit Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Deposit Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id) throws Exception {
+            return Log.getAsync(id, null);
+        }
+
         /**
          * Retrieve a specific Deposit Log
          * <p>
@@ -372,6 +517,23 @@ public final class Deposit extends Resource {
             return Rest.getId(data, id, user);
         }
 
+        /**
+         * Retrieve a specific Deposit Log asynchronously
+         * <p>
+         * Receive a single Deposit Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Deposit Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id, User user) throws Exception {
+            return Rest.getIdAsync(data, id, user);
+        }
+
         /**
          * Retrieve Deposit Logs
          * <p>
@@ -483,6 +645,31 @@ public final class Deposit extends Resource {
             return Log.page(params, null);
         }
 
+        /**
+         * Retrieve paged Deposit.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Deposit.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter for log event types. ex: "created" or "credited"
+         * depositIds [list of strings, default null]: list of Deposit ids to filter logs. ex: ["5656565656565656", "4545454545454545"]
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Deposit.Log.Page object:
+         * Deposit.Log.Page.logs: list of Deposit.Log objects with updated attributes
+         * Deposit.Log.Page.cursor: cursor to retrieve the next page of Deposit.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params) throws Exception {
+            return Log.pageAsync(params, null);
+        }
+
         /**
          * Retrieve paged Deposit.Logs
          * <p>
@@ -502,6 +689,25 @@ public final class Deposit extends Resource {
             return Log.page(new HashMap<>(), user);
         }
 
+        /**
+         * Retrieve paged Deposit.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Deposit.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Deposit.Log.Page object:
+         * Deposit.Log.Page.logs: list of Deposit.Log objects with updated attributes
+         * Deposit.Log.Page.cursor: cursor to retrieve the next page of Deposit.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(User user) throws Exception {
+            return Log.pageAsync(new HashMap<>(), user);
+        }
+
         /**
          * Retrieve paged Deposit.Logs
          * <p>
@@ -518,6 +724,22 @@ public final class Deposit extends Resource {
             return Log.page(new HashMap<>(), null);
         }
 
+        /**
+         * Retrieve paged Deposit.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Deposit.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Deposit.Log.Page object:
+         * Deposit.Log.Page.logs: list of Deposit.Log objects with updated attributes
+         * Deposit.Log.Page.cursor: cursor to retrieve the next page of Deposit.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync() throws Exception {
+            return Log.pageAsync(new HashMap<>(), null);
+        }
+
         /**
          * Retrieve paged Deposit.Logs
          * <p>
@@ -548,5 +770,37 @@ public final class Deposit extends Resource {
             }
             return new Log.Page(logs, page.cursor);
         }
+
+        /**
+         * Retrieve paged Deposit.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Deposit.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter for log event types. ex: "created" or "credited"
+         * depositIds [list of strings, default null]: list of Deposit ids to filter logs. ex: ["5656565656565656", "4545454545454545"]
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Deposit.Log.Page object:
+         * Deposit.Log.Page.logs: list of Deposit.Log objects with updated attributes
+         * Deposit.Log.Page.cursor: cursor to retrieve the next page of Deposit.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+            return Rest.getPageAsync(data, params, user).thenApply(page -> {
+                List<Log> logs = new ArrayList<>();
+                for (SubResource log: page.entities) {
+                    logs.add((Log) log);
+                }
+                return new Log.Page(logs, page.cursor);
+            });
+        }
     }    
 }
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class DictKey extends Resource {
     
@@ -104,6 +105,21 @@ public class DictKey extends Resource {
         return DictKey.get(id, null);
     }
 
+    /**
+     * Retrieve a specific DictKey asynchronously
+     * <p>
+     * Receive a single DictKey object by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: DictKey object unique id and Pix key itself. ex: "tony@starkbank.com", "722.461.430-04", "20.018.183/0001-80", "+5511988887777", "b6295ee1-f054-47d1-9e90-ee57b74f60d9"
+     * Return:
+     * @return CompletableFuture completed with DictKey object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<DictKey> getAsync(String id) throws Exception {
+        return DictKey.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific DictKey
      * <p>
@@ -121,6 +137,23 @@ public class DictKey extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific DictKey asynchronously
+     * <p>
+     * Receive a single DictKey object by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: DictKey object unique id and Pix key itself. ex: "tony@starkbank.com", "722.461.430-04", "20.018.183/0001-80", "+5511988887777", "b6295ee1-f054-47d1-9e90-ee57b74f60d9"
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * Return:
+     * @return CompletableFuture completed with DictKey object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<DictKey> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Retrieve DictKeys
      * <p>
@@ -234,6 +267,32 @@ public class DictKey extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged DictKeys asynchronously
+     * <p>
+     * Receive a list of up to 100 DictKey objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * type [string, default null]: DictKey type. ex: "cpf", "cnpj", "phone", "email" or "evp"
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * status [string, default null]: filter for status of retrieved objects. ex: "created", "paid", "canceled" or "overdue"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DictKey.Page object:
+     * DictKey.Page.keys: list of DictKey objects with updated attributes
+     * DictKey.Page.cursor: cursor to retrieve the next page of DictKey objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged DictKeys
      * <p>
@@ -253,6 +312,25 @@ public class DictKey extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged DictKeys asynchronously
+     * <p>
+     * Receive a list of up to 100 DictKey objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DictKey.Page object:
+     * DictKey.Page.keys: list of DictKey objects with updated attributes
+     * DictKey.Page.cursor: cursor to retrieve the next page of DictKey objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged DictKeys
      * <p>
@@ -269,6 +347,22 @@ public class DictKey extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged DictKeys asynchronously
+     * <p>
+     * Receive a list of up to 100 DictKey objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DictKey.Page object:
+     * DictKey.Page.keys: list of DictKey objects with updated attributes
+     * DictKey.Page.cursor: cursor to retrieve the next page of DictKey objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged DictKeys
      * <p>
@@ -300,4 +394,37 @@ public class DictKey extends Resource {
         }
         return new Page(keys, page.cursor);
     }
+
+    /**
+     * Retrieve paged DictKeys asynchronously
+     * <p>
+     * Receive a list of up to 100 DictKey objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * type [string, default null]: DictKey type. ex: "cpf", "cnpj", "phone", "email" or "evp"
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * status [string, default null]: filter for status of retrieved objects. ex: "created", "paid", "canceled" or "overdue"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DictKey.Page object:
+     * DictKey.Page.keys: list of DictKey objects with updated attributes
+     * DictKey.Page.cursor: cursor to retrieve the next page of DictKey objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<DictKey> keys = new ArrayList<>();
+            for (SubResource key: page.entities) {
+                keys.add((DictKey) key);
+            }
+            return new Page(keys, page.cursor);
+        });
+    }
 }
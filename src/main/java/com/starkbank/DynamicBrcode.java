@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 public final class DynamicBrcode extends Resource {
@@ -154,6 +155,36 @@ public final class DynamicBrcode extends Resource {
         return Rest.post(data, brcodeList, user);
     }
 
+    /**
+     * Create DynamicBrcodes asynchronously
+     * <p>
+     * Send a list of DynamicBrcode objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param brcodes [list of DynamicBrcode objects or Maps]: list of DynamicBrcode objects to be created in the API
+     * @param user [Project object]: Project object. Not necessary if StarkBank.Settings.user was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of DynamicBrcode objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<List<DynamicBrcode>> createAsync(List<?> brcodes, User user) throws Exception {
+        List<DynamicBrcode> brcodeList = new ArrayList<>();
+        for (Object brcode : brcodes){
+            if (brcode instanceof Map){
+                brcodeList.add(new DynamicBrcode((Map<String, Object>) brcode));
+                continue;
+            }
+            if (brcode instanceof DynamicBrcode){
+                brcodeList.add((DynamicBrcode) brcode);
+                continue;
+            }
+            throw new Exception("Unknown type \"" + brcode.getClass() + "\", use DynamicBrcode or HashMap");
+        }
+        return Rest.postAsync(data, brcodeList, user);
+    }
+
     /**
      * Create DynamicBrcodes
      * <p>
@@ -170,6 +201,22 @@ public final class DynamicBrcode extends Resource {
         return DynamicBrcode.create(brcodes, null);
     }
 
+    /**
+     * Create DynamicBrcodes asynchronously
+     * <p>
+     * Send a list of DynamicBrcode objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param brcodes [list of DynamicBrcode objects or Maps]: list of DynamicBrcode objects to be created in the API
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of DynamicBrcode objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<DynamicBrcode>> createAsync(List<?> brcodes) throws Exception {
+        return DynamicBrcode.createAsync(brcodes, null);
+    }
+
     /**
      * Retrieve a specific DynamicBrcode
      * <p>
@@ -185,6 +232,21 @@ public final class DynamicBrcode extends Resource {
         return DynamicBrcode.get(uuid, null);
     }
 
+    /**
+     * Retrieve a specific DynamicBrcode asynchronously
+     * <p>
+     * Receive a single DynamicBrcode object previously created in the Stark Bank API by passing its uuid
+     * <p>
+     * Parameters:
+     * @param uuid [string]: object unique uuid. ex: "901e71f2447c43c886f58366a5432c4b"
+     * Return:
+     * @return CompletableFuture completed with DynamicBrcode object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<DynamicBrcode> getAsync(String uuid) throws Exception {
+        return DynamicBrcode.getAsync(uuid, null);
+    }
+
     /**
      * Retrieve a specific DynamicBrcode
      * <p>
@@ -202,6 +264,23 @@ public final class DynamicBrcode extends Resource {
         return Rest.getId(data, uuid, user);
     }
 
+    /**
+     * Retrieve a specific DynamicBrcode asynchronously
+     * <p>
+     * Receive a single DynamicBrcode object previously created in the Stark Bank API by passing its uuid
+     * <p>
+     * Parameters:
+     * @param uuid [string]: object unique uuid. ex: "901e71f2447c43c886f58366a5432c4b"
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * Return:
+     * @return CompletableFuture completed with DynamicBrcode object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<DynamicBrcode> getAsync(String uuid, User user) throws Exception {
+        return Rest.getIdAsync(data, uuid, user);
+    }
+
     /**
      * Retrieve DynamicBrcodes
      * <p>
@@ -312,6 +391,31 @@ public final class DynamicBrcode extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged DynamicBrcodes asynchronously
+     * <p>
+     * Receive a list of up to 100 DynamicBrcode objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * uuids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["901e71f2447c43c886f58366a5432c4b", "4e2eab725ddd495f9c98ffd97440702d"]
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DynamicBrcode.Page object:
+     * DynamicBrcode.Page.brcodes: list of DynamicBrcode objects with updated attributes
+     * DynamicBrcode.Page.cursor: cursor to retrieve the next page of DynamicBrcode objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged DynamicBrcodes
      * <p>
@@ -331,6 +435,25 @@ public final class DynamicBrcode extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged DynamicBrcodes asynchronously
+     * <p>
+     * Receive a list of up to 100 DynamicBrcode objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DynamicBrcode.Page object:
+     * DynamicBrcode.Page.brcodes: list of DynamicBrcode objects with updated attributes
+     * DynamicBrcode.Page.cursor: cursor to retrieve the next page of DynamicBrcode objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged DynamicBrcodes
      * <p>
@@ -347,6 +470,22 @@ public final class DynamicBrcode extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged DynamicBrcodes asynchronously
+     * <p>
+     * Receive a list of up to 100 DynamicBrcode objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DynamicBrcode.Page object:
+     * DynamicBrcode.Page.brcodes: list of DynamicBrcode objects with updated attributes
+     * DynamicBrcode.Page.cursor: cursor to retrieve the next page of DynamicBrcode objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged DynamicBrcodes
      * <p>
@@ -376,4 +515,35 @@ public final class DynamicBrcode extends Resource {
         }
         return new Page(brcodes, page.cursor);
     }
+
+    /**
+     * Retrieve paged DynamicBrcodes asynchronously
+     * <p>
+     * Receive a list of up to 100 DynamicBrcode objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * uuids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["901e71f2447c43c886f58366a5432c4b", "4e2eab725ddd495f9c98ffd97440702d"]
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with DynamicBrcode.Page object:
+     * DynamicBrcode.Page.brcodes: list of DynamicBrcode objects with updated attributes
+     * DynamicBrcode.Page.cursor: cursor to retrieve the next page of DynamicBrcode objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<DynamicBrcode> brcodes = new ArrayList<>();
+            for (SubResource brcode: page.entities) {
+                brcodes.add((DynamicBrcode) brcode);
+            }
+            return new Page(brcodes, page.cursor);
+        });
+    }
 }
@@ -1,18 +1,30 @@
 package com.starkbank;
 
 import com.google.gson.*;
-import com.starkbank.ellipticcurve.Ecdsa;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import com.starkbank.ellipticcurve.PublicKey;
 import com.starkbank.ellipticcurve.Signature;
 import com.starkbank.ellipticcurve.utils.ByteString;
 import com.starkbank.error.InvalidSignatureError;
 import com.starkbank.utils.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 public class Event extends Resource {
@@ -92,6 +104,171 @@ public class Event extends Resource {
         }
     }
 
+    /**
+     * Streaming Gson adapter for Event and its subclasses.
+     *
+     * The event fields are read straight from the JsonReader, and the log is decoded with the
+     * adapter of the Log class of its subscription, so no JsonObject is built for the event.
+     * Only when the log arrives before the subscription is it buffered as a JsonElement until
+     * its type is known. Event.parse avoids that by finding the subscription beforehand.
+     */
+    public static class AdapterFactory implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != Event.class) {
+                return null;
+            }
+            return (TypeAdapter<T>) new Adapter(gson, gson.getDelegateAdapter(this, TypeToken.get(Event.class)));
+        }
+    }
+
+    private static final Map<String, Class<?>> logClasses = new HashMap<>();
+    static {
+        logClasses.put("transfer", Transfer.Log.class);
+        logClasses.put("boleto", Boleto.Log.class);
+        logClasses.put("boleto-payment", BoletoPayment.Log.class);
+        logClasses.put("utility-payment", UtilityPayment.Log.class);
+        logClasses.put("boleto-holmes", BoletoHolmes.Log.class);
+        logClasses.put("invoice", Invoice.Log.class);
+        logClasses.put("deposit", Deposit.Log.class);
+        logClasses.put("brcode-payment", BrcodePayment.Log.class);
+        logClasses.put("tax-payment", TaxPayment.Log.class);
+        logClasses.put("darf-payment", DarfPayment.Log.class);
+    }
+
+    private static final class Adapter extends TypeAdapter<Event> {
+        private final Gson gson;
+        private final TypeAdapter<Event> baseAdapter;
+
+        Adapter(Gson gson, TypeAdapter<Event> baseAdapter) {
+            this.gson = gson;
+            this.baseAdapter = baseAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, Event value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            if (value.getClass() == Event.class) {
+                baseAdapter.write(out, value);
+                return;
+            }
+            writeAs(out, value, value.getClass());
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> void writeAs(JsonWriter out, Event value, Class<T> type) throws IOException {
+            gson.getAdapter(type).write(out, (T) value);
+        }
+
+        @Override
+        public Event read(JsonReader in) throws IOException {
+            return read(in, null);
+        }
+
+        // subscription may be known beforehand, so that a log that comes first is still streamed
+        Event read(JsonReader in, String subscription) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            String id = null;
+            String created = null;
+            Boolean isDelivered = null;
+            String workspaceId = null;
+            Object log = null;
+            JsonElement bufferedLog = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        id = nextString(in);
+                        break;
+                    case "created":
+                        created = nextString(in);
+                        break;
+                    case "isDelivered":
+                        if (in.peek() == JsonToken.NULL) {
+                            in.nextNull();
+                        } else {
+                            isDelivered = in.nextBoolean();
+                        }
+                        break;
+                    case "subscription":
+                        String value = nextString(in);
+                        if (subscription == null) {
+                            subscription = value;
+                        }
+                        break;
+                    case "workspaceId":
+                        workspaceId = nextString(in);
+                        break;
+                    case "log":
+                        if (subscription != null) {
+                            log = logAdapter(subscription).read(in);
+                        } else {
+                            bufferedLog = gson.getAdapter(JsonElement.class).read(in);
+                        }
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+
+            if (subscription == null) {
+                return null;
+            }
+            if (bufferedLog != null) {
+                log = logAdapter(subscription).fromJsonTree(bufferedLog);
+            }
+            switch (subscription) {
+                case "transfer":
+                    return new TransferEvent((Transfer.Log) log, created, isDelivered, subscription, id, workspaceId);
+                case "boleto":
+                    return new BoletoEvent((Boleto.Log) log, created, isDelivered, subscription, id, workspaceId);
+                case "boleto-payment":
+                    return new BoletoPaymentEvent((BoletoPayment.Log) log, created, isDelivered, subscription, id, workspaceId);
+                case "utility-payment":
+                    return new UtilityPaymentEvent((UtilityPayment.Log) log, created, isDelivered, subscription, id, workspaceId);
+                case "boleto-holmes":
+                    return new BoletoHolmesEvent((BoletoHolmes.Log) log, created, isDelivered, subscription, id, workspaceId);
+                case "invoice":
+                    return new InvoiceEvent((Invoice.Log) log, created, isDelivered, subscription, id, workspaceId);
+                case "deposit":
+                    return new DepositEvent((Deposit.Log) log, created, isDelivered, subscription, id, workspaceId);
+                case "brcode-payment":
+                    return new BrcodePaymentEvent((BrcodePayment.Log) log, created, isDelivered, subscription, id, workspaceId);
+                case "tax-payment":
+                    return new TaxPaymentEvent((TaxPayment.Log) log, created, isDelivered, subscription, id, workspaceId);
+                case "darf-payment":
+                    return new DarfPaymentEvent((DarfPayment.Log) log, created, isDelivered, subscription, id, workspaceId);
+                default:
+                    return new UnknownEvent((JsonObject) log, created, isDelivered, subscription, id, workspaceId);
+            }
+        }
+
+        private TypeAdapter<?> logAdapter(String subscription) {
+            Class<?> logClass = logClasses.get(subscription);
+            if (logClass == null) {
+                logClass = JsonObject.class;
+            }
+            return gson.getAdapter(logClass);
+        }
+
+        private static String nextString(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return in.nextString();
+        }
+    }
+
     public final static class TransferEvent extends Event {
         public Transfer.Log log;
 
@@ -207,6 +384,22 @@ public class Event extends Resource {
         return Event.get(id, null);
     }
 
+    /**
+     * Retrieve a specific notification Event asynchronously
+     * <p>
+     * Receive a single notification Event object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Event object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Event> getAsync(String id) throws Exception {
+        return Event.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific notification Event
      * <p>
@@ -224,6 +417,23 @@ public class Event extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific notification Event asynchronously
+     * <p>
+     * Receive a single notification Event object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Event object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Event> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Retrieve notification Events
      * <p>
@@ -332,6 +542,30 @@ public class Event extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged Events asynchronously
+     * <p>
+     * Receive a list of up to 100 Event objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null]: date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null]: date filter for objects created only before specified date. ex: "2020-03-10"
+     * isDelivered [bool, default null]: bool to filter successfully delivered events. ex: true or false
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Event.Page object:
+     * Event.Page.events: list of Event objects with updated attributes
+     * Event.Page.cursor: cursor to retrieve the next page of Event objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged Events
      * <p>
@@ -351,6 +585,25 @@ public class Event extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged Events asynchronously
+     * <p>
+     * Receive a list of up to 100 Event objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Event.Page object:
+     * Event.Page.events: list of Event objects with updated attributes
+     * Event.Page.cursor: cursor to retrieve the next page of Event objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged Events
      * <p>
@@ -367,6 +620,22 @@ public class Event extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged Events asynchronously
+     * <p>
+     * Receive a list of up to 100 Event objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Event.Page object:
+     * Event.Page.events: list of Event objects with updated attributes
+     * Event.Page.cursor: cursor to retrieve the next page of Event objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged Events
      * <p>
@@ -397,6 +666,37 @@ public class Event extends Resource {
         return new Page(events, page.cursor);
     }
 
+    /**
+     * Retrieve paged Events asynchronously
+     * <p>
+     * Receive a list of up to 100 Event objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null]: date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null]: date filter for objects created only before specified date. ex: "2020-03-10"
+     * isDelivered [bool, default null]: bool to filter successfully delivered events. ex: true or false
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Event.Page object:
+     * Event.Page.events: list of Event objects with updated attributes
+     * Event.Page.cursor: cursor to retrieve the next page of Event objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<Event> events = new ArrayList<>();
+            for (SubResource event: page.entities) {
+                events.add((Event) event);
+            }
+            return new Page(events, page.cursor);
+        });
+    }
+
     /**
      * Delete notification Events
      * <p>
@@ -413,6 +713,22 @@ public class Event extends Resource {
         return Event.delete(id, null);
     }
 
+    /**
+     * Delete notification Events asynchronously
+     * <p>
+     * Delete a list of notification Event entities previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: Event unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted Event object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Event> deleteAsync(String id) throws Exception {
+        return Event.deleteAsync(id, null);
+    }
+
     /**
      * Delete notification Events
      * <p>
@@ -430,6 +746,23 @@ public class Event extends Resource {
         return Rest.delete(data, id, user);
     }
 
+    /**
+     * Delete notification Events asynchronously
+     * <p>
+     * Delete a list of notification Event entities previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: Event unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted Event object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Event> deleteAsync(String id, User user) throws Exception {
+        return Rest.deleteAsync(data, id, user);
+    }
+
     /**
      * Update notification Event entity
      * <p>
@@ -449,6 +782,25 @@ public class Event extends Resource {
         return Event.update(id, patchData, null);
     }
 
+    /**
+     * Update notification Event entity asynchronously
+     * <p>
+     * Update notification Event by passing id.
+     * If isDelivered is True, the event will no longer be returned on queries with isDelivered=False.
+     * <p>
+     * Parameters:
+     * @param id [string]: Event unique ids. ex: "5656565656565656"
+     * @param patchData map of parameters to patch
+     * isDelivered [bool]: If True and event hasn't been delivered already, event will be set as delivered. ex: true
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Event object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Event> updateAsync(String id, Map<String, Object> patchData) throws Exception {
+        return Event.updateAsync(id, patchData, null);
+    }
+
     /**
      * Update notification Event entity
      * <p>
@@ -469,6 +821,26 @@ public class Event extends Resource {
         return Rest.patch(data, id, patchData, user);
     }
 
+    /**
+     * Update notification Event entity asynchronously
+     * <p>
+     * Update notification Event by passing id.
+     * If isDelivered is True, the event will no longer be returned on queries with isDelivered=false.
+     * <p>
+     * Parameters:
+     * @param id [string]: Event unique ids. ex: "5656565656565656"
+     * @param patchData map of properties to patch
+     * isDelivered [bool]: If True and event hasn't been delivered already, event will be set as delivered. ex: true
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Event object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Event> updateAsync(String id, Map<String, Object> patchData, User user) throws Exception {
+        return Rest.patchAsync(data, id, patchData, user);
+    }
+
     /**
      * Create single notification Event from a content string
      * <p>
@@ -505,56 +877,427 @@ public class Event extends Resource {
      * @throws Exception error in the request
      */
     public static Event parse(String content, String signature, User user) throws Exception {
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(Event.class, new Event.Deserializer())
-                .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSSSSZ")
-                .create();
-        Event parsedEvent = gson.fromJson(
-                new Gson().fromJson(content, JsonObject.class).get("event").getAsJsonObject(),
-                Event.class
-        );
-
-        Signature signatureObject;
+        return Event.parse(content.getBytes(StandardCharsets.UTF_8), signature, user);
+    }
+
+    /**
+     * Create single notification Event from a content byte array
+     * <p>
+     * Create a single Event object received from event listening at subscribed user endpoint.
+     * If the provided digital signature does not check out with the StarkBank public key, a
+     * starkbank.exception.InvalidSignatureException will be raised.
+     * The signature is checked over the bytes as received, so the content is never converted to a String.
+     * <p>
+     * Parameters:
+     * @param content [byte array]: raw UTF-8 response content from request received at user endpoint, as read from the request body
+     * @param signature [string]: base-64 digital signature received at response header "Digital-Signature"
+     * <p>
+     * Return:
+     * @return Event object with updated attributes
+     * @throws Exception error in the request
+     */
+    public static Event parse(byte[] content, String signature) throws Exception {
+        return Event.parse(content, signature, Settings.user);
+    }
+
+    /**
+     * Create single notification Event from a content byte array
+     * <p>
+     * Create a single Event object received from event listening at subscribed user endpoint.
+     * If the provided digital signature does not check out with the StarkBank public key, a
+     * starkbank.exception.InvalidSignatureException will be raised.
+     * The signature is checked over the bytes as received, so the content is never converted to a String.
+     * <p>
+     * Parameters:
+     * @param content [byte array]: raw UTF-8 response content from request received at user endpoint, as read from the request body
+     * @param signature [string]: base-64 digital signature received at response header "Digital-Signature"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return Event object with updated attributes
+     * @throws Exception error in the request
+     */
+    public static Event parse(byte[] content, String signature, User user) throws Exception {
+        verify(ByteBuffer.wrap(content), signature, user);
+        return decode(content, 0, content.length);
+    }
+
+    /**
+     * Create single notification Event from a content buffer
+     * <p>
+     * Create a single Event object received from event listening at subscribed user endpoint.
+     * If the provided digital signature does not check out with the StarkBank public key, a
+     * starkbank.exception.InvalidSignatureException will be raised.
+     * The signature is checked over the bytes as received, so the content is never converted to a String.
+     * <p>
+     * Parameters:
+     * @param content [ByteBuffer]: raw UTF-8 response content from request received at user endpoint. Its remaining bytes are read without changing its position
+     * @param signature [string]: base-64 digital signature received at response header "Digital-Signature"
+     * <p>
+     * Return:
+     * @return Event object with updated attributes
+     * @throws Exception error in the request
+     */
+    public static Event parse(ByteBuffer content, String signature) throws Exception {
+        return Event.parse(content, signature, Settings.user);
+    }
+
+    /**
+     * Create single notification Event from a content buffer
+     * <p>
+     * Create a single Event object received from event listening at subscribed user endpoint.
+     * If the provided digital signature does not check out with the StarkBank public key, a
+     * starkbank.exception.InvalidSignatureException will be raised.
+     * The signature is checked over the bytes as received, so the content is never converted to a String.
+     * <p>
+     * Parameters:
+     * @param content [ByteBuffer]: raw UTF-8 response content from request received at user endpoint. Its remaining bytes are read without changing its position
+     * @param signature [string]: base-64 digital signature received at response header "Digital-Signature"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return Event object with updated attributes
+     * @throws Exception error in the request
+     */
+    public static Event parse(ByteBuffer content, String signature, User user) throws Exception {
+        verify(content, signature, user);
+        if (content.hasArray()) {
+            return decode(content.array(), content.arrayOffset() + content.position(), content.remaining());
+        }
+        byte[] bytes = new byte[content.remaining()];
+        content.duplicate().get(bytes);
+        return decode(bytes, 0, bytes.length);
+    }
+
+    // the signature is checked before anything is decoded, so forged content is never parsed
+    private static void verify(ByteBuffer content, String signature, User user) throws Exception {
+        Signature signatureObject = signature(signature);
+
+        PublicKeyCache.Keys publicKeys = Cache.starkBankPublicKeys.get(user);
+        if (verifySignature(content, signatureObject, publicKeys)) {
+            return;
+        }
+        PublicKeyCache.Keys refreshedKeys = Cache.starkBankPublicKeys.refresh(user, publicKeys);
+        if (refreshedKeys != publicKeys && verifySignature(content, signatureObject, refreshedKeys)) {
+            return;
+        }
+
+        throw new InvalidSignatureError("The provided signature and content do not match the Stark Bank public key");
+    }
+
+    private static Signature signature(String signature) throws InvalidSignatureError {
         try {
-            signatureObject = Signature.fromBase64(new ByteString(signature.getBytes()));
+            return Signature.fromBase64(new ByteString(signature.getBytes(StandardCharsets.US_ASCII)));
         } catch (Error | RuntimeException e) {
             throw new InvalidSignatureError("The provided signature is not valid");
         }
+    }
 
-        if (verifySignature(user, content, signatureObject, false)) {
-            return parsedEvent;
+    private static boolean verifySignature(ByteBuffer content, Signature signature, PublicKeyCache.Keys publicKeys) {
+        for (PublicKey publicKey : publicKeys.keys) {
+            if (SignatureVerifier.verify(content, signature, publicKey)) {
+                return true;
+            }
         }
-        if (verifySignature(user, content, signatureObject, true)) {
-            return parsedEvent;
+        return false;
+    }
+
+    // reads the "event" member straight from the bytes, skipping any other member of the envelope.
+    // The subscription is looked up first, so that the log is streamed even if it comes before it.
+    private static Event decode(byte[] content, int offset, int length) throws IOException {
+        Gson gson = GsonEvent.getInstance();
+        TypeAdapter<Event> adapter = gson.getAdapter(Event.class);
+        String subscription = adapter instanceof Adapter ? subscription(content, offset, length) : null;
+        try (JsonReader reader = eventReader(content, offset, length)) {
+            if (subscription != null) {
+                return ((Adapter) adapter).read(reader, subscription);
+            }
+            return adapter.read(reader);
         }
+    }
 
-        throw new InvalidSignatureError("The provided signature and content do not match the Stark Bank public key");
+    private static String subscription(byte[] content, int offset, int length) throws IOException {
+        try (JsonReader reader = eventReader(content, offset, length)) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                return null;
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("subscription") && reader.peek() == JsonToken.STRING) {
+                    return reader.nextString();
+                }
+                reader.skipValue();
+            }
+        }
+        return null;
+    }
+
+    // positions the reader at the value of the "event" member
+    private static JsonReader eventReader(byte[] content, int offset, int length) throws IOException {
+        JsonReader reader = new JsonReader(new InputStreamReader(
+                new ByteArrayInputStream(content, offset, length),
+                StandardCharsets.UTF_8
+        ));
+        reader.setLenient(true);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("event")) {
+                return reader;
+            }
+            reader.skipValue();
+        }
+        reader.close();
+        throw new JsonParseException("Event content has no \"event\" member");
+    }
+
+    /**
+     * Event.Delivery object
+     * <p>
+     * Webhook request received at user endpoint, to be parsed with Event.parseAll
+     * <p>
+     * Attributes:
+     * content [byte array]: raw UTF-8 response content from request received at user endpoint
+     * signature [string]: base-64 digital signature received at response header "Digital-Signature"
+     */
+    public final static class Delivery {
+        public final byte[] content;
+        public final String signature;
+
+        /**
+         * Event.Delivery object
+         * <p>
+         * Parameters:
+         * @param content [string]: response content from request received at user endpoint (not parsed)
+         * @param signature [string]: base-64 digital signature received at response header "Digital-Signature"
+         */
+        public Delivery(String content, String signature) {
+            this(content.getBytes(StandardCharsets.UTF_8), signature);
+        }
+
+        /**
+         * Event.Delivery object
+         * <p>
+         * Parameters:
+         * @param content [byte array]: raw UTF-8 response content from request received at user endpoint
+         * @param signature [string]: base-64 digital signature received at response header "Digital-Signature"
+         */
+        public Delivery(byte[] content, String signature) {
+            this.content = content;
+            this.signature = signature;
+        }
     }
 
-    private static boolean verifySignature(User user, String content, Signature signature, boolean refresh) throws Exception {
-        PublicKey publicKey = Cache.starkBankPublicKey;
-        if (publicKey == null || refresh) {
-            publicKey = getStarkBankPublicKey(user);
-            Cache.starkBankPublicKey = publicKey;
+    /**
+     * Event.ParseResult object
+     * <p>
+     * Attributes:
+     * events [list of Event objects]: parsed events, in the same order as the deliveries. Failed deliveries are null
+     * failures [list of Event.ParseFailure objects]: deliveries that could not be parsed, in the same order as the deliveries
+     */
+    public final static class ParseResult {
+        public final List<Event> events;
+        public final List<ParseFailure> failures;
+
+        ParseResult(List<Event> events, List<ParseFailure> failures) {
+            this.events = events;
+            this.failures = failures;
+        }
+
+        public boolean isSuccessful() {
+            return failures.isEmpty();
+        }
+
+        /**
+         * Retrieve the parsed events, skipping failed deliveries
+         * <p>
+         * Return:
+         * @return list of Event objects
+         */
+        public List<Event> parsed() {
+            List<Event> parsed = new ArrayList<>();
+            for (Event event : events) {
+                if (event != null) {
+                    parsed.add(event);
+                }
+            }
+            return parsed;
         }
-        return Ecdsa.verify(content, signature, publicKey);
     }
 
-    private static PublicKey getStarkBankPublicKey(User user) throws Exception {
-        HashMap<String, Object> query = new HashMap<>();
-        query.put("limit", "1");
-        String content = Response.fetch(
-                "/public-key",
-                "GET",
-                null,
-                query,
-                user
-        ).content();
-        JsonObject contentJson = new Gson().fromJson(content, JsonObject.class);
-        JsonArray publicKeys = contentJson.get("publicKeys").getAsJsonArray();
-        return PublicKey.fromPem(
-                publicKeys.get(0).getAsJsonObject().get("content").getAsString()
-        );
+    /**
+     * Event.ParseFailure object
+     * <p>
+     * Attributes:
+     * index [integer]: index of the failed delivery. ex: 12
+     * delivery [Event.Delivery object]: delivery that could not be parsed
+     * error [Exception]: error raised by the delivery, such as InvalidSignatureError
+     */
+    public final static class ParseFailure {
+        public final int index;
+        public final Delivery delivery;
+        public final Exception error;
+
+        ParseFailure(int index, Delivery delivery, Exception error) {
+            this.index = index;
+            this.delivery = delivery;
+            this.error = error;
+        }
+
+        public String toString() {
+            return "ParseFailure(index=" + index + ", error=" + error + ")";
+        }
+    }
+
+    /**
+     * Create notification Events from a list of deliveries
+     * <p>
+     * Parse a batch of Event objects received from event listening at subscribed user endpoint,
+     * such as a backlog replayed from a queue. Signatures are verified in parallel on the common
+     * ForkJoinPool, and the Stark Bank public key is looked up once for the whole batch.
+     * Deliveries that fail do not interrupt the others.
+     * <p>
+     * Parameters:
+     * @param deliveries [list of Event.Delivery objects]: content and signature of each received request
+     * <p>
+     * Return:
+     * @return Event.ParseResult object
+     * @throws Exception error in the public key request
+     */
+    public static ParseResult parseAll(List<Delivery> deliveries) throws Exception {
+        return Event.parseAll(deliveries, ForkJoinPool.commonPool(), Settings.user);
+    }
+
+    /**
+     * Create notification Events from a list of deliveries
+     * <p>
+     * Parse a batch of Event objects received from event listening at subscribed user endpoint,
+     * such as a backlog replayed from a queue. Signatures are verified in parallel on the common
+     * ForkJoinPool, and the Stark Bank public key is looked up once for the whole batch.
+     * Deliveries that fail do not interrupt the others.
+     * <p>
+     * Parameters:
+     * @param deliveries [list of Event.Delivery objects]: content and signature of each received request
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return Event.ParseResult object
+     * @throws Exception error in the public key request
+     */
+    public static ParseResult parseAll(List<Delivery> deliveries, User user) throws Exception {
+        return Event.parseAll(deliveries, ForkJoinPool.commonPool(), user);
+    }
+
+    /**
+     * Create notification Events from a list of deliveries
+     * <p>
+     * Parse a batch of Event objects received from event listening at subscribed user endpoint,
+     * such as a backlog replayed from a queue. Signatures are verified in parallel on the given
+     * executor, and the Stark Bank public key is looked up once for the whole batch.
+     * Deliveries that fail do not interrupt the others.
+     * <p>
+     * Parameters:
+     * @param deliveries [list of Event.Delivery objects]: content and signature of each received request
+     * @param executor [Executor]: executor that runs the verifications, besides the calling thread. ex: Executors.newFixedThreadPool(4)
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return Event.ParseResult object
+     * @throws Exception error in the public key request
+     */
+    public static ParseResult parseAll(List<Delivery> deliveries, Executor executor, User user) throws Exception {
+        return Event.parseAll(deliveries, executor, Runtime.getRuntime().availableProcessors(), user);
+    }
+
+    /**
+     * Create notification Events from a list of deliveries
+     * <p>
+     * Parse a batch of Event objects received from event listening at subscribed user endpoint,
+     * such as a backlog replayed from a queue. Signatures are verified by up to parallelism workers,
+     * the calling thread and parallelism - 1 tasks on the given executor, and the Stark Bank public
+     * key is looked up once for the whole batch. Deliveries that fail do not interrupt the others.
+     * <p>
+     * Parameters:
+     * @param deliveries [list of Event.Delivery objects]: content and signature of each received request
+     * @param executor [Executor]: executor that runs the verifications, besides the calling thread. ex: Executors.newFixedThreadPool(4)
+     * @param parallelism [integer]: maximum number of deliveries verified at once, the calling thread included. ex: 4
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return Event.ParseResult object
+     * @throws Exception error in the public key request
+     */
+    public static ParseResult parseAll(List<Delivery> deliveries, Executor executor, int parallelism, User user) throws Exception {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than 0");
+        }
+        int count = deliveries.size();
+        Event[] events = new Event[count];
+        Exception[] errors = new Exception[count];
+        boolean[] mismatched = new boolean[count];
+
+        PublicKeyCache.Keys publicKeys = Cache.starkBankPublicKeys.get(user);
+        List<Integer> indexes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            indexes.add(i);
+        }
+        parseEach(deliveries, indexes, publicKeys, executor, parallelism, events, errors, mismatched);
+
+        List<Integer> retries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            if (mismatched[i]) {
+                retries.add(i);
+            }
+        }
+        if (!retries.isEmpty()) {
+            PublicKeyCache.Keys refreshedKeys = Cache.starkBankPublicKeys.refresh(user, publicKeys);
+            if (refreshedKeys != publicKeys) {
+                parseEach(deliveries, retries, refreshedKeys, executor, parallelism, events, errors, mismatched);
+            }
+        }
+
+        List<Event> parsed = new ArrayList<>(count);
+        List<ParseFailure> failures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            if (mismatched[i]) {
+                errors[i] = new InvalidSignatureError("The provided signature and content do not match the Stark Bank public key");
+            }
+            if (errors[i] != null) {
+                failures.add(new ParseFailure(i, deliveries.get(i), errors[i]));
+            }
+            parsed.add(events[i]);
+        }
+        return new ParseResult(parsed, failures);
+    }
+
+    // each of the parallelism workers pulls the next delivery, the calling thread included
+    private static void parseEach(List<Delivery> deliveries, List<Integer> indexes, PublicKeyCache.Keys publicKeys,
+                                  Executor executor, int parallelism, Event[] events, Exception[] errors, boolean[] mismatched) {
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int position;
+            while ((position = next.getAndIncrement()) < indexes.size()) {
+                int index = indexes.get(position);
+                Delivery delivery = deliveries.get(index);
+                try {
+                    if (!verifySignature(ByteBuffer.wrap(delivery.content), signature(delivery.signature), publicKeys)) {
+                        mismatched[index] = true;
+                        continue;
+                    }
+                    mismatched[index] = false;
+                    events[index] = decode(delivery.content, 0, delivery.content.length);
+                } catch (Exception e) {
+                    errors[index] = e;
+                }
+            }
+        };
+
+        int workerCount = Math.min(parallelism, indexes.size());
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < workerCount - 1; i++) {
+            workers.add(CompletableFuture.runAsync(worker, executor));
+        }
+        worker.run();
+        CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0])).join();
     }
 
     public final static class Attempt extends Resource {
@@ -605,6 +1348,21 @@ public class Event extends Resource {
             return Attempt.get(id, null);
         }
 
+        /**
+         * Retrieve a specific Event.Attempt asynchronously
+         * <p>
+         * Receive a single Event.Attempt object previously created by the Stark Bank API by its id
+         * <p>
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Event.Attempt object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Attempt> getAsync(String id) throws Exception {
+            return Attempt.getAsync(id, null);
+        }
+
         /**
          * Retrieve a specific Event.Attempt
          * <p>
@@ -621,6 +1379,22 @@ public class Event extends Resource {
             return Rest.getId(data, id, user);
         }
 
+        /**
+         * Retrieve a specific Event.Attempt asynchronously
+         * <p>
+         * Receive a single Event.Attempt object previously created by the Stark Bank API by its id
+         * <p>
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * @param user [Organization/Project object, default None]: Organization or Project object. Not necessary if starkbank.user was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Event.Attempt object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Attempt> getAsync(String id, User user) throws Exception {
+            return Rest.getIdAsync(data, id, user);
+        }
+
         /**
          * Retrieve Attempts
          * <p>
@@ -728,6 +1502,31 @@ public class Event extends Resource {
             return page(params, null);
         }
 
+        /**
+         * Retrieve paged Attempts asynchronously
+         * <p>
+         * Receive a list of up to 100 Event.Attempt objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: datetime.date(2020, 3, 10)
+         * before [string, default null] date filter for objects created only before specified date. ex: datetime.date(2020, 3, 10)
+         * eventIds [list of strings, default null]: list of Event ids to filter attempts. ex: ["5656565656565656", "4545454545454545"]
+         * webhookIds [list of strings, default null]: list of Webhook ids to filter attempts. ex: ["5656565656565656", "4545454545454545"]
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Event.Attempt.Page object:
+         * Event.Attempt.Page.attempts: list of Event.Attempt objects with updated attributes
+         * Event.Attempt.Page.cursor: cursor to retrieve the next page of Attempt objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Attempt.Page> pageAsync(Map<String, Object> params) throws Exception {
+            return pageAsync(params, null);
+        }
+
         /**
          * Retrieve paged Attempts
          * <p>
@@ -747,6 +1546,25 @@ public class Event extends Resource {
             return page(new HashMap<>(), user);
         }
 
+        /**
+         * Retrieve paged Attempts asynchronously
+         * <p>
+         * Receive a list of up to 100 event.Attempt objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Event.Attempt.Page object:
+         * Event.Attempt.Page.attempts: list of Event.Attempt objects with updated attributes
+         * Event.Attempt.Page.cursor: cursor to retrieve the next page of Attempt objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Attempt.Page> pageAsync(User user) throws Exception {
+            return pageAsync(new HashMap<>(), user);
+        }
+
         /**
          * Retrieve paged Attempts
          * <p>
@@ -763,6 +1581,22 @@ public class Event extends Resource {
             return page(new HashMap<>(), null);
         }
 
+        /**
+         * Retrieve paged Attempts asynchronously
+         * <p>
+         * Receive a list of up to 100 event.Attempt objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Event.Attempt.Page object:
+         * Event.Attempt.Page.attempts: list of Event.Attempt objects with updated attributes
+         * Event.Attempt.Page.cursor: cursor to retrieve the next page of Attempt objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Attempt.Page> pageAsync() throws Exception {
+            return pageAsync(new HashMap<>(), null);
+        }
+
         /**
          * Retrieve paged Attempts
          * <p>
@@ -793,5 +1627,37 @@ public class Event extends Resource {
             }
             return new Attempt.Page(attempts, page.cursor);
         }
+
+        /**
+         * Retrieve paged Attempts asynchronously
+         * <p>
+         * Receive a list of up to 100 event.Attempt objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: datetime.date(2020, 3, 10)
+         * before [string, default null] date filter for objects created only before specified date. ex: datetime.date(2020, 3, 10)
+         * eventIds [list of strings, default null]: list of Event ids to filter attempts. ex: ["5656565656565656", "4545454545454545"]
+         * webhookIds [list of strings, default null]: list of Webhook ids to filter attempts. ex: ["5656565656565656", "4545454545454545"]
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Event.Attempt.Page object:
+         * Event.Attempt.Page.attempts: list of Event.Attempt objects with updated attributes
+         * Event.Attempt.Page.cursor: cursor to retrieve the next page of Attempt objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Attempt.Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+            return Rest.getPageAsync(data, params, user).thenApply(page -> {
+                List<Attempt> attempts = new ArrayList<>();
+                for (SubResource attempt: page.entities) {
+                    attempts.add((Attempt) attempt);
+                }
+                return new Attempt.Page(attempts, page.cursor);
+            });
+        }
     }
 }
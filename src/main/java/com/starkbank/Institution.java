@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class Institution extends SubResource {
 
@@ -128,6 +129,82 @@ public class Institution extends SubResource {
         return new Page(institutions, page.cursor).institutions;
     }
 
+    /**
+     * Retrieve Bacen Institutions asynchronously
+     * <p>
+     * Receive a list of Institution objects that are recognized by the Brazilian Central bank for Pix and TED transactions
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of Institution objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<Institution>> queryAsync() throws Exception {
+        return queryAsync(new HashMap<>(), null);
+    }
+
+    /**
+     * Retrieve Bacen Institutions asynchronously
+     * <p>
+     * Receive a list of Institution objects that are recognized by the Brazilian Central bank for Pix and TED transactions
+     * <p>
+     * Parameters:
+     * @param params map of parameters
+     * limit [integer, default null]: maximum number of objects to be retrieved. Unlimited if None. ex: 35
+     * search [string, default null]: part of the institution name to be searched. ex: "stark"
+     * spiCodes [list of strings, default null]: list of SPI (Pix) codes to be searched. ex: ["20018183"]
+     * strCodes [list of strings, default null]: list of STR (TED) codes to be searched. ex: ["260"]
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of Institution objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<Institution>> queryAsync(Map<String, Object> params) throws Exception {
+        return queryAsync(params, null);
+    }
+
+    /**
+     * Retrieve Bacen Institutions asynchronously
+     * <p>
+     * Receive a list of Institution objects that are recognized by the Brazilian Central bank for Pix and TED transactions
+     * <p>
+     * Parameters:
+     * @param user [Project object, default null]: Project object. Not necessary if StarkBank.Settings.user was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of Institution objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<Institution>> queryAsync(User user) throws Exception {
+        return queryAsync(new HashMap<>(), user);
+    }
+
+    /**
+     * Retrieve Bacen Institutions asynchronously
+     * <p>
+     * Receive a list of Institution objects that are recognized by the Brazilian Central bank for Pix and TED transactions
+     * <p>
+     * Parameters:
+     * @param params map of parameters
+     * limit [integer, default null]: maximum number of objects to be retrieved. Unlimited if None. ex: 35
+     * search [string, default null]: part of the institution name to be searched. ex: "stark"
+     * spiCodes [list of strings, default null]: list of SPI (Pix) codes to be searched. ex: ["20018183"]
+     * strCodes [list of strings, default null]: list of STR (TED) codes to be searched. ex: ["260"]
+     * @param user [Project object, default null]: Project object. Not necessary if StarkBank.Settings.user was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of Institution objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<Institution>> queryAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<Institution> institutions = new ArrayList<>();
+            for (SubResource institution: page.entities) {
+                institutions.add((Institution) institution);
+            }
+            return institutions;
+        });
+    }
+
     private final static class Page {
         public List<Institution> institutions;
         public String cursor;
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 public final class Invoice extends Resource {
@@ -267,6 +268,21 @@ public final class Invoice extends Resource {
         return Invoice.get(id, null);
     }
 
+    /**
+     * Retrieve a specific Invoice asynchronously
+     * <p>
+     * Receive a single Invoice object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * Return:
+     * @return CompletableFuture completed with Invoice object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Invoice> getAsync(String id) throws Exception {
+        return Invoice.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific Invoice
      * <p>
@@ -284,6 +300,23 @@ public final class Invoice extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific Invoice asynchronously
+     * <p>
+     * Receive a single Invoice object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * Return:
+     * @return CompletableFuture completed with Invoice object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Invoice> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Retrieve Invoices
      * <p>
@@ -397,6 +430,32 @@ public final class Invoice extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged Invoices asynchronously
+     * <p>
+     * Receive a list of up to 100 Invoice objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * status [string, default null]: filter for status of retrieved objects. ex: "created", "paid", "canceled" or "overdue"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Invoice.Page object:
+     * Invoice.Page.invoices: list of Invoice objects with updated attributes
+     * Invoice.Page.cursor: cursor to retrieve the next page of Invoice objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged Invoices
      * <p>
@@ -416,6 +475,25 @@ public final class Invoice extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged Invoices asynchronously
+     * <p>
+     * Receive a list of up to 100 Invoice objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Invoice.Page object:
+     * Invoice.Page.invoices: list of Invoice objects with updated attributes
+     * Invoice.Page.cursor: cursor to retrieve the next page of Invoice objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged Invoices
      * <p>
@@ -432,6 +510,22 @@ public final class Invoice extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged Invoices asynchronously
+     * <p>
+     * Receive a list of up to 100 Invoice objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Invoice.Page object:
+     * Invoice.Page.invoices: list of Invoice objects with updated attributes
+     * Invoice.Page.cursor: cursor to retrieve the next page of Invoice objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged Invoices
      * <p>
@@ -464,6 +558,39 @@ public final class Invoice extends Resource {
         return new Page(invoices, page.cursor);
     }
 
+    /**
+     * Retrieve paged Invoices asynchronously
+     * <p>
+     * Receive a list of up to 100 Invoice objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * status [string, default null]: filter for status of retrieved objects. ex: "created", "paid", "canceled" or "overdue"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Invoice.Page object:
+     * Invoice.Page.invoices: list of Invoice objects with updated attributes
+     * Invoice.Page.cursor: cursor to retrieve the next page of Invoice objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<Invoice> invoices = new ArrayList<>();
+            for (SubResource invoice: page.entities) {
+                invoices.add((Invoice) invoice);
+            }
+            return new Page(invoices, page.cursor);
+        });
+    }
+
     /**
      * Create Invoices
      * <p>
@@ -494,6 +621,36 @@ public final class Invoice extends Resource {
         return Rest.post(data, invoiceList, user);
     }
 
+    /**
+     * Create Invoices asynchronously
+     * <p>
+     * Send a list of Invoice objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param invoices  [list of Invoice objects or Maps]: list of Invoice objects to be created in the API
+     * @param user      [Project object]: Project object. Not necessary if StarkBank.Settings.user was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of Invoice objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<List<Invoice>> createAsync(List<?> invoices, User user) throws Exception {
+        List<Invoice> invoiceList = new ArrayList<>();
+        for (Object invoice : invoices){
+            if (invoice instanceof Map){
+                invoiceList.add(new Invoice((Map<String, Object>) invoice));
+                continue;
+            }
+            if (invoice instanceof Invoice){
+                invoiceList.add((Invoice) invoice);
+                continue;
+            }
+            throw new Exception("Unknown type \"" + invoice.getClass() + "\", use Invoice or HashMap");
+        }
+        return Rest.postAsync(data, invoiceList, user);
+    }
+
     /**
      * Create Invoices
      * <p>
@@ -510,6 +667,22 @@ public final class Invoice extends Resource {
         return Invoice.create(invoices, null);
     }
 
+    /**
+     * Create Invoices asynchronously
+     * <p>
+     * Send a list of Invoice objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param invoices [list of Invoice objects or Maps]: list of Invoice objects to be created in the API
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of Invoice objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<Invoice>> createAsync(List<?> invoices) throws Exception {
+        return Invoice.createAsync(invoices, null);
+    }
+
     /**
      * Update notification Invoice entity
      * <p>
@@ -531,6 +704,27 @@ public final class Invoice extends Resource {
         return Invoice.update(id, patchData, null);
     }
 
+    /**
+     * Update notification Invoice entity asynchronously
+     * <p>
+     * Update the Invoice by passing id.
+     * <p>
+     * Parameters:
+     * @param id        [string]: Invoice unique ids. ex: "5656565656565656"
+     * @param patchData map of parameters to patch
+     *                  status [string]: If the Invoice hasn't been paid yet, you may cancel it by passing "canceled" in the status
+     *                  amount [string]: If the Invoice hasn't been paid yet, you may update its amount by passing the desired amount integer
+     *                  due [string, default today + 2 days]: Invoice due date in UTC ISO format. ex: "2020-11-25T17:59:26.249976+00:00"
+     *                  expiration [number, default null]: time interval in seconds between due date and expiration date. ex 123456789
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Invoice object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Invoice> updateAsync(String id, Map<String, Object> patchData) throws Exception {
+        return Invoice.updateAsync(id, patchData, null);
+    }
+
     /**
      * Update notification Invoice entity
      * <p>
@@ -553,6 +747,28 @@ public final class Invoice extends Resource {
         return Rest.patch(data, id, patchData, user);
     }
 
+    /**
+     * Update notification Invoice entity asynchronously
+     * <p>
+     * Update notification Invoice by passing id.
+     * <p>
+     * Parameters:
+     * @param id        [string]: Invoice unique ids. ex: "5656565656565656"
+     * @param patchData map of properties to patch
+     *                  status [string]: If the Invoice hasn't been paid yet, you may cancel it by passing "canceled" in the status
+     *                  amount [string]: If the Invoice hasn't been paid yet, you may update its amount by passing the desired amount integer
+     *                  due [string, default today + 2 days]: Invoice due date in UTC ISO format. ex: "2020-11-25T17:59:26.249976+00:00"
+     *                  expiration [number, default null]: time interval in seconds between due date and expiration date. ex 123456789
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Invoice object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Invoice> updateAsync(String id, Map<String, Object> patchData, User user) throws Exception {
+        return Rest.patchAsync(data, id, patchData, user);
+    }
+
     /**
      * Retrieve a specific Invoice pdf file
      * <p>
@@ -569,6 +785,22 @@ public final class Invoice extends Resource {
         return Invoice.pdf(id, null);
     }
 
+    /**
+     * Retrieve a specific Invoice pdf file asynchronously
+     * <p>
+     * Receive a single Invoice pdf file generated in the Stark Bank API by passing its id.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Invoice pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id) throws Exception {
+        return Invoice.pdfAsync(id, null);
+    }
+
     /**
      * Retrieve a specific Invoice pdf file
      * <p>
@@ -586,6 +818,23 @@ public final class Invoice extends Resource {
         return Rest.getContent(data, id, "pdf", user, new HashMap<>());
     }
 
+    /**
+     * Retrieve a specific Invoice pdf file asynchronously
+     * <p>
+     * Receive a single Invoice pdf file generated in the Stark Bank API by passing its id.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Invoice pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id, User user) throws Exception {
+        return Rest.getContentAsync(data, id, "pdf", user, new HashMap<>());
+    }
+
     /**
      * Retrieve a specific Invoice QR Code file
      * <p>
@@ -602,6 +851,22 @@ public final class Invoice extends Resource {
         return Invoice.qrcode(id, null);
     }
 
+    /**
+     * Retrieve a specific Invoice QR Code file asynchronously
+     * <p>
+     * Receive a single Invoice QR Code png file generated in the Stark Bank API by passing its id.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Invoice pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> qrcodeAsync(String id) throws Exception {
+        return Invoice.qrcodeAsync(id, null);
+    }
+
     /**
      * Retrieve a specific Invoice QR Code file
      * <p>
@@ -619,6 +884,23 @@ public final class Invoice extends Resource {
         return Rest.getContent(data, id, "qrcode", user, new HashMap<>());
     }
 
+    /**
+     * Retrieve a specific Invoice QR Code file asynchronously
+     * <p>
+     * Receive a single Invoice QR Code png file generated in the Stark Bank API by passing its id.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Invoice pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> qrcodeAsync(String id, User user) throws Exception {
+        return Rest.getContentAsync(data, id, "qrcode", user, new HashMap<>());
+    }
+
     /**
      * Retrieve a specific Invoice payment information
      * <p>
@@ -635,6 +917,22 @@ public final class Invoice extends Resource {
         return payment(id, null);
     }
 
+    /**
+     * Retrieve a specific Invoice payment information asynchronously
+     * <p>
+     * Receive the Invoice.Payment sub-resource associated with a paid Invoice.
+     * <p>
+     * Parameters:
+     * @param id [string]: invoice unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Invoice.Payment sub-resource
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Payment> paymentAsync(String id) throws Exception {
+        return paymentAsync(id, null);
+    }
+
     /**
      * Retrieve a specific Invoice payment information
      * <p>
@@ -652,6 +950,23 @@ public final class Invoice extends Resource {
         return Rest.getSubResource(data, id, Payment.data, user, new HashMap<>());
     }
 
+    /**
+     * Retrieve a specific Invoice payment information asynchronously
+     * <p>
+     * Receive the Invoice.Payment sub-resource associated with a paid Invoice.
+     * <p>
+     * Parameters:
+     * @param id [string]: invoice unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Invoice.Payment sub-resource
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Payment> paymentAsync(String id, User user) throws Exception {
+        return Rest.getSubResourceAsync(data, id, Payment.data, user, new HashMap<>());
+    }
+
     /**
      * Invoice.Discount object
      * <p>
@@ -813,6 +1128,22 @@ public final class Invoice extends Resource {
             return Log.get(id, null);
         }
 
+        /**
+         * Retrieve a specific Invoice Log asynchronously
+         * <p>
+         * Receive a single Invoice Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Invoice Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id) throws Exception {
+            return Log.getAsync(id, null);
+        }
+
         /**
          * Retrieve a specific Invoice Log
          * <p>
@@ -830,6 +1161,23 @@ public final class Invoice extends Resource {
             return Rest.getId(data, id, user);
         }
 
+        /**
+         * Retrieve a specific Invoice Log asynchronously
+         * <p>
+         * Receive a single Invoice Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id    [string]: object unique id. ex: "5656565656565656"
+         * @param user  [Project object]: Project object. Not necessary if StarkBank.Settings.user was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Invoice Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id, User user) throws Exception {
+            return Rest.getIdAsync(data, id, user);
+        }
+
         /**
          * Retrieve Invoice Logs
          * <p>
@@ -941,6 +1289,31 @@ public final class Invoice extends Resource {
             return Log.page(params, null);
         }
 
+        /**
+         * Retrieve paged Invoice.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Invoice.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter for log event types. ex: "created", "paid", "canceled" or "overdue"
+         * invoiceIds [list of strings, default null]: list of Invoice ids to filter logs. ex: ["5656565656565656", "4545454545454545"]
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Invoice.Log.Page object:
+         * Invoice.Log.Page.logs: list of Invoice.Log objects with updated attributes
+         * Invoice.Log.Page.cursor: cursor to retrieve the next page of Invoice.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params) throws Exception {
+            return Log.pageAsync(params, null);
+        }
+
         /**
          * Retrieve paged Invoice.Logs
          * <p>
@@ -960,6 +1333,25 @@ public final class Invoice extends Resource {
             return Log.page(new HashMap<>(), user);
         }
 
+        /**
+         * Retrieve paged Invoice.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Invoice.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Invoice.Log.Page object:
+         * Invoice.Log.Page.logs: list of Invoice.Log objects with updated attributes
+         * Invoice.Log.Page.cursor: cursor to retrieve the next page of Invoice.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(User user) throws Exception {
+            return Log.pageAsync(new HashMap<>(), user);
+        }
+
         /**
          * Retrieve paged Invoice.Logs
          * <p>
@@ -976,6 +1368,22 @@ public final class Invoice extends Resource {
             return Log.page(new HashMap<>(), null);
         }
 
+        /**
+         * Retrieve paged Invoice.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Invoice.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Invoice.Log.Page object:
+         * Invoice.Log.Page.logs: list of Invoice.Log objects with updated attributes
+         * Invoice.Log.Page.cursor: cursor to retrieve the next page of Invoice.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync() throws Exception {
+            return Log.pageAsync(new HashMap<>(), null);
+        }
+
         /**
          * Retrieve paged Invoice.Logs
          * <p>
@@ -1007,6 +1415,38 @@ public final class Invoice extends Resource {
             return new Log.Page(logs, page.cursor);
         }
 
+        /**
+         * Retrieve paged Invoice.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Invoice.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter for log event types. ex: "created", "paid", "canceled" or "overdue"
+         * invoiceIds [list of strings, default null]: list of Invoice ids to filter logs. ex: ["5656565656565656", "4545454545454545"]
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Invoice.Log.Page object:
+         * Invoice.Log.Page.logs: list of Invoice.Log objects with updated attributes
+         * Invoice.Log.Page.cursor: cursor to retrieve the next page of Invoice.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+            return Rest.getPageAsync(data, params, user).thenApply(page -> {
+                List<Log> logs = new ArrayList<>();
+                for (SubResource log: page.entities) {
+                    logs.add((Log) log);
+                }
+                return new Log.Page(logs, page.cursor);
+            });
+        }
+
         /**
          * Retrieve a specific Invoice.Log pdf file
          * <p>
@@ -1023,6 +1463,22 @@ public final class Invoice extends Resource {
             return pdf(id, null);
         }
 
+        /**
+         * Retrieve a specific Invoice.Log pdf file asynchronously
+         * <p>
+         * Receive a single Invoice.Log pdf file generated in the Stark Bank API by passing its id.
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Invoice.Log pdf file
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<InputStream> pdfAsync(String id) throws Exception {
+            return pdfAsync(id, null);
+        }
+
         /**
          * Retrieve a specific Invoice.Log pdf file
          * <p>
@@ -1039,5 +1495,22 @@ public final class Invoice extends Resource {
         public static InputStream pdf(String id, User user) throws Exception {
             return Rest.getContent(data, id, "pdf", user, new HashMap<>());
         }
+
+        /**
+         * Retrieve a specific Invoice.Log pdf file asynchronously
+         * <p>
+         * Receive a single Invoice.Log pdf file generated in the Stark Bank API by passing its id.
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Invoice.Log pdf file
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<InputStream> pdfAsync(String id, User user) throws Exception {
+            return Rest.getContentAsync(data, id, "pdf", user, new HashMap<>());
+        }
     }
 }
@@ -68,6 +68,11 @@ public final class Organization extends User{
         this.workspaceId = workspaceId;
     }
 
+    private Organization(Organization organization, String workspaceId) {
+        super(organization);
+        this.workspaceId = workspaceId;
+    }
+
     public String accessId() {
         if (this.workspaceId != null)
             return "organization/" + this.id + "/workspace/" + this.workspaceId;
@@ -75,12 +80,7 @@ public final class Organization extends User{
     }
 
     public static Organization replace(Organization organization, String workspaceId) throws Exception {
-        return new Organization(
-            organization.environment,
-            organization.id,
-            organization.pem,
-            workspaceId
-        );
+        return new Organization(organization, workspaceId);
     }
 
 }
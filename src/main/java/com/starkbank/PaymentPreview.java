@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class PaymentPreview extends Resource {
     /**
@@ -99,6 +100,22 @@ public class PaymentPreview extends Resource {
         return PaymentPreview.create(previews, null);
     }
 
+    /**
+     * Create Boletos asynchronously
+     * <p>
+     * Send a list of PaymentPreviews objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param previews [list of PaymentPreviews objects]: list of PaymentPreviews objects to be created in the API
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of PaymentPreviews objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<?>> createAsync(List<?> previews) throws Exception {
+        return PaymentPreview.createAsync(previews, null);
+    }
+
     /**
      * Create Boletos
      * <p>
@@ -128,4 +145,34 @@ public class PaymentPreview extends Resource {
         }
         return Rest.post(data, previewList, user);
     }
+
+    /**
+     * Create Boletos asynchronously
+     * <p>
+     * Send a list of PaymentPreviews objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param previews [list of PaymentPreviews objects]: list of PaymentPreviews objects to be created in the API
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of PaymentPreviews objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<List<?>> createAsync(List<?> previews, User user) throws Exception {
+        List<PaymentPreview> previewList = new ArrayList<>();
+        for (Object preview : previews){
+            if (preview instanceof Map){
+                previewList.add(new PaymentPreview((Map<String, Object>) preview));
+                continue;
+            }
+            if (preview instanceof PaymentPreview){
+                previewList.add((PaymentPreview) preview);
+                continue;
+            }
+            throw new Exception("Unknown type \"" + preview.getClass() + "\", use PaymentPreview or HashMap");
+        }
+        return Rest.postAsync(data, previewList, user).thenApply(createdPreviews -> createdPreviews);
+    }
 }
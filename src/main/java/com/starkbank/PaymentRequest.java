@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 public final class PaymentRequest extends Resource {
@@ -143,33 +144,36 @@ public final class PaymentRequest extends Resource {
 
     @SuppressWarnings("unchecked")
     public static class Deserializer implements JsonDeserializer<PaymentRequest> {
+        // without this Deserializer registered, so that it does not call itself back
+        private static final Gson gson = new Gson();
+
         @Override
         public PaymentRequest deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext ctw) throws JsonParseException {
             JsonElement resourceElement = json.getAsJsonObject().get("payment");
             json.getAsJsonObject().remove("payment");
-            PaymentRequest request = new Gson().fromJson(json, PaymentRequest.class);
+            PaymentRequest request = gson.fromJson(json, PaymentRequest.class);
             Resource resource = null;
             switch (request.type) {
                 case "transfer":
-                    resource = new Gson().fromJson(resourceElement, Transfer.class);
+                    resource = gson.fromJson(resourceElement, Transfer.class);
                     break;
                 case "transaction":
-                    resource = new Gson().fromJson(resourceElement, Transaction.class);
+                    resource = gson.fromJson(resourceElement, Transaction.class);
                     break;
                 case "boleto-payment":
-                    resource = new Gson().fromJson(resourceElement, BoletoPayment.class);
+                    resource = gson.fromJson(resourceElement, BoletoPayment.class);
                     break;
                 case "utility-payment":
-                    resource = new Gson().fromJson(resourceElement, UtilityPayment.class);
+                    resource = gson.fromJson(resourceElement, UtilityPayment.class);
                     break;
                 case "tax-payment":
-                    resource = new Gson().fromJson(resourceElement, TaxPayment.class);
+                    resource = gson.fromJson(resourceElement, TaxPayment.class);
                     break;
                 case "darf-payment":
-                    resource = new Gson().fromJson(resourceElement, DarfPayment.class);
+                    resource = gson.fromJson(resourceElement, DarfPayment.class);
                     break;
                 case "brcode-payment":
-                    resource = new Gson().fromJson(resourceElement, BrcodePayment.class);
+                    resource = gson.fromJson(resourceElement, BrcodePayment.class);
                     break;
                 default:
                     break;
@@ -178,7 +182,7 @@ public final class PaymentRequest extends Resource {
             request.payment = resource;
 
             resourceElement = json.getAsJsonObject().get("actions");
-            for (LinkedTreeMap<Object, Object> action : (List<LinkedTreeMap<Object, Object>>) new Gson().fromJson(resourceElement, List.class)){
+            for (LinkedTreeMap<Object, Object> action : (List<LinkedTreeMap<Object, Object>>) gson.fromJson(resourceElement, List.class)){
                 request.actions.add(new PaymentRequest.Action(
                     (String) action.get("name"),
                     (String) action.get("action"),
@@ -310,6 +314,34 @@ public final class PaymentRequest extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged PaymentRequests asynchronously
+     * <p>
+     * Receive a list of up to 100 PaymentRequest objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * sort [string, default "-created"]: sort order considered in response. Valid options are "-created" or "-due".
+     * status [string, default null]: filter for status of retrieved objects. ex: "success" or "failed"
+     * type [string, default null]: payment type, inferred from the payment parameter if it is not a map. ex: "transfer", "boleto-payment"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with PaymentRequest.Page object:
+     * PaymentRequest.Page.requests: list of PaymentRequest objects with updated attributes
+     * PaymentRequest.Page.cursor: cursor to retrieve the next page of PaymentRequest objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged PaymentRequests
      * <p>
@@ -329,6 +361,25 @@ public final class PaymentRequest extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged PaymentRequests asynchronously
+     * <p>
+     * Receive a list of up to 100 PaymentRequest objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with PaymentRequest.Page object:
+     * PaymentRequest.Page.requests: list of PaymentRequest objects with updated attributes
+     * PaymentRequest.Page.cursor: cursor to retrieve the next page of PaymentRequest objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged PaymentRequests
      * <p>
@@ -345,6 +396,22 @@ public final class PaymentRequest extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged PaymentRequests asynchronously
+     * <p>
+     * Receive a list of up to 100 PaymentRequest objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with PaymentRequest.Page object:
+     * PaymentRequest.Page.requests: list of PaymentRequest objects with updated attributes
+     * PaymentRequest.Page.cursor: cursor to retrieve the next page of PaymentRequest objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged PaymentRequests
      * <p>
@@ -379,6 +446,41 @@ public final class PaymentRequest extends Resource {
         return new Page(requests, page.cursor);
     }
 
+    /**
+     * Retrieve paged PaymentRequests asynchronously
+     * <p>
+     * Receive a list of up to 100 PaymentRequest objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * sort [string, default "-created"]: sort order considered in response. Valid options are "-created" or "-due".
+     * status [string, default null]: filter for status of retrieved objects. ex: "success" or "failed"
+     * type [string, default null]: payment type, inferred from the payment parameter if it is not a map. ex: "transfer", "boleto-payment"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with PaymentRequest.Page object:
+     * PaymentRequest.Page.requests: list of PaymentRequest objects with updated attributes
+     * PaymentRequest.Page.cursor: cursor to retrieve the next page of PaymentRequest objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<PaymentRequest> requests = new ArrayList<>();
+            for (SubResource request: page.entities) {
+                requests.add((PaymentRequest) request);
+            }
+            return new Page(requests, page.cursor);
+        });
+    }
+
     /**
      * Create paymentRequests
      * Sends a list of PaymentRequests objects for creation in the Stark Bank API
@@ -407,6 +509,34 @@ public final class PaymentRequest extends Resource {
         return Rest.post(data, paymentRequestList, user);
     }
 
+    /**
+     * Create paymentRequests asynchronously
+     * Sends a list of PaymentRequests objects for creation in the Stark Bank API
+     *
+     * Parameters (required):
+     * @param paymentRequests [list of PaymentRequest objects]: list of PaymentRequest objects to be created in the API
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * @return CompletableFuture completed with list of PaymentRequest objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<List<PaymentRequest>> createAsync(List<?> paymentRequests, User user) throws Exception {
+        List<PaymentRequest> paymentRequestList = new ArrayList<>();
+        for(Object paymentRequest : paymentRequests) {
+            if(paymentRequest.getClass() == HashMap.class) {
+                paymentRequestList.add(new PaymentRequest((Map<String, Object>) paymentRequest));
+                continue;
+            }
+            if(paymentRequest.getClass() == PaymentRequest.class) {
+                paymentRequestList.add((PaymentRequest) paymentRequest);
+                continue;
+            }
+            throw new Exception("Unknown type \"" + paymentRequest.getClass() + "\", use PaymentRequest or HashMap.");
+        }
+
+        return Rest.postAsync(data, paymentRequestList, user);
+    }
+
     /**
      * Create paymentRequests
      * Sends a list of PaymentRequests objects for creation in the Stark Bank API
@@ -434,6 +564,33 @@ public final class PaymentRequest extends Resource {
         return Rest.post(data, paymentRequestList, null);
     }
 
+    /**
+     * Create paymentRequests asynchronously
+     * Sends a list of PaymentRequests objects for creation in the Stark Bank API
+     *
+     * Parameters (required):
+     * @param paymentRequests [list of PaymentRequest objects]: list of PaymentRequest objects to be created in the API
+     * @return CompletableFuture completed with list of PaymentRequest objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<List<PaymentRequest>> createAsync(List<?> paymentRequests) throws Exception {
+        List<PaymentRequest> paymentRequestList = new ArrayList<>();
+        for(Object paymentRequest : paymentRequests) {
+            if(paymentRequest.getClass() == HashMap.class) {
+                paymentRequestList.add(new PaymentRequest((Map<String, Object>) paymentRequest));
+                continue;
+            }
+            if(paymentRequest.getClass() == PaymentRequest.class) {
+                paymentRequestList.add((PaymentRequest) paymentRequest);
+                continue;
+            }
+            throw new Exception("Unknown type \"" + paymentRequest.getClass() + "\", use PaymentRequest or HashMap.");
+        }
+
+        return Rest.postAsync(data, paymentRequestList, null);
+    }
+
     private static String getType(Resource payment) throws Exception{
         if(payment instanceof Transfer)
             return "transfer";
@@ -26,6 +26,10 @@ public final class Project extends User {
         super(environment, id, privateKey);
     }
 
+    Project(Project project) {
+        super(project);
+    }
+
     public String accessId() {
         return "project/" + this.id;
     }
@@ -0,0 +1,202 @@
+package com.starkbank;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.starkbank.ellipticcurve.PublicKey;
+import com.starkbank.utils.Check;
+import com.starkbank.utils.GsonEvent;
+import com.starkbank.utils.Response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+
+/**
+ * Cache of the Stark Bank public keys used to verify webhook signatures, per environment.
+ *
+ * Keys are reused for ttl milliseconds. Only one request to /public-key is made at a time for
+ * each environment, and concurrent callers wait for its result. A refresh requested because a
+ * signature did not verify is only made if the keys were not fetched in the last refreshInterval
+ * milliseconds, so a burst of forged or malformed webhooks cannot flood the API. Failed fetches
+ * are throttled the same way, and expired keys keep being used while the API cannot be reached.
+ *
+ * When a fetch returns a new key, the previous one is still accepted for rotationGrace
+ * milliseconds, so that events signed right before a key rotation are not rejected.
+ */
+final class PublicKeyCache {
+
+    private final long ttl;
+    private final long refreshInterval;
+    private final long rotationGrace;
+    private final ConcurrentHashMap<String, State> states = new ConcurrentHashMap<>();
+
+    PublicKeyCache(long ttl, long refreshInterval, long rotationGrace) {
+        this.ttl = ttl;
+        this.refreshInterval = refreshInterval;
+        this.rotationGrace = rotationGrace;
+    }
+
+    static final class Keys {
+        final List<PublicKey> keys;
+        final List<String> pems;
+        final List<Long> retiredAt;
+        final long fetchedAt;
+
+        Keys(List<PublicKey> keys, List<String> pems, List<Long> retiredAt, long fetchedAt) {
+            this.keys = Collections.unmodifiableList(keys);
+            this.pems = pems;
+            this.retiredAt = retiredAt;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+
+    private static final class State {
+        Keys keys;
+        Exception error;
+        long attemptedAt;
+        CompletableFuture<Keys> loading;
+    }
+
+    /**
+     * Keys currently accepted for the user's environment, fetching them if missing or expired.
+     */
+    Keys get(User user) throws Exception {
+        user = Check.user(user);
+        State state = states.computeIfAbsent(user.environment, environment -> new State());
+        Keys keys;
+        synchronized (state) {
+            keys = state.keys;
+        }
+        if (keys != null && System.currentTimeMillis() - keys.fetchedAt < ttl) {
+            return keys;
+        }
+        return load(state, user, keys);
+    }
+
+    /**
+     * Keys to retry a verification that failed with the given keys. Returns the same keys if a
+     * refresh is not allowed yet.
+     */
+    Keys refresh(User user, Keys failed) throws Exception {
+        user = Check.user(user);
+        State state = states.computeIfAbsent(user.environment, environment -> new State());
+        synchronized (state) {
+            if (state.keys != failed && state.keys != null) {
+                return state.keys;
+            }
+            if (System.currentTimeMillis() - state.attemptedAt < refreshInterval) {
+                return failed;
+            }
+        }
+        return load(state, user, failed);
+    }
+
+    /**
+     * Use the given key for the environment as if it had just been fetched.
+     */
+    void put(String environment, String pem) {
+        State state = states.computeIfAbsent(environment, key -> new State());
+        synchronized (state) {
+            state.keys = merge(state.keys, pem);
+            state.error = null;
+            state.attemptedAt = state.keys.fetchedAt;
+        }
+    }
+
+    private Keys load(State state, User user, Keys previous) throws Exception {
+        CompletableFuture<Keys> loading;
+        boolean owner = false;
+        synchronized (state) {
+            if (state.keys != previous && state.keys != null) {
+                return state.keys;
+            }
+            if (state.loading == null) {
+                if (state.error != null && System.currentTimeMillis() - state.attemptedAt < refreshInterval) {
+                    if (previous != null) {
+                        return previous;
+                    }
+                    throw state.error;
+                }
+                state.loading = new CompletableFuture<>();
+                owner = true;
+            }
+            loading = state.loading;
+        }
+        if (owner) {
+            try {
+                Keys keys = merge(previous, fetch(user));
+                synchronized (state) {
+                    state.keys = keys;
+                    state.error = null;
+                    state.attemptedAt = keys.fetchedAt;
+                    state.loading = null;
+                }
+                loading.complete(keys);
+            } catch (Exception e) {
+                synchronized (state) {
+                    state.error = e;
+                    state.attemptedAt = System.currentTimeMillis();
+                    state.loading = null;
+                }
+                if (previous != null) {
+                    loading.complete(previous);
+                } else {
+                    loading.completeExceptionally(e);
+                }
+            }
+        }
+        try {
+            return loading.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // the newest key comes first, followed by previously seen keys that are still within rotationGrace
+    private Keys merge(Keys previous, String pem) {
+        long now = System.currentTimeMillis();
+        List<PublicKey> keys = new ArrayList<>();
+        List<String> pems = new ArrayList<>();
+        List<Long> retiredAt = new ArrayList<>();
+        keys.add(PublicKey.fromPem(pem));
+        pems.add(pem);
+        retiredAt.add(null);
+        if (previous != null) {
+            for (int i = 0; i < previous.pems.size(); i++) {
+                if (previous.pems.get(i).equals(pem)) {
+                    continue;
+                }
+                Long retired = previous.retiredAt.get(i) != null ? previous.retiredAt.get(i) : now;
+                if (now - retired < rotationGrace) {
+                    keys.add(previous.keys.get(i));
+                    pems.add(previous.pems.get(i));
+                    retiredAt.add(retired);
+                }
+            }
+        }
+        return new Keys(keys, pems, retiredAt, now);
+    }
+
+    private static String fetch(User user) throws Exception {
+        HashMap<String, Object> query = new HashMap<>();
+        query.put("limit", "1");
+        String content = Response.fetch(
+                "/public-key",
+                "GET",
+                null,
+                query,
+                user
+        ).content();
+        JsonObject contentJson = GsonEvent.getInstance().fromJson(content, JsonObject.class);
+        JsonArray publicKeys = contentJson.get("publicKeys").getAsJsonArray();
+        return publicKeys.get(0).getAsJsonObject().get("content").getAsString();
+    }
+}
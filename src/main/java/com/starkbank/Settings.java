@@ -1,8 +1,19 @@
 package com.starkbank;
 
+import com.starkbank.utils.MetricsListener;
+import com.starkbank.utils.RequestSigner;
+import com.starkbank.utils.RateLimit;
+import com.starkbank.utils.RetryPolicy;
+import com.starkbank.utils.Secp256k1Signer;
 
 public abstract class Settings{
     public static User user = null;
     public static String userAgentOverride = null;
     public static String language = "en-US";
+    public static int queryPrefetch = 0;
+    public static RequestSigner signer = new Secp256k1Signer();
+    public static RetryPolicy retryPolicy = new RetryPolicy();
+    public static RateLimit rateLimit = null;
+    public static boolean virtualThreads = false;
+    public static MetricsListener metricsListener = null;
 }
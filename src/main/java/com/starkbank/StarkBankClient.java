@@ -0,0 +1,205 @@
+package com.starkbank;
+
+import com.starkbank.utils.Check;
+import com.starkbank.utils.HttpClient;
+import com.starkbank.utils.MetricsListener;
+import com.starkbank.utils.RateLimit;
+import com.starkbank.utils.RequestSigner;
+import com.starkbank.utils.Response;
+import com.starkbank.utils.RetryPolicy;
+import com.starkbank.utils.Secp256k1Signer;
+
+
+public final class StarkBankClient {
+    public final String environment;
+    public final String language;
+    public final String userAgent;
+    public final RequestSigner signer;
+    public final RetryPolicy retryPolicy;
+    public final RateLimit rateLimit;
+    public final MetricsListener metricsListener;
+    private final User user;
+
+    /**
+     * StarkBankClient.Config object
+     * <p>
+     * Settings of a StarkBankClient. Unset attributes are taken from the user and from Settings
+     * when the client is created. The client keeps its own copies of the RetryPolicy and RateLimit,
+     * so later changes to the config, the user or Settings do not affect it.
+     * <p>
+     * Attributes:
+     * language [string, default user.language or Settings.language]: language of the API error messages. ex: "en-US" or "pt-BR"
+     * userAgent [string, default user.userAgent, Settings.userAgentOverride or the SDK User-Agent]: User-Agent header sent with the requests. ex: "my-service/1.0"
+     * signer [RequestSigner object, default user.signer, Settings.signer or a new Secp256k1Signer]: signer of the requests. ex: new Secp256k1Signer()
+     * retryPolicy [RetryPolicy object, default user.retryPolicy, Settings.retryPolicy or RetryPolicy.none()]: retry policy of the requests. ex: RetryPolicy.none()
+     * rateLimit [RateLimit object, default user.rateLimit, Settings.rateLimit or no limit]: request rate limit of the client. ex: new RateLimit()
+     * metricsListener [MetricsListener object, default user.metricsListener, Settings.metricsListener or MetricsListener.none()]: receiver of the metrics of each request. ex: new LatencyRecorder()
+     * httpClient [HttpClient.Config object, default null]: settings of an HTTP client dedicated to this StarkBankClient. If null, the HTTP client of the environment is shared. ex: new HttpClient.Config()
+     */
+    public static final class Config {
+        public String language = null;
+        public String userAgent = null;
+        public RequestSigner signer = null;
+        public RetryPolicy retryPolicy = null;
+        public RateLimit rateLimit = null;
+        public MetricsListener metricsListener = null;
+        public HttpClient.Config httpClient = null;
+
+        public Config() {}
+    }
+
+    /**
+     * StarkBankClient object
+     * <p>
+     * Client that makes every request with its own user, language, User-Agent, signer,
+     * retry policy, rate limit, metrics listener and, optionally, its own HTTP client, all resolved
+     * when it is created instead of read from Settings on each request. Clients of different users
+     * can be used concurrently in the same JVM without changing Settings.
+     * <p>
+     * The retryPolicy and rateLimit attributes are copies: changing them does not affect the client.
+     * <p>
+     * Resource functions are called through call(), which passes them the user bound to this client.
+     * ex: client.call(user -> Transfer.create(transfers, user))
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: user of the requests. It is copied, so later changes to it do not affect the client
+     * @param config [StarkBankClient.Config object]: settings of the client. ex: new StarkBankClient.Config()
+     * @throws Exception invalid language or user
+     */
+    public StarkBankClient(User user, Config config) throws Exception {
+        if (user == null) {
+            throw new IllegalArgumentException("a user is required to create a StarkBankClient");
+        }
+        if (config == null) {
+            config = new Config();
+        }
+        User bound = copy(user);
+        this.environment = bound.environment;
+        this.language = Check.language(first(config.language, user.language, Settings.language));
+        this.userAgent = first(config.userAgent, user.userAgent, Settings.userAgentOverride, Response.defaultUserAgent());
+        this.signer = first(config.signer, user.signer, Settings.signer, new Secp256k1Signer());
+        this.retryPolicy = copy(first(config.retryPolicy, user.retryPolicy, Settings.retryPolicy, RetryPolicy.none()));
+        this.rateLimit = copy(first(config.rateLimit, user.rateLimit, Settings.rateLimit, new RateLimit()));
+        this.metricsListener = first(config.metricsListener, user.metricsListener, Settings.metricsListener, MetricsListener.none());
+
+        bound.language = this.language;
+        bound.userAgent = this.userAgent;
+        bound.signer = this.signer;
+        bound.retryPolicy = copy(this.retryPolicy);
+        bound.rateLimit = copy(this.rateLimit);
+        bound.metricsListener = this.metricsListener;
+        if (config.httpClient != null) {
+            bound.httpClient = HttpClient.newInstance(bound.environment, config.httpClient);
+        }
+        this.user = bound;
+    }
+
+    /**
+     * StarkBankClient object
+     * <p>
+     * Client that makes every request with its own user and with the Settings in effect
+     * when it is created.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: user of the requests. It is copied, so later changes to it do not affect the client
+     * @throws Exception invalid language or user
+     */
+    public StarkBankClient(User user) throws Exception {
+        this(user, null);
+    }
+
+    public interface Operation<T> {
+        T call(User user) throws Exception;
+    }
+
+    /**
+     * Call a resource function with this client
+     * <p>
+     * Each call receives a new copy of the user bound to this client, so replacing its attributes
+     * inside the function does not affect later calls.
+     * <p>
+     * Parameters:
+     * @param operation [lambda]: resource function to be called with the user bound to this client. ex: user -> Balance.get(user)
+     * <p>
+     * Return:
+     * @return value returned by the function, such as a created entity, a Generator or a CompletableFuture
+     * @throws Exception error in the request
+     */
+    public <T> T call(Operation<T> operation) throws Exception {
+        return operation.call(copy(user));
+    }
+
+    /**
+     * Client for a Workspace of the same Organization
+     * <p>
+     * Parameters:
+     * @param workspaceId [string]: unique id of the Workspace accessed by the new client. ex: "4848484848484848"
+     * <p>
+     * Return:
+     * @return StarkBankClient object with the same settings and HTTP client, accessing the given Workspace
+     * @throws Exception the client user is not an Organization
+     */
+    public StarkBankClient withWorkspace(String workspaceId) throws Exception {
+        if (!(user instanceof Organization)) {
+            throw new IllegalArgumentException("only Organization clients can access other Workspaces");
+        }
+        User bound = Organization.replace((Organization) user, workspaceId);
+        bound.retryPolicy = copy(retryPolicy);
+        bound.rateLimit = copy(rateLimit);
+        return new StarkBankClient(this, bound);
+    }
+
+    private StarkBankClient(StarkBankClient client, User user) {
+        this.environment = client.environment;
+        this.language = client.language;
+        this.userAgent = client.userAgent;
+        this.signer = client.signer;
+        this.retryPolicy = client.retryPolicy;
+        this.rateLimit = client.rateLimit;
+        this.metricsListener = client.metricsListener;
+        this.user = user;
+    }
+
+    private static User copy(User user) throws Exception {
+        if (user instanceof Project) {
+            return new Project((Project) user);
+        }
+        if (user instanceof Organization) {
+            return Organization.replace((Organization) user, ((Organization) user).workspaceId);
+        }
+        throw new IllegalArgumentException("StarkBankClient users must be Projects or Organizations");
+    }
+
+    private static RetryPolicy copy(RetryPolicy policy) {
+        RetryPolicy copy = new RetryPolicy();
+        copy.maxAttempts = policy.maxAttempts;
+        copy.baseDelay = policy.baseDelay;
+        copy.maxDelay = policy.maxDelay;
+        copy.budgetRatio = policy.budgetRatio;
+        copy.budgetCapacity = policy.budgetCapacity;
+        return copy;
+    }
+
+    private static RateLimit copy(RateLimit limit) {
+        RateLimit copy = new RateLimit();
+        copy.requestsPerSecond = limit.requestsPerSecond;
+        copy.burst = limit.burst;
+        copy.maxInFlight = limit.maxInFlight;
+        copy.maxBulkInFlight = limit.maxBulkInFlight;
+        return copy;
+    }
+
+    @SafeVarargs
+    private static <T> T first(T... values) {
+        for (T value : values) {
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    public String toString() {
+        return "StarkBankClient(environment=" + environment + ", accessId=" + user.accessId() + ", language=" + language + ")";
+    }
+}
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 public final class TaxPayment extends Resource {
@@ -132,6 +133,21 @@ public final class TaxPayment extends Resource {
         return TaxPayment.create(payments, null);
     }
 
+    /**
+     * Create TaxPayments asynchronously
+     * <p>
+     * Send a list of TaxPayment objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param payments [list of TaxPayment objects or HashMaps]: list of TaxPayment objects to be created in the API
+     * Return:
+     * @return CompletableFuture completed with list of TaxPayment objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<TaxPayment>> createAsync(List<?> payments) throws Exception {
+        return TaxPayment.createAsync(payments, null);
+    }
+
     /**
      * Create TaxPayments
      * <p>
@@ -145,6 +161,27 @@ public final class TaxPayment extends Resource {
      * @throws Exception error in the request
      */
     public static List<TaxPayment> create(List<?> payments, User user) throws Exception {
+        return Rest.post(data, parse(payments), user);
+    }
+
+    /**
+     * Create TaxPayments asynchronously
+     * <p>
+     * Send a list of TaxPayment objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param payments [list of TaxPayment objects or HashMaps]: list of TaxPayment objects to be created in the API
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * Return:
+     * @return CompletableFuture completed with list of TaxPayment objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<TaxPayment>> createAsync(List<?> payments, User user) throws Exception {
+        return Rest.postAsync(data, parse(payments), user);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<TaxPayment> parse(List<?> payments) throws Exception {
         List<TaxPayment> paymentList = new ArrayList<>();
         for (Object payment : payments) {
             if (payment instanceof Map) {
@@ -157,7 +194,7 @@ public final class TaxPayment extends Resource {
             }
             throw new Exception("Unknown type \"" + payment.getClass() + "\", use TaxPayment or HashMap");
         }
-        return Rest.post(data, paymentList, user);
+        return paymentList;
     }
 
     /**
@@ -176,6 +213,22 @@ public final class TaxPayment extends Resource {
         return TaxPayment.get(id, null);
     }
 
+    /**
+     * Retrieve a specific TaxPayment asynchronously
+     * <p>
+     * Receive a single TaxPayment object previously created by the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with TaxPayment object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<TaxPayment> getAsync(String id) throws Exception {
+        return TaxPayment.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific TaxPayment
      * <p>
@@ -193,6 +246,23 @@ public final class TaxPayment extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific TaxPayment asynchronously
+     * <p>
+     * Receive a single TaxPayment object previously created by the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with TaxPayment object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<TaxPayment> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Retrieve a specific TaxPayment pdf file
      * <p>
@@ -210,6 +280,23 @@ public final class TaxPayment extends Resource {
         return TaxPayment.pdf(id, null);
     }
 
+    /**
+     * Retrieve a specific TaxPayment pdf file asynchronously
+     * <p>
+     * Receive a single TaxPayment pdf file generated in the Stark Bank API by passing its id.
+     * Only valid for tax payments with "success" status.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with TaxPayment pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id) throws Exception {
+        return TaxPayment.pdfAsync(id, null);
+    }
+
     /**
      * Retrieve a specific TaxPayment pdf file
      * <p>
@@ -228,6 +315,24 @@ public final class TaxPayment extends Resource {
         return Rest.getContent(data, id, "pdf", user, null);
     }
 
+    /**
+     * Retrieve a specific TaxPayment pdf file asynchronously
+     * <p>
+     * Receive a single TaxPayment pdf file generated in the Stark Bank API by passing its id.
+     * Only valid for tax payments with "success" status.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with TaxPayment pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id, User user) throws Exception {
+        return Rest.getContentAsync(data, id, "pdf", user, null);
+    }
+
 
     /**
      * Retrieve TaxPayments
@@ -343,6 +448,32 @@ public final class TaxPayment extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged TaxPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 TaxPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * status [string, default null]: filter for status of retrieved objects. ex: "success"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with TaxPayment.Page object:
+     * TaxPayment.Page.payments: list of TaxPayment objects with updated attributes
+     * TaxPayment.Page.cursor: cursor to retrieve the next page of TaxPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged TaxPayments
      * <p>
@@ -362,6 +493,25 @@ public final class TaxPayment extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged TaxPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 TaxPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with TaxPayment.Page object:
+     * TaxPayment.Page.payments: list of TaxPayment objects with updated attributes
+     * TaxPayment.Page.cursor: cursor to retrieve the next page of TaxPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged TaxPayments
      * <p>
@@ -378,6 +528,22 @@ public final class TaxPayment extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged TaxPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 TaxPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with TaxPayment.Page object:
+     * TaxPayment.Page.payments: list of TaxPayment objects with updated attributes
+     * TaxPayment.Page.cursor: cursor to retrieve the next page of TaxPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged TaxPayments
      * <p>
@@ -410,6 +576,39 @@ public final class TaxPayment extends Resource {
         return new Page(payments, page.cursor);
     }
 
+    /**
+     * Retrieve paged TaxPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 TaxPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * status [string, default null]: filter for status of retrieved objects. ex: "success"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with TaxPayment.Page object:
+     * TaxPayment.Page.payments: list of TaxPayment objects with updated attributes
+     * TaxPayment.Page.cursor: cursor to retrieve the next page of TaxPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<TaxPayment> payments = new ArrayList<>();
+            for (SubResource payment : page.entities) {
+                payments.add((TaxPayment) payment);
+            }
+            return new Page(payments, page.cursor);
+        });
+    }
+
     /**
      * Delete a TaxPayment entity
      * <p>
@@ -426,6 +625,22 @@ public final class TaxPayment extends Resource {
         return TaxPayment.delete(id, null);
     }
 
+    /**
+     * Delete a TaxPayment entity asynchronously
+     * <p>
+     * Delete a TaxPayment entity previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: TaxPayment unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted TaxPayment object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<TaxPayment> deleteAsync(String id) throws Exception {
+        return TaxPayment.deleteAsync(id, null);
+    }
+
     /**
      * Delete a TaxPayment entity
      * <p>
@@ -443,6 +658,23 @@ public final class TaxPayment extends Resource {
         return Rest.delete(data, id, user);
     }
 
+    /**
+     * Delete a TaxPayment entity asynchronously
+     * <p>
+     * Delete a TaxPayment entity previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: TaxPayment unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted TaxPayment object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<TaxPayment> deleteAsync(String id, User user) throws Exception {
+        return Rest.deleteAsync(data, id, user);
+    }
+
     public final static class Log extends Resource {
         static ClassData data = new ClassData(TaxPayment.Log.class, "TaxPaymentLog");
 
@@ -475,6 +707,22 @@ public final class TaxPayment extends Resource {
             return Log.get(id, null);
         }
 
+        /**
+         * Retrieve a specific TaxPayment Log asynchronously
+         * <p>
+         * Receive a single TaxPayment Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with TaxPayment Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id) throws Exception {
+            return Log.getAsync(id, null);
+        }
+
         /**
          * Retrieve a specific TaxPayment Log
          * <p>
@@ -492,6 +740,23 @@ public final class TaxPayment extends Resource {
             return Rest.getId(data, id, user);
         }
 
+        /**
+         * Retrieve a specific TaxPayment Log asynchronously
+         * <p>
+         * Receive a single TaxPayment Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with TaxPayment Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id, User user) throws Exception {
+            return Rest.getIdAsync(data, id, user);
+        }
+
         /**
          * Retrieve TaxPayment Logs
          * <p>
@@ -603,6 +868,31 @@ public final class TaxPayment extends Resource {
             return Log.page(params, null);
         }
 
+        /**
+         * Retrieve paged TaxPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 TaxPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter retrieved objects by event types. ex: "processing" or "success"
+         * paymentIds [list of strings, default null]: list of TaxPayment ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with TaxPayment.Log.Page object:
+         * TaxPayment.Log.Page.logs: list of TaxPayment.Log objects with updated attributes
+         * TaxPayment.Log.Page.cursor: cursor to retrieve the next page of TaxPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params) throws Exception {
+            return Log.pageAsync(params, null);
+        }
+
         /**
          * Retrieve paged TaxPayment.Logs
          * <p>
@@ -622,6 +912,25 @@ public final class TaxPayment extends Resource {
             return Log.page(new HashMap<>(), user);
         }
 
+        /**
+         * Retrieve paged TaxPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 TaxPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with TaxPayment.Log.Page object:
+         * TaxPayment.Log.Page.logs: list of TaxPayment.Log objects with updated attributes
+         * TaxPayment.Log.Page.cursor: cursor to retrieve the next page of TaxPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(User user) throws Exception {
+            return Log.pageAsync(new HashMap<>(), user);
+        }
+
         /**
          * Retrieve paged TaxPayment.Logs
          * <p>
@@ -638,6 +947,22 @@ public final class TaxPayment extends Resource {
             return Log.page(new HashMap<>(), null);
         }
 
+        /**
+         * Retrieve paged TaxPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 TaxPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with TaxPayment.Log.Page object:
+         * TaxPayment.Log.Page.logs: list of TaxPayment.Log objects with updated attributes
+         * TaxPayment.Log.Page.cursor: cursor to retrieve the next page of TaxPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync() throws Exception {
+            return Log.pageAsync(new HashMap<>(), null);
+        }
+
         /**
          * Retrieve paged TaxPayment.Logs
          * <p>
@@ -668,5 +993,37 @@ public final class TaxPayment extends Resource {
             }
             return new Log.Page(logs, page.cursor);
         }
+
+        /**
+         * Retrieve paged TaxPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 TaxPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter retrieved objects by event types. ex: "processing" or "success"
+         * paymentIds [list of strings, default null]: list of TaxPayment ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with TaxPayment.Log.Page object:
+         * TaxPayment.Log.Page.logs: list of TaxPayment.Log objects with updated attributes
+         * TaxPayment.Log.Page.cursor: cursor to retrieve the next page of TaxPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+            return Rest.getPageAsync(data, params, user).thenApply(page -> {
+                List<TaxPayment.Log> logs = new ArrayList<>();
+                for (SubResource log: page.entities) {
+                    logs.add((TaxPayment.Log) log);
+                }
+                return new Log.Page(logs, page.cursor);
+            });
+        }
     }
 }
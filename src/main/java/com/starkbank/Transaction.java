@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 public final class Transaction extends Resource {
@@ -130,6 +131,22 @@ public final class Transaction extends Resource {
         return Transaction.get(id, null);
     }
 
+    /**
+     * Retrieve a specific Transaction asynchronously
+     * <p>
+     * Receive a single Transaction object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Transaction object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Transaction> getAsync(String id) throws Exception {
+        return Transaction.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific Transaction
      * <p>
@@ -147,6 +164,23 @@ public final class Transaction extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific Transaction asynchronously
+     * <p>
+     * Receive a single Transaction object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Transaction object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Transaction> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Retrieve Transactions
      * <p>
@@ -260,6 +294,32 @@ public final class Transaction extends Resource {
         return Transaction.page(params, null);
     }
 
+    /**
+     * Retrieve paged Transactions asynchronously
+     * <p>
+     * Receive a list of up to 100 Transaction objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * externalIds [list of strings, default null]: list of external ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Transaction.Page object:
+     * Transaction.Page.transactions: list of Transaction objects with updated attributes
+     * Transaction.Page.cursor: cursor to retrieve the next page of Transaction objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return Transaction.pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged Transactions
      * <p>
@@ -279,6 +339,25 @@ public final class Transaction extends Resource {
         return Transaction.page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged Transactions asynchronously
+     * <p>
+     * Receive a list of up to 100 Transaction objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Transaction.Page object:
+     * Transaction.Page.transactions: list of Transaction objects with updated attributes
+     * Transaction.Page.cursor: cursor to retrieve the next page of Transaction objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return Transaction.pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged Transactions
      * <p>
@@ -295,6 +374,22 @@ public final class Transaction extends Resource {
         return Transaction.page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged Transactions asynchronously
+     * <p>
+     * Receive a list of up to 100 Transaction objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Transaction.Page object:
+     * Transaction.Page.transactions: list of Transaction objects with updated attributes
+     * Transaction.Page.cursor: cursor to retrieve the next page of Transaction objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return Transaction.pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged Transactions
      * <p>
@@ -326,6 +421,38 @@ public final class Transaction extends Resource {
         return new Page(transactions, page.cursor);
     }
 
+    /**
+     * Retrieve paged Transactions asynchronously
+     * <p>
+     * Receive a list of up to 100 Transaction objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * externalIds [list of strings, default null]: list of external ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Transaction.Page object:
+     * Transaction.Page.transactions: list of Transaction objects with updated attributes
+     * Transaction.Page.cursor: cursor to retrieve the next page of Transaction objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<Transaction> transactions = new ArrayList<>();
+            for (SubResource transaction: page.entities) {
+                transactions.add((Transaction) transaction);
+            }
+            return new Page(transactions, page.cursor);
+        });
+    }
+
     /**
      * Create Transactions
      * <p>
@@ -342,6 +469,22 @@ public final class Transaction extends Resource {
         return Transaction.create(transactions, null);
     }
 
+    /**
+     * Create Transactions asynchronously
+     * <p>
+     * Send a list of Transaction objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param transactions [list of Transaction objects or HashMaps]: list of Transaction objects to be created in the API
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of Transaction objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<Transaction>> createAsync(List<?> transactions) throws Exception {
+        return Transaction.createAsync(transactions, null);
+    }
+
     /**
      * Create Transactions
      * <p>
@@ -369,6 +512,36 @@ public final class Transaction extends Resource {
             }
             throw new Exception("Unknown type \"" + transaction.getClass() + "\", use Transaction or HashMap");
         }
-        return Rest.post(data, transactionList, user);
+        return Rest.post(data, transactionList, user, Rest.hasExternalIds(transactionList, transaction -> transaction.externalId));
+    }
+
+    /**
+     * Create Transactions asynchronously
+     * <p>
+     * Send a list of Transaction objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param transactions [list of Transaction objects or HashMaps]: list of Transaction objects to be created in the API
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of Transaction objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<List<Transaction>> createAsync(List<?> transactions, User user) throws Exception {
+        List<Transaction> transactionList = new ArrayList<>();
+        for (Object transaction : transactions){
+            if (transaction instanceof Map){
+                transactionList.add(new Transaction((Map<String, Object>) transaction));
+                continue;
+            }
+            if (transaction instanceof Transaction){
+                transactionList.add((Transaction) transaction);
+                continue;
+            }
+            throw new Exception("Unknown type \"" + transaction.getClass() + "\", use Transaction or HashMap");
+        }
+        return Rest.postAsync(data, transactionList, user, Rest.hasExternalIds(transactionList, transaction -> transaction.externalId));
     }
 }
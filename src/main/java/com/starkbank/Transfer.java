@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 public final class Transfer extends Resource {
@@ -161,6 +162,22 @@ public final class Transfer extends Resource {
         return Transfer.get(id, null);
     }
 
+    /**
+     * Retrieve a specific Transfer asynchronously
+     * <p>
+     * Receive a single Transfer object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Transfer object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Transfer> getAsync(String id) throws Exception {
+        return Transfer.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific Transfer
      * <p>
@@ -178,6 +195,23 @@ public final class Transfer extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific Transfer asynchronously
+     * <p>
+     * Receive a single Transfer object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Transfer object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Transfer> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Delete a Transfer entity
      * <p>
@@ -194,6 +228,22 @@ public final class Transfer extends Resource {
         return Transfer.delete(id, null);
     }
 
+    /**
+     * Delete a Transfer entity asynchronously
+     * <p>
+     * Delete a Transfer entity previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: Transfer unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted Transfer object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Transfer> deleteAsync(String id) throws Exception {
+        return Transfer.deleteAsync(id, null);
+    }
+
     /**
      * Delete a Transfer entity
      * <p>
@@ -211,6 +261,23 @@ public final class Transfer extends Resource {
         return Rest.delete(data, id, user);
     }
 
+    /**
+     * Delete a Transfer entity asynchronously
+     * <p>
+     * Delete a Transfer entity previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: Transfer unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted Transfer object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Transfer> deleteAsync(String id, User user) throws Exception {
+        return Rest.deleteAsync(data, id, user);
+    }
+
     /**
      * Retrieve Transfers
      * <p>
@@ -332,6 +399,34 @@ public final class Transfer extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged Transfers asynchronously
+     * <p>
+     * Receive a list of up to 100 Transfer objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null]: date filter for objects created or updated only after specified date. ex: "2020-03-10"
+     * before [string, default null]: date filter for objects created or updated only before specified date. ex: "2020-03-10"
+     * transferIds [list of strings, default null]: list of transfer IDs linked to the desired transfers. ex: ["5656565656565656", "4545454545454545"]
+     * status [string, default null]: filter for status of retrieved objects. ex: "processing" or "success"
+     * sort [string, default "-created"]: sort order considered in response. Valid options are "created", "-created", "updated" or "-updated".
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Transfer.Page object:
+     * Transfer.Page.transfers: list of Transfer objects with updated attributes
+     * Transfer.Page.cursor: cursor to retrieve the next page of Transfer objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged Transfers
      * <p>
@@ -351,6 +446,25 @@ public final class Transfer extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged Transfers asynchronously
+     * <p>
+     * Receive a list of up to 100 Transfer objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Transfer.Page object:
+     * Transfer.Page.transfers: list of Transfer objects with updated attributes
+     * Transfer.Page.cursor: cursor to retrieve the next page of Transfer objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged Transfers
      * <p>
@@ -367,6 +481,22 @@ public final class Transfer extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged Transfers asynchronously
+     * <p>
+     * Receive a list of up to 100 Transfer objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Transfer.Page object:
+     * Transfer.Page.transfers: list of Transfer objects with updated attributes
+     * Transfer.Page.cursor: cursor to retrieve the next page of Transfer objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged Transfers
      * <p>
@@ -401,6 +531,41 @@ public final class Transfer extends Resource {
         return new Page(transfers, page.cursor);
     }
 
+    /**
+     * Retrieve paged Transfers asynchronously
+     * <p>
+     * Receive a list of up to 100 Transfer objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null]: date filter for objects created or updated only after specified date. ex: "2020-03-10"
+     * before [string, default null]: date filter for objects created or updated only before specified date. ex: "2020-03-10"
+     * transferIds [list of strings, default null]: list of transfer IDs linked to the desired transfers. ex: ["5656565656565656", "4545454545454545"]
+     * status [string, default null]: filter for status of retrieved objects. ex: "processing" or "success"
+     * sort [string, default "-created"]: sort order considered in response. Valid options are "created", "-created", "updated" or "-updated".
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Transfer.Page object:
+     * Transfer.Page.transfers: list of Transfer objects with updated attributes
+     * Transfer.Page.cursor: cursor to retrieve the next page of Transfer objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<Transfer> transfers = new ArrayList<>();
+            for (SubResource transfer: page.entities) {
+                transfers.add((Transfer) transfer);
+            }
+            return new Page(transfers, page.cursor);
+        });
+    }
+
     /**
      * Create Transfers
      * <p>
@@ -417,6 +582,22 @@ public final class Transfer extends Resource {
         return Transfer.create(transfers, null);
     }
 
+    /**
+     * Create Transfers asynchronously
+     * <p>
+     * Send a list of Transfer objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param transfers [list of Transfer objects or HashMaps]: list of Transfer objects to be created in the API
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of Transfer objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<Transfer>> createAsync(List<?> transfers) throws Exception {
+        return Transfer.createAsync(transfers, null);
+    }
+
     /**
      * Create Transfers
      * <p>
@@ -444,7 +625,37 @@ public final class Transfer extends Resource {
             }
             throw new Exception("Unknown type \"" + transfer.getClass() + "\", use Transfer or HashMap");
         }
-        return Rest.post(data, transferList, user);
+        return Rest.post(data, transferList, user, Rest.hasExternalIds(transferList, transfer -> transfer.externalId));
+    }
+
+    /**
+     * Create Transfers asynchronously
+     * <p>
+     * Send a list of Transfer objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param transfers [list of Transfer objects or HashMaps]: list of Transfer objects to be created in the API
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of Transfer objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<List<Transfer>> createAsync(List<?> transfers, User user) throws Exception {
+        List<Transfer> transferList = new ArrayList<>();
+        for (Object transfer : transfers){
+            if (transfer instanceof Map){
+                transferList.add(new Transfer((Map<String, Object>) transfer));
+                continue;
+            }
+            if (transfer instanceof Transfer){
+                transferList.add((Transfer) transfer);
+                continue;
+            }
+            throw new Exception("Unknown type \"" + transfer.getClass() + "\", use Transfer or HashMap");
+        }
+        return Rest.postAsync(data, transferList, user, Rest.hasExternalIds(transferList, transfer -> transfer.externalId));
     }
 
     /**
@@ -464,6 +675,23 @@ public final class Transfer extends Resource {
         return Transfer.pdf(id, null);
     }
 
+    /**
+     * Retrieve a specific Transfer pdf file asynchronously
+     * <p>
+     * Receive a single Transfer pdf receipt file generated in the Stark Bank API by passing its id.
+     * Only valid for transfers with "processing" and "success" status.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Transfer pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id) throws Exception {
+        return Transfer.pdfAsync(id, null);
+    }
+
     /**
      * Retrieve a specific Transfer pdf file
      * <p>
@@ -482,6 +710,24 @@ public final class Transfer extends Resource {
         return Rest.getContent(data, id, "pdf", user, null);
     }
 
+    /**
+     * Retrieve a specific Transfer pdf file asynchronously
+     * <p>
+     * Receive a single Transfer pdf receipt file generated in the Stark Bank API by passing its id.
+     * Only valid for transfers with "processing" and "success" status.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Transfer pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id, User user) throws Exception {
+        return Rest.getContentAsync(data, id, "pdf", user, null);
+    }
+
     public final static class Log extends Resource {
         static ClassData data = new ClassData(Log.class, "TransferLog");
 
@@ -528,6 +774,22 @@ public final class Transfer extends Resource {
             return Log.get(id, null);
         }
 
+        /**
+         * Retrieve a specific Transfer Log asynchronously
+         * <p>
+         * Receive a single Transfer Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Transfer Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id) throws Exception {
+            return Log.getAsync(id, null);
+        }
+
         /**
          * Retrieve a specific Transfer Log
          * <p>
@@ -545,6 +807,23 @@ public final class Transfer extends Resource {
             return Rest.getId(data, id, user);
         }
 
+        /**
+         * Retrieve a specific Transfer Log asynchronously
+         * <p>
+         * Receive a single Transfer Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Transfer Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id, User user) throws Exception {
+            return Rest.getIdAsync(data, id, user);
+        }
+
         /**
          * Retrieve Transfer Logs
          * <p>
@@ -656,6 +935,31 @@ public final class Transfer extends Resource {
             return Log.page(params, null);
         }
 
+        /**
+         * Retrieve paged Transfer.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Transfer.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter retrieved objects by types. ex: "success" or "failed"
+         * transferIds [list of strings, default null]: list of Transfer ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Transfer.Log.Page object:
+         * Transfer.Log.Page.logs: list of Transfer.Log objects with updated attributes
+         * Transfer.Log.Page.cursor: cursor to retrieve the next page of Transfer.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params) throws Exception {
+            return Log.pageAsync(params, null);
+        }
+
         /**
          * Retrieve paged Transfer.Logs
          * <p>
@@ -675,6 +979,25 @@ public final class Transfer extends Resource {
             return Log.page(new HashMap<>(), user);
         }
 
+        /**
+         * Retrieve paged Transfer.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Transfer.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Transfer.Log.Page object:
+         * Transfer.Log.Page.logs: list of Transfer.Log objects with updated attributes
+         * Transfer.Log.Page.cursor: cursor to retrieve the next page of Transfer.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(User user) throws Exception {
+            return Log.pageAsync(new HashMap<>(), user);
+        }
+
         /**
          * Retrieve paged Transfer.Logs
          * <p>
@@ -691,6 +1014,22 @@ public final class Transfer extends Resource {
             return Log.page(new HashMap<>(), null);
         }
 
+        /**
+         * Retrieve paged Transfer.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Transfer.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Transfer.Log.Page object:
+         * Transfer.Log.Page.logs: list of Transfer.Log objects with updated attributes
+         * Transfer.Log.Page.cursor: cursor to retrieve the next page of Transfer.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync() throws Exception {
+            return Log.pageAsync(new HashMap<>(), null);
+        }
+
         /**
          * Retrieve paged Transfer.Logs
          * <p>
@@ -721,6 +1060,38 @@ public final class Transfer extends Resource {
             }
             return new Log.Page(logs, page.cursor);
         }
+
+        /**
+         * Retrieve paged Transfer.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 Transfer.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter retrieved objects by types. ex: "success" or "failed"
+         * transferIds [list of strings, default null]: list of Transfer ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with Transfer.Log.Page object:
+         * Transfer.Log.Page.logs: list of Transfer.Log objects with updated attributes
+         * Transfer.Log.Page.cursor: cursor to retrieve the next page of Transfer.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+            return Rest.getPageAsync(data, params, user).thenApply(page -> {
+                List<Log> logs = new ArrayList<>();
+                for (SubResource log: page.entities) {
+                    logs.add((Log) log);
+                }
+                return new Log.Page(logs, page.cursor);
+            });
+        }
     }
 
     @SuppressWarnings("unchecked")
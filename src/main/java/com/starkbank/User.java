@@ -2,22 +2,59 @@ package com.starkbank;
 
 import com.starkbank.ellipticcurve.PrivateKey;
 import com.starkbank.utils.Check;
+import com.starkbank.utils.HttpClient;
+import com.starkbank.utils.MetricsListener;
+import com.starkbank.utils.RateLimit;
+import com.starkbank.utils.RequestSigner;
+import com.starkbank.utils.RetryPolicy;
 import com.starkbank.utils.Resource;
 
 
 public abstract class User extends Resource{
     public final String pem;
     public final String environment;
+    private final transient PrivateKey privateKey;
+    public transient RequestSigner signer = null;
+    public transient RetryPolicy retryPolicy = null;
+    public transient RateLimit rateLimit = null;
+    public transient String language = null;
+    public transient String userAgent = null;
+    public transient HttpClient.Instance httpClient = null;
+    public transient MetricsListener metricsListener = null;
 
     public User(String environment, String id, String privateKey) throws Exception {
         super(id);
         this.environment = Check.environment(environment);
-        this.pem = Check.key(privateKey);
+        this.privateKey = Check.privateKey(privateKey);
+        this.pem = privateKey;
+    }
+
+    protected User(User user) {
+        super(user.id);
+        this.environment = user.environment;
+        this.privateKey = user.privateKey;
+        this.pem = user.pem;
+        this.signer = user.signer;
+        this.retryPolicy = user.retryPolicy;
+        this.rateLimit = user.rateLimit;
+        this.language = user.language;
+        this.userAgent = user.userAgent;
+        this.httpClient = user.httpClient;
+        this.metricsListener = user.metricsListener;
     }
 
     public abstract String accessId();
 
+    /**
+     * Retrieve the private key used to sign requests
+     * <p>
+     * The PEM string is parsed only once, when the user is created, and the
+     * resulting key is shared by every request made with it. It must not be modified.
+     * <p>
+     * Return:
+     * @return PrivateKey object
+     */
     public PrivateKey privateKey(){
-        return PrivateKey.fromPem(this.pem);
+        return this.privateKey;
     }
 }
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 public final class UtilityPayment extends Resource {
@@ -125,6 +126,22 @@ public final class UtilityPayment extends Resource {
         return UtilityPayment.get(id, null);
     }
 
+    /**
+     * Retrieve a specific UtilityPayment asynchronously
+     * <p>
+     * Receive a single UtilityPayment object previously created by the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with UtilityPayment object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<UtilityPayment> getAsync(String id) throws Exception {
+        return UtilityPayment.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific UtilityPayment
      * <p>
@@ -142,6 +159,23 @@ public final class UtilityPayment extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific UtilityPayment asynchronously
+     * <p>
+     * Receive a single UtilityPayment object previously created by the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with UtilityPayment object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<UtilityPayment> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Retrieve UtilityPayments
      * <p>
@@ -256,6 +290,32 @@ public final class UtilityPayment extends Resource {
         return UtilityPayment.page(params, null);
     }
 
+    /**
+     * Retrieve paged UtilityPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 UtilityPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * status [string, default null]: filter for status of retrieved objects. ex: "success"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with UtilityPayment.Page object:
+     * UtilityPayment.Page.payments: list of UtilityPayment objects with updated attributes
+     * UtilityPayment.Page.cursor: cursor to retrieve the next page of UtilityPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<UtilityPayment.Page> pageAsync(Map<String, Object> params) throws Exception {
+        return UtilityPayment.pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged UtilityPayments
      * <p>
@@ -275,6 +335,25 @@ public final class UtilityPayment extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged UtilityPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 UtilityPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with UtilityPayment.Page object:
+     * UtilityPayment.Page.payments: list of UtilityPayment objects with updated attributes
+     * UtilityPayment.Page.cursor: cursor to retrieve the next page of UtilityPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged UtilityPayments
      * <p>
@@ -291,6 +370,22 @@ public final class UtilityPayment extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged UtilityPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 UtilityPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with UtilityPayment.Page object:
+     * UtilityPayment.Page.payments: list of UtilityPayment objects with updated attributes
+     * UtilityPayment.Page.cursor: cursor to retrieve the next page of UtilityPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged UtilityPayments
      * <p>
@@ -323,6 +418,39 @@ public final class UtilityPayment extends Resource {
         return new Page(payments, page.cursor);
     }
 
+    /**
+     * Retrieve paged UtilityPayments asynchronously
+     * <p>
+     * Receive a list of up to 100 UtilityPayment objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+     * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+     * tags [list of strings, default null]: tags to filter retrieved objects. ex: ["tony", "stark"]
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * status [string, default null]: filter for status of retrieved objects. ex: "success"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with UtilityPayment.Page object:
+     * UtilityPayment.Page.payments: list of UtilityPayment objects with updated attributes
+     * UtilityPayment.Page.cursor: cursor to retrieve the next page of UtilityPayment objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<UtilityPayment> payments = new ArrayList<>();
+            for (SubResource payment: page.entities) {
+                payments.add((UtilityPayment) payment);
+            }
+            return new Page(payments, page.cursor);
+        });
+    }
+
     /**
      * Create UtilityPayments
      * <p>
@@ -339,6 +467,22 @@ public final class UtilityPayment extends Resource {
         return UtilityPayment.create(payments, null);
     }
 
+    /**
+     * Create UtilityPayments asynchronously
+     * <p>
+     * Send a list of UtilityPayment objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param payments [list of UtilityPayment objects or HashMaps]: list of UtilityPayment objects to be created in the API
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with list of UtilityPayment objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<List<UtilityPayment>> createAsync(List<?> payments) throws Exception {
+        return UtilityPayment.createAsync(payments, null);
+    }
+
     /**
      * Create UtilityPayments
      * <p>
@@ -368,6 +512,35 @@ public final class UtilityPayment extends Resource {
         return Rest.post(data, paymentList, user);
     }
 
+    /**
+     * Create UtilityPayments asynchronously
+     * <p>
+     * Send a list of UtilityPayment objects for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param payments [list of UtilityPayment objects or HashMaps]: list of UtilityPayment objects to be created in the API
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * Return:
+     * @return CompletableFuture completed with list of UtilityPayment objects with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<List<UtilityPayment>> createAsync(List<?> payments, User user) throws Exception {
+        List<UtilityPayment> paymentList = new ArrayList<>();
+        for (Object payment : payments){
+            if (payment instanceof Map){
+                paymentList.add(new UtilityPayment((Map<String, Object>) payment));
+                continue;
+            }
+            if (payment instanceof UtilityPayment){
+                paymentList.add((UtilityPayment) payment);
+                continue;
+            }
+            throw new Exception("Unknown type \"" + payment.getClass() + "\", use UtilityPayment or HashMap");
+        }
+        return Rest.postAsync(data, paymentList, user);
+    }
+
     /**
      * Retrieve a specific UtilityPayment pdf file
      * <p>
@@ -385,6 +558,23 @@ public final class UtilityPayment extends Resource {
         return UtilityPayment.pdf(id, null);
     }
 
+    /**
+     * Retrieve a specific UtilityPayment pdf file asynchronously
+     * <p>
+     * Receive a single UtilityPayment pdf file generated in the Stark Bank API by passing its id.
+     * Only valid for utility payments with "success" status.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with UtilityPayment pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id) throws Exception {
+        return UtilityPayment.pdfAsync(id, null);
+    }
+
     /**
      * Retrieve a specific UtilityPayment pdf file
      * <p>
@@ -403,6 +593,24 @@ public final class UtilityPayment extends Resource {
         return Rest.getContent(data, id, "pdf", user, null);
     }
 
+    /**
+     * Retrieve a specific UtilityPayment pdf file asynchronously
+     * <p>
+     * Receive a single UtilityPayment pdf file generated in the Stark Bank API by passing its id.
+     * Only valid for utility payments with "success" status.
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with UtilityPayment pdf file
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<InputStream> pdfAsync(String id, User user) throws Exception {
+        return Rest.getContentAsync(data, id, "pdf", user, null);
+    }
+
     /**
      * Delete a UtilityPayment entity
      * <p>
@@ -419,6 +627,22 @@ public final class UtilityPayment extends Resource {
         return UtilityPayment.delete(id, null);
     }
 
+    /**
+     * Delete a UtilityPayment entity asynchronously
+     * <p>
+     * Delete a UtilityPayment entity previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: UtilityPayment unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted UtilityPayment object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<UtilityPayment> deleteAsync(String id) throws Exception {
+        return UtilityPayment.deleteAsync(id, null);
+    }
+
     /**
      * Delete a UtilityPayment entity
      * <p>
@@ -436,6 +660,23 @@ public final class UtilityPayment extends Resource {
         return Rest.delete(data, id, user);
     }
 
+    /**
+     * Delete a UtilityPayment entity asynchronously
+     * <p>
+     * Delete a UtilityPayment entity previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: UtilityPayment unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted UtilityPayment object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<UtilityPayment> deleteAsync(String id, User user) throws Exception {
+        return Rest.deleteAsync(data, id, user);
+    }
+
     public final static class Log extends Resource {
         static ClassData data = new ClassData(Log.class, "UtilityPaymentLog");
 
@@ -482,6 +723,22 @@ public final class UtilityPayment extends Resource {
             return Log.get(id, null);
         }
 
+        /**
+         * Retrieve a specific UtilityPayment Log asynchronously
+         * <p>
+         * Receive a single UtilityPayment Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with UtilityPayment Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id) throws Exception {
+            return Log.getAsync(id, null);
+        }
+
         /**
          * Retrieve a specific UtilityPayment Log
          * <p>
@@ -499,6 +756,23 @@ public final class UtilityPayment extends Resource {
             return Rest.getId(data, id, user);
         }
 
+        /**
+         * Retrieve a specific UtilityPayment Log asynchronously
+         * <p>
+         * Receive a single UtilityPayment Log object previously created by the Stark Bank API by passing its id
+         * <p>
+         * Parameters:
+         * @param id [string]: object unique id. ex: "5656565656565656"
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with UtilityPayment Log object with updated attributes
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log> getAsync(String id, User user) throws Exception {
+            return Rest.getIdAsync(data, id, user);
+        }
+
         /**
          * Retrieve UtilityPayment Logs
          * <p>
@@ -610,6 +884,31 @@ public final class UtilityPayment extends Resource {
             return Log.page(params, null);
         }
 
+        /**
+         * Retrieve paged UtilityPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 UtilityPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter retrieved objects by event types. ex: "processing" or "success"
+         * paymentIds [list of strings, default null]: list of UtilityPayment ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with UtilityPayment.Log.Page object:
+         * UtilityPayment.Log.Page.logs: list of UtilityPayment.Log objects with updated attributes
+         * UtilityPayment.Log.Page.cursor: cursor to retrieve the next page of UtilityPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params) throws Exception {
+            return Log.pageAsync(params, null);
+        }
+
         /**
          * Retrieve paged UtilityPayment.Logs
          * <p>
@@ -629,6 +928,25 @@ public final class UtilityPayment extends Resource {
             return Log.page(new HashMap<>(), user);
         }
 
+        /**
+         * Retrieve paged UtilityPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 UtilityPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with UtilityPayment.Log.Page object:
+         * UtilityPayment.Log.Page.logs: list of UtilityPayment.Log objects with updated attributes
+         * UtilityPayment.Log.Page.cursor: cursor to retrieve the next page of UtilityPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(User user) throws Exception {
+            return Log.pageAsync(new HashMap<>(), user);
+        }
+
         /**
          * Retrieve paged UtilityPayment.Logs
          * <p>
@@ -645,6 +963,22 @@ public final class UtilityPayment extends Resource {
             return Log.page(new HashMap<>(), null);
         }
 
+        /**
+         * Retrieve paged UtilityPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 UtilityPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with UtilityPayment.Log.Page object:
+         * UtilityPayment.Log.Page.logs: list of UtilityPayment.Log objects with updated attributes
+         * UtilityPayment.Log.Page.cursor: cursor to retrieve the next page of UtilityPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync() throws Exception {
+            return Log.pageAsync(new HashMap<>(), null);
+        }
+
         /**
          * Retrieve paged UtilityPayment.Logs
          * <p>
@@ -675,5 +1009,37 @@ public final class UtilityPayment extends Resource {
             }
             return new Log.Page(logs, page.cursor);
         }
+
+        /**
+         * Retrieve paged UtilityPayment.Logs asynchronously
+         * <p>
+         * Receive a list of up to 100 UtilityPayment.Log objects previously created in the Stark Bank API and the cursor to the next page.
+         * Use this function instead of query if you want to manually page your requests.
+         * <p>
+         * Parameters:
+         * @param params parameters of the query
+         * cursor [string, default null]: cursor returned on the previous page function call
+         * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+         * after [string, default null] date filter for objects created only after specified date. ex: "2020-03-10"
+         * before [string, default null] date filter for objects created only before specified date. ex: "2020-03-10"
+         * types [list of strings, default null]: filter retrieved objects by event types. ex: "processing" or "success"
+         * paymentIds [list of strings, default null]: list of UtilityPayment ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+         * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+         * <p>
+         * Return:
+         * @return CompletableFuture completed with UtilityPayment.Log.Page object:
+         * UtilityPayment.Log.Page.logs: list of UtilityPayment.Log objects with updated attributes
+         * UtilityPayment.Log.Page.cursor: cursor to retrieve the next page of UtilityPayment.Log objects
+         * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+         */
+        public static CompletableFuture<Log.Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+            return Rest.getPageAsync(data, params, user).thenApply(page -> {
+                List<Log> logs = new ArrayList<>();
+                for (SubResource log: page.entities) {
+                    logs.add((Log) log);
+                }
+                return new Log.Page(logs, page.cursor);
+            });
+        }
     }
 }
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 public final class Webhook extends Resource {
@@ -72,6 +73,22 @@ public final class Webhook extends Resource {
         return Webhook.get(id, null);
     }
 
+    /**
+     * Retrieve a specific Webhook subscription asynchronously
+     * <p>
+     * Receive a single Webhook subscription object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Webhook object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Webhook> getAsync(String id) throws Exception {
+        return Webhook.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific Webhook subscription
      * <p>
@@ -89,6 +106,23 @@ public final class Webhook extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific Webhook subscription asynchronously
+     * <p>
+     * Receive a single Webhook subscription object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Webhook object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Webhook> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Retrieve Webhook subcriptions
      * <p>
@@ -188,6 +222,27 @@ public final class Webhook extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged Webhook subscriptions asynchronously
+     * <p>
+     * Receive a list of up to 100 Webhook objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Webhook.Page object:
+     * Webhook.Page.webhooks: list of Webhook objects with updated attributes
+     * Webhook.Page.cursor: cursor to retrieve the next page of Webhook objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged Webhooks
      * <p>
@@ -207,6 +262,25 @@ public final class Webhook extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged Webhooks asynchronously
+     * <p>
+     * Receive a list of up to 100 Webhook objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Webhook.Page object:
+     * Webhook.Page.webhooks: list of Webhook objects with updated attributes
+     * Webhook.Page.cursor: cursor to retrieve the next page of Webhook objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged Webhooks
      * <p>
@@ -223,6 +297,22 @@ public final class Webhook extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged Webhooks asynchronously
+     * <p>
+     * Receive a list of up to 100 Webhook objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Webhook.Page object:
+     * Webhook.Page.webhooks: list of Webhook objects with updated attributes
+     * Webhook.Page.cursor: cursor to retrieve the next page of Webhook objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged Webhooks
      * <p>
@@ -250,6 +340,34 @@ public final class Webhook extends Resource {
         return new Page(webhooks, page.cursor);
     }
 
+    /**
+     * Retrieve paged Webhooks asynchronously
+     * <p>
+     * Receive a list of up to 100 Webhook objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Webhook.Page object:
+     * Webhook.Page.webhooks: list of Webhook objects with updated attributes
+     * Webhook.Page.cursor: cursor to retrieve the next page of Webhook objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<Webhook> webhooks = new ArrayList<>();
+            for (SubResource webhook: page.entities) {
+                webhooks.add((Webhook) webhook);
+            }
+            return new Page(webhooks, page.cursor);
+        });
+    }
+
     /**
      * Create Webhook subscription
      * <p>
@@ -268,6 +386,24 @@ public final class Webhook extends Resource {
         return Webhook.create(webhookData, null);
     }
 
+    /**
+     * Create Webhook subscription asynchronously
+     * <p>
+     * Send a single Webhook subscription for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param webhookData parameters for the creation of the webhook
+     * url [string]: Url that will be notified when an event occurs.
+     * subscriptions [list of strings]: list of any non-empty combination of the available services. ex: ["transfer", "boleto-payment"]
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Webhook object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Webhook> createAsync(Map<String, Object> webhookData) throws Exception {
+        return Webhook.createAsync(webhookData, null);
+    }
+
     /**
      * Create Webhook subscription
      * <p>
@@ -289,6 +425,27 @@ public final class Webhook extends Resource {
         return Rest.postSingle(data, new Webhook(url, subscriptions, null), user);
     }
 
+    /**
+     * Create Webhook subscription asynchronously
+     * <p>
+     * Send a single Webhook subscription for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param webhookData parameters for the creation of the webhook
+     * url [string]: Url that will be notified when an event occurs.
+     * subscriptions [list of strings]: list of any non-empty combination of the available services. ex: ["transfer", "boleto-payment"]
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Webhook object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Webhook> createAsync(Map<String, Object> webhookData, User user) throws Exception {
+        String url = (String) webhookData.get("url");
+        String[] subscriptions = (String[]) webhookData.get("subscriptions");
+        return Rest.postSingleAsync(data, new Webhook(url, subscriptions, null), user);
+    }
+
     /**
      * Delete a Webhook subscription entity
      * <p>
@@ -305,6 +462,22 @@ public final class Webhook extends Resource {
         return Webhook.delete(id, null);
     }
 
+    /**
+     * Delete a Webhook subscription entity asynchronously
+     * <p>
+     * Delete a Webhook subscription entity previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: Webhook unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted Webhook object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Webhook> deleteAsync(String id) throws Exception {
+        return Webhook.deleteAsync(id, null);
+    }
+
     /**
      * Delete a Webhook subscription entity
      * <p>
@@ -321,4 +494,21 @@ public final class Webhook extends Resource {
     public static Webhook delete(String id, User user) throws Exception {
         return Rest.delete(data, id, user);
     }
+
+    /**
+     * Delete a Webhook subscription entity asynchronously
+     * <p>
+     * Delete a Webhook subscription entity previously created in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param id [string]: Webhook unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with deleted Webhook object
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Webhook> deleteAsync(String id, User user) throws Exception {
+        return Rest.deleteAsync(data, id, user);
+    }
 }
@@ -8,6 +8,7 @@ import com.starkbank.utils.SubResource;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.concurrent.CompletableFuture;
 
 
 public final class Workspace extends Resource {
@@ -74,6 +75,22 @@ public final class Workspace extends Resource {
         return Workspace.get(id, null);
     }
 
+    /**
+     * Retrieve a specific Workspace asynchronously
+     * <p>
+     * Receive a single Workspace object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Workspace object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Workspace> getAsync(String id) throws Exception {
+        return Workspace.getAsync(id, null);
+    }
+
     /**
      * Retrieve a specific Workspace
      * <p>
@@ -91,6 +108,23 @@ public final class Workspace extends Resource {
         return Rest.getId(data, id, user);
     }
 
+    /**
+     * Retrieve a specific Workspace asynchronously
+     * <p>
+     * Receive a single Workspace object previously created in the Stark Bank API by passing its id
+     * <p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Workspace object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Workspace> getAsync(String id, User user) throws Exception {
+        return Rest.getIdAsync(data, id, user);
+    }
+
     /**
      * Retrieve Workspaces
      * <p>
@@ -204,6 +238,29 @@ public final class Workspace extends Resource {
         return page(params, null);
     }
 
+    /**
+     * Retrieve paged Workspaces asynchronously
+     * <p>
+     * Receive a list of up to 100 Workspace objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * username [string, default null]: query by the simplified name that defines the workspace URL. This name is always unique across all Stark Bank Workspaces. Ex: "starkbankworkspace"
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Workspace.Page object:
+     * Workspace.Page.workspaces: list of Workspace objects with updated attributes
+     * Workspace.Page.cursor: cursor to retrieve the next page of Workspace objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params) throws Exception {
+        return pageAsync(params, null);
+    }
+
     /**
      * Retrieve paged Workspaces
      * <p>
@@ -223,6 +280,25 @@ public final class Workspace extends Resource {
         return page(new HashMap<>(), user);
     }
 
+    /**
+     * Retrieve paged Workspaces asynchronously
+     * <p>
+     * Receive a list of up to 100 Workspace objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Workspace.Page object:
+     * Workspace.Page.workspaces: list of Workspace objects with updated attributes
+     * Workspace.Page.cursor: cursor to retrieve the next page of Workspace objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(User user) throws Exception {
+        return pageAsync(new HashMap<>(), user);
+    }
+
     /**
      * Retrieve paged Workspaces
      * <p>
@@ -239,6 +315,22 @@ public final class Workspace extends Resource {
         return page(new HashMap<>(), null);
     }
 
+    /**
+     * Retrieve paged Workspaces asynchronously
+     * <p>
+     * Receive a list of up to 100 Workspace objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Workspace.Page object:
+     * Workspace.Page.workspaces: list of Workspace objects with updated attributes
+     * Workspace.Page.cursor: cursor to retrieve the next page of Workspace objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync() throws Exception {
+        return pageAsync(new HashMap<>(), null);
+    }
+
     /**
      * Retrieve paged Workspaces
      * <p>
@@ -268,6 +360,36 @@ public final class Workspace extends Resource {
         return new Page(workspaces, page.cursor);
     }
 
+    /**
+     * Retrieve paged Workspaces asynchronously
+     * <p>
+     * Receive a list of up to 100 Workspace objects previously created in the Stark Bank API and the cursor to the next page.
+     * Use this function instead of query if you want to manually page your requests.
+     * <p>
+     * Parameters:
+     * @param params parameters of the query
+     * cursor [string, default null]: cursor returned on the previous page function call
+     * limit [integer, default 100]: maximum number of objects to be retrieved. It must be an integer between 1 and 100. ex: 50
+     * username [string, default null]: query by the simplified name that defines the workspace URL. This name is always unique across all Stark Bank Workspaces. Ex: "starkbankworkspace"
+     * ids [list of strings, default null]: list of ids to filter retrieved objects. ex: ["5656565656565656", "4545454545454545"]
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Workspace.Page object:
+     * Workspace.Page.workspaces: list of Workspace objects with updated attributes
+     * Workspace.Page.cursor: cursor to retrieve the next page of Workspace objects
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Page> pageAsync(Map<String, Object> params, User user) throws Exception {
+        return Rest.getPageAsync(data, params, user).thenApply(page -> {
+            List<Workspace> workspaces = new ArrayList<>();
+            for (SubResource workspace: page.entities) {
+                workspaces.add((Workspace) workspace);
+            }
+            return new Page(workspaces, page.cursor);
+        });
+    }
+
     /**
      * Create Workspace
      * <p>
@@ -286,6 +408,24 @@ public final class Workspace extends Resource {
         return Workspace.create(workspaceData, null);
     }
 
+    /**
+     * Create Workspace asynchronously
+     * <p>
+     * Send a single Workspace for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param workspaceData parameters for the creation of the workspace
+     * username [string]: Simplified name to define the workspace URL. This name must be unique across all Stark Bank Workspaces. Ex: "starkbankworkspace"
+     * name [string]: Full name that identifies the Workspace. This name will appear when people access the Workspace on our platform, for example. Ex: "Stark Bank Workspace"
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Workspace object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Workspace> createAsync(Map<String, Object> workspaceData) throws Exception {
+        return Workspace.createAsync(workspaceData, null);
+    }
+
     /**
      * Create Workspace
      * <p>
@@ -309,6 +449,29 @@ public final class Workspace extends Resource {
         return Rest.postSingle(data, new Workspace(username, name, allowedTaxIds, null), user);
     }
 
+    /**
+     * Create Workspace asynchronously
+     * <p>
+     * Send a single Workspace for creation in the Stark Bank API
+     * <p>
+     * Parameters:
+     * @param workspaceData parameters for the creation of the workspace
+     * username [string]: Simplified name to define the workspace URL. This name must be unique across all Stark Bank Workspaces. Ex: "starkbankworkspace"
+     * name [string]: Full name that identifies the Workspace. This name will appear when people access the Workspace on our platform, for example. Ex: "Stark Bank Workspace"
+     * @param user [Organization object]: Organization object. Not necessary if starkbank.User.defaultUser was set before function call
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with Workspace object with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<Workspace> createAsync(Map<String, Object> workspaceData, Organization user) throws Exception {
+        String username = (String) workspaceData.get("username");
+        String name = (String) workspaceData.get("name");
+        List<String> allowedTaxIds = (List<String>) workspaceData.get("allowedTaxIds");
+        return Rest.postSingleAsync(data, new Workspace(username, name, allowedTaxIds, null), user);
+    }
+
     /**
      * Update Workspace
      * <p>
@@ -324,6 +487,21 @@ public final class Workspace extends Resource {
         return update(id, patchData, null);
     }
 
+    /**
+     * Update Workspace asynchronously
+     * <p>
+     * Update a Workspace by passing its ID.
+     * </p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param patchData [map of parameters to patch]: Allowed parameters: "name", "username and "allowedTaxIds"
+     * @return CompletableFuture completed with target Workspace with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Workspace> updateAsync(String id, Map<String, Object> patchData) throws Exception {
+        return updateAsync(id, patchData, null);
+    }
+
     /**
      * Update Workspace
      * <p>
@@ -339,4 +517,20 @@ public final class Workspace extends Resource {
     public static Workspace update(String id, Map<String, Object> patchData, User user) throws Exception {
         return Rest.patch(data, id, patchData, user);
     }
+
+    /**
+     * Update Workspace asynchronously
+     * <p>
+     * Update a Workspace by passing its ID.
+     * </p>
+     * Parameters:
+     * @param id [string]: object unique id. ex: "5656565656565656"
+     * @param patchData [map of parameters to patch]: Allowed parameters: "name", "username and "allowedTaxIds"
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if User was set before function call
+     * @return CompletableFuture completed with target Workspace with updated attributes
+     * @throws Exception invalid parameters. Request errors complete the returned future exceptionally
+     */
+    public static CompletableFuture<Workspace> updateAsync(String id, Map<String, Object> patchData, User user) throws Exception {
+        return Rest.patchAsync(data, id, patchData, user);
+    }
 }
@@ -1,8 +1,8 @@
 package com.starkbank.error;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.starkbank.utils.GsonEvent;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,7 +15,7 @@ public final class InputErrors extends StarkBankError {
         super(content);
         this.errors = new ArrayList<>();
 
-        JsonObject errorsJson = new Gson().fromJson(content, JsonObject.class);
+        JsonObject errorsJson = GsonEvent.getInstance().fromJson(content, JsonObject.class);
         if (!errorsJson.get("errors").isJsonNull()) {
             for (JsonElement error : errorsJson.get("errors").getAsJsonArray()) {
                 JsonObject errorJson = error.getAsJsonObject();
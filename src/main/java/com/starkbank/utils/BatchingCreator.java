@@ -0,0 +1,249 @@
+package com.starkbank.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.starkbank.User;
+import com.starkbank.error.ErrorElement;
+import com.starkbank.error.InputErrors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+/**
+ * Accumulates single entity creations into batched requests.
+ *
+ * Each submitted item is buffered until maxItems items are waiting or maxDelay milliseconds have
+ * passed since the first of them arrived, whichever comes first. The buffered items are then
+ * sent in a single request through the list create function of the resource (such as
+ * Transfer::create), and each submitter's future is completed with its own created entity.
+ *
+ * If the API rejects a batch with InputErrors that name items by the "Element i:" prefix of their
+ * messages, those items fail with their own errors and the remaining items are sent again once,
+ * as a single batch. Any other error, including InputErrors that do not name items of the batch
+ * (such as an invalid signature), fails every item of the batch with the original error, so a
+ * rejected batch never costs more than two requests.
+ */
+public final class BatchingCreator<T> implements AutoCloseable {
+
+    private static final Pattern elementPattern = Pattern.compile("^Element (\\d+):");
+
+    private final Bulk.Creator<T> creator;
+    private final int maxItems;
+    private final long maxDelay;
+    private final User user;
+
+    private List<Object> items = new ArrayList<>();
+    private List<CompletableFuture<T>> futures = new ArrayList<>();
+    private long batch = 0;
+    private boolean closed = false;
+
+    /**
+     * BatchingCreator object
+     * <p>
+     * Parameters:
+     * @param creator [Bulk.Creator]: list create function of the resource. ex: Transfer::create
+     * @param maxItems [integer]: maximum number of items sent in each request. ex: 100
+     * @param maxDelay [long]: maximum milliseconds an item waits for its batch to be sent. ex: 50
+     */
+    public BatchingCreator(Bulk.Creator<T> creator, int maxItems, long maxDelay) {
+        this(creator, maxItems, maxDelay, null);
+    }
+
+    /**
+     * BatchingCreator object
+     * <p>
+     * Parameters:
+     * @param creator [Bulk.Creator]: list create function of the resource. ex: Transfer::create
+     * @param maxItems [integer]: maximum number of items sent in each request. ex: 100
+     * @param maxDelay [long]: maximum milliseconds an item waits for its batch to be sent. ex: 50
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.Settings.user was set before function call
+     */
+    public BatchingCreator(Bulk.Creator<T> creator, int maxItems, long maxDelay, User user) {
+        if (maxItems < 1) {
+            throw new IllegalArgumentException("maxItems must be greater than 0");
+        }
+        if (maxDelay < 0) {
+            throw new IllegalArgumentException("maxDelay must be greater than or equal to 0");
+        }
+        this.creator = creator;
+        this.maxItems = maxItems;
+        this.maxDelay = maxDelay;
+        this.user = user;
+    }
+
+    /**
+     * Submit an item to be created in the next batch
+     * <p>
+     * Parameters:
+     * @param item [object or HashMap]: item accepted by the create function. ex: new Transfer(data)
+     * <p>
+     * Return:
+     * @return CompletableFuture completed with the created entity
+     */
+    public CompletableFuture<T> submit(Object item) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        List<Object> fullItems = null;
+        List<CompletableFuture<T>> fullFutures = null;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("BatchingCreator is closed");
+            }
+            items.add(item);
+            futures.add(future);
+            if (items.size() >= maxItems) {
+                fullItems = items;
+                fullFutures = futures;
+                reset();
+            } else if (items.size() == 1) {
+                long scheduledBatch = batch;
+                ThreadPool.scheduler().schedule(() -> flush(scheduledBatch), maxDelay, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (fullItems != null) {
+            send(fullItems, fullFutures);
+        }
+        return future;
+    }
+
+    /**
+     * Send the buffered items immediately
+     */
+    public void flush() {
+        List<Object> pendingItems;
+        List<CompletableFuture<T>> pendingFutures;
+        synchronized (this) {
+            if (items.isEmpty()) {
+                return;
+            }
+            pendingItems = items;
+            pendingFutures = futures;
+            reset();
+        }
+        send(pendingItems, pendingFutures);
+    }
+
+    /**
+     * Send the buffered items and refuse new submissions
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        flush();
+    }
+
+    private void flush(long scheduledBatch) {
+        synchronized (this) {
+            if (batch != scheduledBatch) {
+                return;
+            }
+        }
+        flush();
+    }
+
+    // must hold the lock
+    private void reset() {
+        items = new ArrayList<>();
+        futures = new ArrayList<>();
+        batch++;
+    }
+
+    private void send(List<Object> batchItems, List<CompletableFuture<T>> batchFutures) {
+        ThreadPool.shared().execute(() -> create(batchItems, batchFutures, false));
+    }
+
+    private void create(List<Object> batchItems, List<CompletableFuture<T>> batchFutures, boolean resent) {
+        List<T> created;
+        try {
+            created = creator.create(batchItems, user);
+        } catch (InputErrors e) {
+            if (!resent && batchItems.size() > 1 && retry(batchItems, batchFutures, e)) {
+                return;
+            }
+            fail(batchFutures, e);
+            return;
+        } catch (Throwable e) {
+            fail(batchFutures, e);
+            return;
+        }
+        for (int i = 0; i < batchFutures.size(); i++) {
+            if (i < created.size()) {
+                batchFutures.get(i).complete(created.get(i));
+            } else {
+                batchFutures.get(i).completeExceptionally(new IllegalStateException("missing created entity for submitted item"));
+            }
+        }
+    }
+
+    // false if the errors do not name the invalid items, leaving the whole batch to fail
+    private boolean retry(List<Object> batchItems, List<CompletableFuture<T>> batchFutures, InputErrors errors) {
+        Map<Integer, List<ErrorElement>> invalid = invalidElements(errors, batchItems.size());
+        if (invalid.isEmpty()) {
+            return false;
+        }
+        List<Object> validItems = new ArrayList<>();
+        List<CompletableFuture<T>> validFutures = new ArrayList<>();
+        for (int i = 0; i < batchItems.size(); i++) {
+            List<ErrorElement> elements = invalid.get(i);
+            if (elements == null) {
+                validItems.add(batchItems.get(i));
+                validFutures.add(batchFutures.get(i));
+            } else {
+                batchFutures.get(i).completeExceptionally(inputErrors(elements));
+            }
+        }
+        if (!validItems.isEmpty()) {
+            create(validItems, validFutures, true);
+        }
+        return true;
+    }
+
+    private static <T> void fail(List<CompletableFuture<T>> batchFutures, Throwable error) {
+        for (CompletableFuture<T> future : batchFutures) {
+            future.completeExceptionally(error);
+        }
+    }
+
+    // errors of each batch index, or an empty map if any error does not name an item of the batch
+    private static Map<Integer, List<ErrorElement>> invalidElements(InputErrors errors, int size) {
+        Map<Integer, List<ErrorElement>> invalid = new HashMap<>();
+        for (ErrorElement error : errors.errors) {
+            Matcher matcher = error.message == null ? null : elementPattern.matcher(error.message);
+            if (matcher == null || !matcher.find()) {
+                return new HashMap<>();
+            }
+            int index;
+            try {
+                index = Integer.parseInt(matcher.group(1));
+            } catch (NumberFormatException e) {
+                return new HashMap<>();
+            }
+            if (index >= size) {
+                return new HashMap<>();
+            }
+            invalid.computeIfAbsent(index, key -> new ArrayList<>()).add(error);
+        }
+        return invalid;
+    }
+
+    private static InputErrors inputErrors(List<ErrorElement> elements) {
+        JsonArray errors = new JsonArray();
+        for (ErrorElement element : elements) {
+            JsonObject error = new JsonObject();
+            error.addProperty("code", element.code);
+            error.addProperty("message", element.message);
+            errors.add(error);
+        }
+        JsonObject content = new JsonObject();
+        content.add("errors", errors);
+        return new InputErrors(content.toString());
+    }
+}
@@ -0,0 +1,187 @@
+package com.starkbank.utils;
+
+import com.starkbank.User;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Creation of large lists of entities in API-sized chunks.
+ *
+ * The list is split into chunks of at most chunkSize items, which are sent through the given
+ * create function (such as Transfer::create or Boleto::create) with at most parallelism chunks
+ * in flight at once. A failed chunk does not interrupt the others.
+ */
+public final class Bulk {
+
+    public static final int defaultChunkSize = 100;
+    public static final int defaultParallelism = 4;
+
+    private Bulk() {}
+
+    public interface Creator<T> {
+        List<T> create(List<?> items, User user) throws Exception;
+    }
+
+    /**
+     * Bulk.Result object
+     * <p>
+     * Attributes:
+     * entities [list of created objects]: created entities, in the same order as the submitted items. Items of failed chunks are null
+     * failures [list of Bulk.Failure objects]: chunks that could not be created, in the same order as the submitted items
+     */
+    public static final class Result<T> {
+        public final List<T> entities;
+        public final List<Failure> failures;
+
+        Result(List<T> entities, List<Failure> failures) {
+            this.entities = entities;
+            this.failures = failures;
+        }
+
+        public boolean isSuccessful() {
+            return failures.isEmpty();
+        }
+
+        /**
+         * Retrieve the created entities, skipping the items of failed chunks
+         * <p>
+         * Return:
+         * @return list of created objects
+         */
+        public List<T> created() {
+            List<T> created = new ArrayList<>();
+            for (T entity : entities) {
+                if (entity != null) {
+                    created.add(entity);
+                }
+            }
+            return created;
+        }
+    }
+
+    /**
+     * Bulk.Failure object
+     * <p>
+     * Attributes:
+     * fromIndex [integer]: index of the first submitted item of the failed chunk, inclusive. ex: 200
+     * toIndex [integer]: index of the last submitted item of the failed chunk, exclusive. ex: 300
+     * items [list]: submitted items of the failed chunk, which may be fixed and submitted again
+     * error [Exception]: error raised by the chunk creation, such as InputErrors
+     */
+    public static final class Failure {
+        public final int fromIndex;
+        public final int toIndex;
+        public final List<?> items;
+        public final Exception error;
+
+        Failure(int fromIndex, int toIndex, List<?> items, Exception error) {
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.items = items;
+            this.error = error;
+        }
+
+        public String toString() {
+            return "Failure(fromIndex=" + fromIndex + ", toIndex=" + toIndex + ", error=" + error + ")";
+        }
+    }
+
+    /**
+     * Create entities in chunks
+     * <p>
+     * Parameters:
+     * @param items [list of objects or HashMaps]: items accepted by the create function. ex: transfers
+     * @param creator [Bulk.Creator]: list create function of the resource. ex: Transfer::create
+     * <p>
+     * Return:
+     * @return Bulk.Result object
+     * @throws Exception invalid parameters
+     */
+    public static <T> Result<T> create(List<?> items, Creator<T> creator) throws Exception {
+        return create(items, creator, defaultChunkSize, defaultParallelism, null);
+    }
+
+    /**
+     * Create entities in chunks
+     * <p>
+     * Parameters:
+     * @param items [list of objects or HashMaps]: items accepted by the create function. ex: transfers
+     * @param creator [Bulk.Creator]: list create function of the resource. ex: Transfer::create
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.Settings.user was set before function call
+     * <p>
+     * Return:
+     * @return Bulk.Result object
+     * @throws Exception invalid parameters
+     */
+    public static <T> Result<T> create(List<?> items, Creator<T> creator, User user) throws Exception {
+        return create(items, creator, defaultChunkSize, defaultParallelism, user);
+    }
+
+    /**
+     * Create entities in chunks
+     * <p>
+     * Parameters:
+     * @param items [list of objects or HashMaps]: items accepted by the create function. ex: transfers
+     * @param creator [Bulk.Creator]: list create function of the resource. ex: Transfer::create
+     * @param chunkSize [integer]: maximum number of items sent in each request. ex: 100
+     * @param parallelism [integer]: maximum number of requests in flight at once. ex: 4
+     * @param user [Organization/Project object]: Organization or Project object. Not necessary if starkbank.Settings.user was set before function call
+     * <p>
+     * Return:
+     * @return Bulk.Result object
+     * @throws Exception invalid parameters
+     */
+    public static <T> Result<T> create(List<?> items, Creator<T> creator, int chunkSize, int parallelism, User user) throws Exception {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be greater than 0");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than 0");
+        }
+        int chunkCount = (items.size() + chunkSize - 1) / chunkSize;
+        List<List<T>> chunkEntities = new ArrayList<>(Collections.nCopies(chunkCount, null));
+        Failure[] chunkFailures = new Failure[chunkCount];
+        AtomicInteger nextChunk = new AtomicInteger();
+
+        Runnable worker = () -> {
+            int chunk;
+            while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+                int fromIndex = chunk * chunkSize;
+                int toIndex = Math.min(fromIndex + chunkSize, items.size());
+                List<?> chunkItems = items.subList(fromIndex, toIndex);
+                try {
+                    chunkEntities.set(chunk, creator.create(chunkItems, user));
+                } catch (Exception e) {
+                    chunkFailures[chunk] = new Failure(fromIndex, toIndex, new ArrayList<>(chunkItems), e);
+                }
+            }
+        };
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < Math.min(parallelism, chunkCount) - 1; i++) {
+            workers.add(CompletableFuture.runAsync(worker, ThreadPool.shared()));
+        }
+        if (chunkCount > 0) {
+            worker.run();
+        }
+        CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0])).join();
+
+        List<T> entities = new ArrayList<>(items.size());
+        List<Failure> failures = new ArrayList<>();
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            Failure failure = chunkFailures[chunk];
+            if (failure != null) {
+                failures.add(failure);
+                entities.addAll(Collections.nCopies(failure.toIndex - failure.fromIndex, null));
+                continue;
+            }
+            entities.addAll(chunkEntities.get(chunk));
+        }
+        return new Result<>(entities, failures);
+    }
+}
@@ -0,0 +1,115 @@
+package com.starkbank.utils;
+
+import com.starkbank.Settings;
+import com.starkbank.User;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * Collects the metrics of a call while it goes through signing, the HTTP attempts and decoding,
+ * and reports them once to the MetricsListener of its user.
+ *
+ * Timers are only created when a listener is set, and are attached to the OkHttp requests as
+ * tags, so that the EventListener created for each attempt can find them.
+ */
+final class CallTimer {
+
+    static final EventListener.Factory listenerFactory = call -> {
+        CallTimer timer = call.request().tag(CallTimer.class);
+        return timer == null ? EventListener.NONE : timer.new AttemptListener();
+    };
+
+    static final MetricsListener none = metrics -> {};
+
+    private final MetricsListener listener;
+    private final String resource;
+    private final String method;
+    private final String path;
+    private final long start = System.nanoTime();
+    private volatile int status = 0;
+    private volatile int attempts = 0;
+    private volatile long bytesSent = 0;
+    private volatile long bytesReceived = -1;
+    private volatile long signNanos = 0;
+    private volatile long connectNanos = 0;
+    private volatile long firstByteNanos = 0;
+    private final AtomicBoolean reported = new AtomicBoolean(false);
+
+    private CallTimer(MetricsListener listener, String resource, String method, String path) {
+        this.listener = listener;
+        this.resource = resource;
+        this.method = method;
+        this.path = path;
+    }
+
+    // null if no listener is set for the user, so calls without metrics are not timed
+    static CallTimer start(User user, String resource, String method, String path) {
+        MetricsListener listener = user.metricsListener != null ? user.metricsListener : Settings.metricsListener;
+        if (listener == null || listener == none) {
+            return null;
+        }
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        if (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        return new CallTimer(listener, resource, method, path);
+    }
+
+    void attempt(long bytesSent) {
+        this.attempts++;
+        this.bytesSent = bytesSent;
+    }
+
+    void signed(long nanos) {
+        this.signNanos += nanos;
+    }
+
+    void received(int status, long bytesReceived) {
+        this.status = status;
+        this.bytesReceived = bytesReceived;
+    }
+
+    void report(long decodeNanos, Throwable error) {
+        if (!reported.compareAndSet(false, true)) {
+            return;
+        }
+        RequestMetrics metrics = new RequestMetrics(resource, method, path, status, attempts, bytesSent,
+                bytesReceived, signNanos, connectNanos, firstByteNanos, decodeNanos, System.nanoTime() - start, error);
+        try {
+            listener.onRequest(metrics);
+        } catch (RuntimeException ignored) {
+        }
+    }
+
+    private final class AttemptListener extends EventListener {
+        private long callStart;
+        private long requestStart;
+
+        @Override
+        public void callStart(Call call) {
+            callStart = System.nanoTime();
+        }
+
+        @Override
+        public void connectionAcquired(Call call, Connection connection) {
+            connectNanos = System.nanoTime() - callStart;
+        }
+
+        @Override
+        public void requestHeadersStart(Call call) {
+            requestStart = System.nanoTime();
+        }
+
+        @Override
+        public void responseHeadersStart(Call call) {
+            firstByteNanos = System.nanoTime() - requestStart;
+        }
+    }
+}
@@ -9,15 +9,20 @@ import java.util.Arrays;
 
 public final class Check {
     public static String key(String key) throws Exception {
+        privateKey(key);
+        return key;
+    }
+
+    public static PrivateKey privateKey(String key) throws Exception {
         try {
             PrivateKey privateKey = PrivateKey.fromPem(key);
             if (!privateKey.curve.name.equals("secp256k1")) {
                 throw new Exception();
             }
+            return privateKey;
         } catch (Exception e) {
             throw new Exception("private_key must be valid secp256k1 ECDSA string in pem format");
         }
-        return key;
     }
 
     public static String environment(String environment) throws Exception {
@@ -30,7 +35,7 @@ public final class Check {
         );
     }
 
-    static User user(User user) throws Error {
+    public static User user(User user) throws Error {
         if (user == null) {
             user = Settings.user;
         }
@@ -41,8 +46,11 @@ public final class Check {
     }
 
     public static String language() throws Exception {
+        return language(Settings.language);
+    }
+
+    public static String language(String language) throws Exception {
         String[] validLanguages = {"en-US", "pt-BR"};
-        String language = Settings.language;
         if (Arrays.asList(validLanguages).contains(language)){
             return language;
         }
@@ -0,0 +1,41 @@
+package com.starkbank.utils;
+
+
+/**
+ * Checkpoint object
+ * <p>
+ * Position of a query pagination, from which a PageGenerator can resume without requesting
+ * the pages that were already consumed. The page being consumed when the checkpoint was taken
+ * is requested again and its first offset entities are skipped.
+ * <p>
+ * Attributes:
+ * cursor [string]: cursor used to request the page being consumed. null for the first page. ex: "eyJmaWVsZCI6..."
+ * offset [integer]: number of entities of that page already returned. ex: 35
+ * position [long]: total number of entities already returned by the query. ex: 3000035
+ */
+public final class Checkpoint {
+    public final String cursor;
+    public final int offset;
+    public final long position;
+
+    /**
+     * Checkpoint object
+     * <p>
+     * Parameters:
+     * @param cursor [string]: cursor used to request the page being consumed. null for the first page. ex: "eyJmaWVsZCI6..."
+     * @param offset [integer]: number of entities of that page already returned. ex: 35
+     * @param position [long]: total number of entities already returned by the query. ex: 3000035
+     */
+    public Checkpoint(String cursor, int offset, long position) {
+        if (offset < 0 || position < offset) {
+            throw new IllegalArgumentException("checkpoint offset must be between 0 and position");
+        }
+        this.cursor = cursor;
+        this.offset = offset;
+        this.position = position;
+    }
+
+    public String toString() {
+        return GsonEvent.getInstance().toJson(this);
+    }
+}
@@ -0,0 +1,21 @@
+package com.starkbank.utils;
+
+
+/**
+ * Persists the Checkpoints of query paginations, so that they can be resumed after a failure.
+ *
+ * PageGenerator.checkpoint(store, key) loads the checkpoint saved under the key when a pagination
+ * starts, saves a new one each time a page is fully consumed and deletes it once the pagination
+ * is complete. Implementations may be shared by concurrent queries with different keys, so they
+ * must be thread-safe.
+ *
+ * Available implementations:
+ * FileCheckpointStore: one JSON file per key in a local directory
+ */
+public interface CheckpointStore {
+    Checkpoint load(String key) throws Exception;
+
+    void save(String key, Checkpoint checkpoint) throws Exception;
+
+    void delete(String key) throws Exception;
+}
@@ -7,19 +7,25 @@ import retrofit2.http.*;
 
 import java.util.Map;
 
+// responses are not buffered by Retrofit: their bodies are read from the connection and must be closed
 interface ClientService {
     @GET
-    Call<ResponseBody> get(@retrofit2.http.Url String path, @HeaderMap Map<String, String> headers);
+    @Streaming
+    Call<ResponseBody> get(@retrofit2.http.Url String path, @HeaderMap Map<String, String> headers, @Tag CallTimer timer);
 
     @POST
-    Call<ResponseBody> post(@retrofit2.http.Url String path, @Body RequestBody body, @HeaderMap Map<String, String> headers);
+    @Streaming
+    Call<ResponseBody> post(@retrofit2.http.Url String path, @Body RequestBody body, @HeaderMap Map<String, String> headers, @Tag CallTimer timer);
 
     @PUT
-    Call<ResponseBody> put(@retrofit2.http.Url String path, @Body RequestBody body, @HeaderMap Map<String, String> headers);
+    @Streaming
+    Call<ResponseBody> put(@retrofit2.http.Url String path, @Body RequestBody body, @HeaderMap Map<String, String> headers, @Tag CallTimer timer);
 
     @PATCH
-    Call<ResponseBody> patch(@retrofit2.http.Url String path, @Body RequestBody body, @HeaderMap Map<String, String> headers);
+    @Streaming
+    Call<ResponseBody> patch(@retrofit2.http.Url String path, @Body RequestBody body, @HeaderMap Map<String, String> headers, @Tag CallTimer timer);
 
     @DELETE
-    Call<ResponseBody> delete(@retrofit2.http.Url String path, @HeaderMap Map<String, String> headers);
+    @Streaming
+    Call<ResponseBody> delete(@retrofit2.http.Url String path, @HeaderMap Map<String, String> headers, @Tag CallTimer timer);
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.starkbank.utils;
+
+import com.starkbank.ellipticcurve.Curve;
+import com.starkbank.ellipticcurve.Math;
+import com.starkbank.ellipticcurve.Point;
+import com.starkbank.ellipticcurve.PrivateKey;
+import com.starkbank.ellipticcurve.Signature;
+import com.starkbank.ellipticcurve.utils.RandomInteger;
+
+import java.math.BigInteger;
+
+
+/**
+ * RequestSigner that reproduces Ecdsa.sign from the starkbank-ecdsa library over an
+ * already computed digest. It supports any curve of the library, at the library's speed.
+ */
+public final class EcdsaSigner implements RequestSigner {
+
+    @Override
+    public String sign(byte[] digest, PrivateKey privateKey) {
+        Curve curve = privateKey.curve;
+        BigInteger numberMessage = new BigInteger(1, digest);
+        BigInteger randNum = RandomInteger.between(BigInteger.ONE, curve.N);
+        Point randSignPoint = Math.multiply(curve.G, randNum, curve.N, curve.A, curve.P);
+        BigInteger r = randSignPoint.x.mod(curve.N);
+        BigInteger s = numberMessage.add(r.multiply(privateKey.secret)).multiply(Math.inv(randNum, curve.N)).mod(curve.N);
+        return new Signature(r, s).toBase64();
+    }
+}
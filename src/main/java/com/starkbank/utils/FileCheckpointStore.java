@@ -0,0 +1,67 @@
+package com.starkbank.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.regex.Pattern;
+
+
+/**
+ * FileCheckpointStore object
+ * <p>
+ * CheckpointStore that keeps each checkpoint as a JSON file named after its key in a local directory.
+ * Files are replaced atomically, so a crash while saving leaves the previous checkpoint in place.
+ */
+public final class FileCheckpointStore implements CheckpointStore {
+
+    private static final Pattern keyPattern = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private final Path directory;
+
+    /**
+     * FileCheckpointStore object
+     * <p>
+     * Parameters:
+     * @param directory [Path]: directory where the checkpoint files are kept. It is created if it does not exist. ex: Paths.get("checkpoints")
+     */
+    public FileCheckpointStore(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public Checkpoint load(String key) throws Exception {
+        try {
+            String content = new String(Files.readAllBytes(file(key)), StandardCharsets.UTF_8);
+            return GsonEvent.getInstance().fromJson(content, Checkpoint.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void save(String key, Checkpoint checkpoint) throws Exception {
+        Path file = file(key);
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, key, ".tmp");
+        try {
+            Files.write(temporary, checkpoint.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws Exception {
+        Files.deleteIfExists(file(key));
+    }
+
+    private Path file(String key) {
+        if (key == null || !keyPattern.matcher(key).matches()) {
+            throw new IllegalArgumentException("checkpoint keys may only contain letters, digits, \".\", \"_\" and \"-\"");
+        }
+        return directory.resolve(key + ".json");
+    }
+}
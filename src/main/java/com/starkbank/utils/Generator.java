@@ -2,6 +2,8 @@ package com.starkbank.utils;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Created by Michael Herrmann, 2014 (MIT License)
@@ -12,8 +14,9 @@ import java.util.NoSuchElementException;
  * a machine with a dual core i5 CPU @ 2.67 GHz, 1000 items can be produced in
  * less than 0.03s.
  *
- * By overriding finalize(), the class takes care not to leave any Threads
- * running longer than necessary.
+ * Subclasses that can produce their items on the consumer's own thread (such as
+ * PageGenerator) override iterator() instead, in which case no producer Thread
+ * is ever started.
  */
 public abstract class Generator<T> implements Iterable<T> {
 
@@ -82,6 +85,16 @@ public abstract class Generator<T> implements Iterable<T> {
         };
     }
 
+    /**
+     * Stream the generated elements
+     * <p>
+     * Return:
+     * @return sequential Stream of the generated elements
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
     protected abstract void run() throws Exception;
 
     protected void yield(T element) throws InterruptedException {
@@ -95,7 +108,7 @@ public abstract class Generator<T> implements Iterable<T> {
         assert producer == null;
         if (THREAD_GROUP == null)
             THREAD_GROUP = new ThreadGroup("generatorfunctions");
-        producer = new Thread(THREAD_GROUP, new Runnable() {
+        producer = ThreadPool.producer(THREAD_GROUP, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -113,15 +126,6 @@ public abstract class Generator<T> implements Iterable<T> {
                 itemAvailableOrHasFinished.set();
             }
         });
-        producer.setDaemon(true);
         producer.start();
     }
-
-    @SuppressWarnings("deprecation")
-    @Override
-    protected void finalize() throws Throwable {
-        producer.interrupt();
-        producer.join();
-        super.finalize();
-    }
 }
@@ -6,19 +6,25 @@ import com.starkbank.Event;
 import com.starkbank.PaymentRequest;
 
 
-class GsonEvent {
-     private static Gson instance;
+public final class GsonEvent {
+     private static final Gson instance = new GsonBuilder()
+             .registerTypeAdapterFactory(new Event.AdapterFactory())
+             .registerTypeAdapter(PaymentRequest.class, new PaymentRequest.Deserializer())
+             .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSSSSZ")
+             .create();
+     private static final Gson prettyInstance = instance.newBuilder()
+             .setPrettyPrinting()
+             .create();
 
      private GsonEvent() {}
 
-     public static synchronized Gson getInstance()
+     public static Gson getInstance()
      {
-         if(instance == null)
-             instance = new GsonBuilder()
-                     .registerTypeAdapter(Event.class, new Event.Deserializer())
-                     .registerTypeAdapter(PaymentRequest.class, new PaymentRequest.Deserializer())
-                     .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSSSSZ")
-                     .create();
          return instance;
      }
+
+     public static Gson getPrettyInstance()
+     {
+         return prettyInstance;
+     }
 }
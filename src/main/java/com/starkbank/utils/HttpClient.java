@@ -1,44 +1,258 @@
 package com.starkbank.utils;
 
 import com.starkbank.User;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import retrofit2.Retrofit;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 
-final class HttpClient {
-    private static ClientService productionInstance;
-    private static ClientService sandboxInstance;
+public final class HttpClient {
+    // read without locking on every request, written only while holding the class lock
+    private static volatile Instance productionInstance;
+    private static volatile Instance sandboxInstance;
+    private static Config productionConfig = new Config();
+    private static Config sandboxConfig = new Config();
     private static final String version = "v2/";
 
     private HttpClient() {}
 
-    public static synchronized ClientService getProjectInstance(User user) throws Exception {
-        switch (user.environment)
+    /**
+     * HttpClient.Config object
+     * <p>
+     * Connection pool, dispatcher and timeout settings of the HTTP client used to reach the Stark Bank API.
+     * Changes only take effect once passed to HttpClient.configure.
+     * <p>
+     * Attributes:
+     * maxIdleConnections [integer, default 5]: maximum number of idle connections kept alive in the pool. ex: 50
+     * keepAliveDuration [long, default 300]: seconds an idle connection is kept in the pool before being closed. ex: 600
+     * connectTimeout [long, default 30]: seconds to wait for a new connection to be established. 0 means no timeout. ex: 10
+     * readTimeout [long, default 30]: seconds to wait for data on an open connection. 0 means no timeout. ex: 60
+     * writeTimeout [long, default 10]: seconds to wait while writing the request body. 0 means no timeout. ex: 10
+     * callTimeout [long, default 0]: seconds allowed for a complete call, including redirects and retries. 0 means no timeout. ex: 90
+     * maxRequests [integer, default 64]: maximum number of asynchronous requests executed concurrently. ex: 256
+     * maxRequestsPerHost [integer, default 5]: maximum number of asynchronous requests executed concurrently on the API host. ex: 256
+     */
+    public static final class Config {
+        public int maxIdleConnections = 5;
+        public long keepAliveDuration = 300;
+        public long connectTimeout = 30;
+        public long readTimeout = 30;
+        public long writeTimeout = 10;
+        public long callTimeout = 0;
+        public int maxRequests = 64;
+        public int maxRequestsPerHost = 5;
+
+        public Config() {}
+
+        Config(Config config) {
+            this.maxIdleConnections = config.maxIdleConnections;
+            this.keepAliveDuration = config.keepAliveDuration;
+            this.connectTimeout = config.connectTimeout;
+            this.readTimeout = config.readTimeout;
+            this.writeTimeout = config.writeTimeout;
+            this.callTimeout = config.callTimeout;
+            this.maxRequests = config.maxRequests;
+            this.maxRequestsPerHost = config.maxRequestsPerHost;
+        }
+    }
+
+    /**
+     * HttpClient.Stats object
+     * <p>
+     * Snapshot of the connection pool and dispatcher utilization of an environment's HTTP client.
+     * <p>
+     * Attributes:
+     * connectionCount [integer]: total number of open connections in the pool. ex: 12
+     * idleConnectionCount [integer]: number of open connections currently idle in the pool. ex: 4
+     * maxIdleConnections [integer]: configured maximum of idle connections. ex: 5
+     * runningCallsCount [integer]: number of asynchronous calls currently executing. ex: 8
+     * queuedCallsCount [integer]: number of asynchronous calls waiting for a dispatcher slot. ex: 0
+     * maxRequests [integer]: configured maximum of concurrent asynchronous calls. ex: 64
+     */
+    public static final class Stats {
+        public final int connectionCount;
+        public final int idleConnectionCount;
+        public final int maxIdleConnections;
+        public final int runningCallsCount;
+        public final int queuedCallsCount;
+        public final int maxRequests;
+
+        Stats(int connectionCount, int idleConnectionCount, int maxIdleConnections, int runningCallsCount,
+              int queuedCallsCount, int maxRequests) {
+            this.connectionCount = connectionCount;
+            this.idleConnectionCount = idleConnectionCount;
+            this.maxIdleConnections = maxIdleConnections;
+            this.runningCallsCount = runningCallsCount;
+            this.queuedCallsCount = queuedCallsCount;
+            this.maxRequests = maxRequests;
+        }
+
+        public String toString() {
+            return "Stats(connectionCount=" + connectionCount + ", idleConnectionCount=" + idleConnectionCount
+                    + ", maxIdleConnections=" + maxIdleConnections + ", runningCallsCount=" + runningCallsCount
+                    + ", queuedCallsCount=" + queuedCallsCount + ", maxRequests=" + maxRequests + ")";
+        }
+    }
+
+    /**
+     * HttpClient.Instance object
+     * <p>
+     * HTTP client of an environment, with its own connection pool and dispatcher.
+     * Created by HttpClient.newInstance to be used by a single StarkBankClient or User instead of the
+     * client shared by the environment.
+     */
+    public static final class Instance {
+        final String environment;
+        final ClientService service;
+        final OkHttpClient client;
+        final Config config;
+
+        Instance(String environment, ClientService service, OkHttpClient client, Config config) {
+            this.environment = environment;
+            this.service = service;
+            this.client = client;
+            this.config = config;
+        }
+    }
+
+    /**
+     * Create a dedicated HTTP client
+     * <p>
+     * Build an HTTP client that is not shared with the other users of the environment and is not
+     * affected by HttpClient.configure. Set it as User.httpClient or use it through a StarkBankClient.
+     * <p>
+     * Parameters:
+     * @param environment [string]: environment reached by the client. ex: "sandbox" or "production"
+     * @param config [HttpClient.Config object]: settings of the client. ex: new HttpClient.Config()
+     * <p>
+     * Return:
+     * @return HttpClient.Instance object
+     * @throws Exception invalid environment
+     */
+    public static Instance newInstance(String environment, Config config) throws Exception {
+        return makeInstance(Check.environment(environment), new Config(config));
+    }
+
+    /**
+     * Configure the HTTP client of an environment
+     * <p>
+     * Replace the connection pool, dispatcher and timeout settings used for requests to the given environment.
+     * Requests already in flight finish on the previous client, whose idle connections are released.
+     * <p>
+     * Parameters:
+     * @param environment [string]: environment to be configured. ex: "sandbox" or "production"
+     * @param config [HttpClient.Config object]: settings to be applied. ex: new HttpClient.Config()
+     * @throws Exception invalid environment
+     */
+    public static synchronized void configure(String environment, Config config) throws Exception {
+        Config configCopy = new Config(config);
+        Instance previous;
+        switch (Check.environment(environment))
         {
             case "production":
-                if(productionInstance == null)
-                    productionInstance = makeInstance("https://api.starkbank.com/");
-                return productionInstance;
+                productionConfig = configCopy;
+                previous = productionInstance;
+                productionInstance = null;
+                break;
+            default:
+                sandboxConfig = configCopy;
+                previous = sandboxInstance;
+                sandboxInstance = null;
+                break;
+        }
+        if (previous != null)
+            previous.client.connectionPool().evictAll();
+    }
+
+    /**
+     * Retrieve HTTP client utilization
+     * <p>
+     * Receive a snapshot of the connection pool and dispatcher utilization of an environment.
+     * <p>
+     * Parameters:
+     * @param environment [string]: environment to be inspected. ex: "sandbox" or "production"
+     * <p>
+     * Return:
+     * @return HttpClient.Stats object
+     * @throws Exception invalid environment
+     */
+    public static Stats stats(String environment) throws Exception {
+        Instance instance = getInstance(Check.environment(environment));
+        ConnectionPool pool = instance.client.connectionPool();
+        Dispatcher dispatcher = instance.client.dispatcher();
+        return new Stats(
+            pool.connectionCount(),
+            pool.idleConnectionCount(),
+            instance.config.maxIdleConnections,
+            dispatcher.runningCallsCount(),
+            dispatcher.queuedCallsCount(),
+            dispatcher.getMaxRequests()
+        );
+    }
+
+    static ClientService getProjectInstance(User user) throws Exception {
+        Instance instance = user.httpClient;
+        if (instance != null) {
+            if (!instance.environment.equals(user.environment)) {
+                throw new Exception("User environment " + user.environment + " does not match its HTTP client environment " + instance.environment);
+            }
+            return instance.service;
+        }
+        return getInstance(user.environment).service;
+    }
+
+    private static Instance getInstance(String environment) throws Exception {
+        Instance instance;
+        switch (environment)
+        {
+            case "production":
+                instance = productionInstance;
+                break;
             case "sandbox":
-                if(sandboxInstance == null)
-                    sandboxInstance = makeInstance("https://sandbox.api.starkbank.com/");
-                return sandboxInstance;
+                instance = sandboxInstance;
+                break;
             default:
-                throw new Exception("Unexpected environment: " + user.environment);
+                throw new Exception("Unexpected environment: " + environment);
+        }
+        if (instance != null)
+            return instance;
+        return createInstance(environment);
+    }
+
+    private static synchronized Instance createInstance(String environment) {
+        if (environment.equals("production")) {
+            if (productionInstance == null)
+                productionInstance = makeInstance("production", productionConfig);
+            return productionInstance;
         }
+        if (sandboxInstance == null)
+            sandboxInstance = makeInstance("sandbox", sandboxConfig);
+        return sandboxInstance;
     }
 
-    private static ClientService makeInstance(String baseUrl)
+    private static Instance makeInstance(String environment, Config config)
     {
+        String baseUrl = environment.equals("production") ? "https://api.starkbank.com/" : "https://sandbox.api.starkbank.com/";
+        ExecutorService executor = ThreadPool.virtualExecutor("starkbank-http");
+        Dispatcher dispatcher = executor != null ? new Dispatcher(executor) : new Dispatcher();
+        dispatcher.setMaxRequests(config.maxRequests);
+        dispatcher.setMaxRequestsPerHost(config.maxRequestsPerHost);
         OkHttpClient client = new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
+                .connectionPool(new ConnectionPool(config.maxIdleConnections, config.keepAliveDuration, TimeUnit.SECONDS))
+                .dispatcher(dispatcher)
+                .connectTimeout(config.connectTimeout, TimeUnit.SECONDS)
+                .readTimeout(config.readTimeout, TimeUnit.SECONDS)
+                .writeTimeout(config.writeTimeout, TimeUnit.SECONDS)
+                .callTimeout(config.callTimeout, TimeUnit.SECONDS)
+                .eventListenerFactory(CallTimer.listenerFactory)
                 .build();
         Retrofit retrofit = new Retrofit.Builder()
                 .baseUrl(baseUrl + version)
                 .client(client).build();
-        return retrofit.create(ClientService.class);
+        return new Instance(environment, retrofit.create(ClientService.class), client, config);
     }
 }
@@ -0,0 +1,157 @@
+package com.starkbank.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * LatencyHistogram object
+ * <p>
+ * Fixed-size histogram of non-negative values, such as latencies in nanoseconds, with the same
+ * log-linear bucketing as HdrHistogram: values up to 127 are counted exactly, and larger ones in
+ * buckets that are at most 1/64 of their value wide, so percentiles are within 1.6% of the
+ * recorded values. Recording takes no lock and allocates nothing, and copies can be taken while
+ * other threads keep recording.
+ * <p>
+ * Negative values are recorded as 0.
+ */
+public final class LatencyHistogram {
+
+    private static final int subBucketBits = 7;
+    private static final int subBucketCount = 1 << subBucketBits;
+    private static final int subBucketHalf = subBucketCount / 2;
+    private static final int bucketCount = subBucketCount + (63 - subBucketBits) * subBucketHalf;
+
+    private final AtomicLongArray counts;
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(0);
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(bucketCount);
+    }
+
+    private LatencyHistogram(AtomicLongArray counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * Record a value
+     * <p>
+     * Parameters:
+     * @param value [long]: value to be recorded. ex: 125000000
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts.incrementAndGet(index(value));
+        sum.add(value);
+        long current;
+        while (value < (current = min.get()) && !min.compareAndSet(current, value)) {
+        }
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+        }
+    }
+
+    /**
+     * Copy the histogram
+     * <p>
+     * Return:
+     * @return LatencyHistogram object with the values recorded so far, unaffected by later records
+     */
+    public LatencyHistogram copy() {
+        AtomicLongArray copy = new AtomicLongArray(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            copy.set(i, counts.get(i));
+        }
+        LatencyHistogram histogram = new LatencyHistogram(copy);
+        histogram.sum.add(sum.sum());
+        histogram.min.set(min.get());
+        histogram.max.set(max.get());
+        return histogram;
+    }
+
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    public long min() {
+        long value = min.get();
+        return value == Long.MAX_VALUE ? 0 : value;
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public double mean() {
+        long count = count();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * Value at a percentile
+     * <p>
+     * Parameters:
+     * @param percentile [double]: percentile between 0 and 100. ex: 99.9
+     * <p>
+     * Return:
+     * @return highest value of the bucket that holds the percentile, or 0 if nothing was recorded
+     */
+    public long valueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100, received " + percentile);
+        }
+        long[] snapshot = new long[bucketCount];
+        long count = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(highestValue(i), max());
+            }
+        }
+        return max();
+    }
+
+    // values below 128 have their own bucket, larger ones keep their 7 highest bits
+    private static int index(long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - (subBucketBits - 1);
+        int top = (int) (value >>> shift);
+        return subBucketCount + (exponent - subBucketBits) * subBucketHalf + (top - subBucketHalf);
+    }
+
+    private static long highestValue(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        int exponent = subBucketBits + (index - subBucketCount) / subBucketHalf;
+        int shift = exponent - (subBucketBits - 1);
+        long top = subBucketHalf + (index - subBucketCount) % subBucketHalf;
+        return (top << shift) + (1L << shift) - 1;
+    }
+
+    public String toString() {
+        return "LatencyHistogram(count=" + count() + ", min=" + min() + ", p50=" + valueAtPercentile(50)
+                + ", p90=" + valueAtPercentile(90) + ", p99=" + valueAtPercentile(99)
+                + ", p999=" + valueAtPercentile(99.9) + ", max=" + max() + ")";
+    }
+}
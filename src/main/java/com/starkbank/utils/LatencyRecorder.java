@@ -0,0 +1,148 @@
+package com.starkbank.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * LatencyRecorder object
+ * <p>
+ * MetricsListener that keeps, for each resource and HTTP method, the number of requests, errors
+ * and bytes transferred and a LatencyHistogram of each request phase, in nanoseconds.
+ * Recording takes no lock, so a single recorder can be shared by all users and threads.
+ * Requests whose response is not decoded by a resource function are keyed by the first segment
+ * of their path, so ids in the path do not create new entries.
+ * <p>
+ * ex: Settings.metricsListener = new LatencyRecorder();
+ */
+public final class LatencyRecorder implements MetricsListener {
+
+    private final ConcurrentHashMap<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+    public LatencyRecorder() {}
+
+    /**
+     * LatencyRecorder.Snapshot object
+     * <p>
+     * Copy of the metrics recorded for a resource and HTTP method.
+     * <p>
+     * Attributes:
+     * resource [string]: name of the resource, or the first segment of the requested path if the responses were not decoded by a resource function. ex: "Transfer"
+     * method [string]: HTTP method. ex: "POST"
+     * requests [long]: number of calls. ex: 1500
+     * errors [long]: number of calls that failed. ex: 3
+     * bytesSent [long]: total size of the request bodies. ex: 2048000
+     * bytesReceived [long]: total size of the response bodies whose size was known. ex: 30720000
+     * total [LatencyHistogram object]: nanoseconds from the start of each call until it was decoded or failed
+     * sign [LatencyHistogram object]: nanoseconds spent signing each call
+     * connect [LatencyHistogram object]: nanoseconds until a connection was acquired by the last attempt of each call that received a response
+     * firstByte [LatencyHistogram object]: nanoseconds from sending the request headers until the response headers started to arrive, for each call that received a response
+     * decode [LatencyHistogram object]: nanoseconds spent decoding each response into entities
+     */
+    public static final class Snapshot {
+        public final String resource;
+        public final String method;
+        public final long requests;
+        public final long errors;
+        public final long bytesSent;
+        public final long bytesReceived;
+        public final LatencyHistogram total;
+        public final LatencyHistogram sign;
+        public final LatencyHistogram connect;
+        public final LatencyHistogram firstByte;
+        public final LatencyHistogram decode;
+
+        private Snapshot(Recorder recorder) {
+            this.resource = recorder.resource;
+            this.method = recorder.method;
+            this.requests = recorder.requests.sum();
+            this.errors = recorder.errors.sum();
+            this.bytesSent = recorder.bytesSent.sum();
+            this.bytesReceived = recorder.bytesReceived.sum();
+            this.total = recorder.total.copy();
+            this.sign = recorder.sign.copy();
+            this.connect = recorder.connect.copy();
+            this.firstByte = recorder.firstByte.copy();
+            this.decode = recorder.decode.copy();
+        }
+
+        public String toString() {
+            return "Snapshot(resource=" + resource + ", method=" + method + ", requests=" + requests
+                    + ", errors=" + errors + ", bytesSent=" + bytesSent + ", bytesReceived=" + bytesReceived
+                    + ", total=" + total + ")";
+        }
+    }
+
+    private static final class Recorder {
+        final String resource;
+        final String method;
+        final LongAdder requests = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder bytesSent = new LongAdder();
+        final LongAdder bytesReceived = new LongAdder();
+        final LatencyHistogram total = new LatencyHistogram();
+        final LatencyHistogram sign = new LatencyHistogram();
+        final LatencyHistogram connect = new LatencyHistogram();
+        final LatencyHistogram firstByte = new LatencyHistogram();
+        final LatencyHistogram decode = new LatencyHistogram();
+
+        Recorder(String resource, String method) {
+            this.resource = resource;
+            this.method = method;
+        }
+    }
+
+    @Override
+    public void onRequest(RequestMetrics metrics) {
+        String resource = metrics.resource != null ? metrics.resource : endpoint(metrics.path);
+        String key = resource + " " + metrics.method;
+        Recorder recorder = recorders.get(key);
+        if (recorder == null) {
+            recorder = recorders.computeIfAbsent(key, ignored -> new Recorder(resource, metrics.method));
+        }
+        recorder.requests.increment();
+        if (metrics.error != null) {
+            recorder.errors.increment();
+        }
+        recorder.bytesSent.add(metrics.bytesSent);
+        if (metrics.bytesReceived > 0) {
+            recorder.bytesReceived.add(metrics.bytesReceived);
+        }
+        recorder.total.record(metrics.totalNanos);
+        recorder.sign.record(metrics.signNanos);
+        // calls that received no response, such as timeouts, never measured these phases
+        if (metrics.status != 0) {
+            recorder.connect.record(metrics.connectNanos);
+            recorder.firstByte.record(metrics.firstByteNanos);
+        }
+        recorder.decode.record(metrics.decodeNanos);
+    }
+
+    private static String endpoint(String path) {
+        int slash = path.indexOf('/');
+        return slash < 0 ? path : path.substring(0, slash);
+    }
+
+    /**
+     * Take a snapshot of the recorded metrics
+     * <p>
+     * Return:
+     * @return map of "resource method" keys to LatencyRecorder.Snapshot objects, sorted by key. ex: "Transfer POST"
+     */
+    public Map<String, Snapshot> snapshot() {
+        Map<String, Snapshot> snapshots = new TreeMap<>();
+        for (Map.Entry<String, Recorder> entry : recorders.entrySet()) {
+            snapshots.put(entry.getKey(), new Snapshot(entry.getValue()));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Discard all the recorded metrics
+     */
+    public void reset() {
+        recorders.clear();
+    }
+}
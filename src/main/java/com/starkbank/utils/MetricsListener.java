@@ -0,0 +1,29 @@
+package com.starkbank.utils;
+
+
+/**
+ * Receives the metrics of each call made to the Stark Bank API.
+ *
+ * onRequest is called once per call, after its response has been decoded or it has failed, on the
+ * thread that completed it. It is called for every request made with a User, so implementations
+ * must be thread-safe and should return quickly. Exceptions thrown by it are ignored.
+ *
+ * Available implementations:
+ * LatencyRecorder: log-linear latency histograms per resource and method
+ */
+public interface MetricsListener {
+    void onRequest(RequestMetrics metrics);
+
+    /**
+     * Listener that collects no metrics
+     * <p>
+     * Set it on a User to turn metrics off for that user while Settings.metricsListener is set.
+     * Calls with it are not timed.
+     * <p>
+     * Return:
+     * @return MetricsListener object that ignores every call
+     */
+    static MetricsListener none() {
+        return CallTimer.none;
+    }
+}
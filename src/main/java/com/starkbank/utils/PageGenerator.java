@@ -0,0 +1,774 @@
+package com.starkbank.utils;
+
+import com.starkbank.Settings;
+import com.starkbank.User;
+import org.reactivestreams.Publisher;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * Generator that walks the cursor pagination of a resource on the consumer's own thread.
+ *
+ * Each call to iterator() starts a new pagination from the first page. By default,
+ * pages are requested only when the previous one has been fully consumed, so no
+ * producer Thread, wait/notify handoff or finalizer is involved.
+ *
+ * When prefetching is enabled (see prefetch(int) and Settings.queryPrefetch), up to
+ * that many pages are requested in the background ahead of the page being consumed.
+ *
+ * When slicing is enabled (see slice(int, boolean)), the after/before range is split into
+ * day ranges that are paginated in parallel, each with its own cursor.
+ *
+ * The spliterator() used by stream() splits at page boundaries: each split hands over the rest of
+ * the page being consumed, so parallel streams process received pages on the common pool while
+ * the next ones are requested.
+ *
+ * Paginations can be resumed from a Checkpoint (see resume(Checkpoint)), which may be persisted
+ * automatically at each page boundary by a CheckpointStore (see checkpoint(CheckpointStore, String)).
+ */
+public final class PageGenerator<T extends SubResource> extends Generator<T> {
+
+    private static final int maxPageLimit = 100;
+    private static final int slicePagesAhead = 4;
+
+    private final Resource.ClassData resource;
+    private final Map<String, Object> params;
+    private final User user;
+    private final boolean paginate;
+    private Integer prefetch = null;
+    private int slices = 1;
+    private boolean ordered = true;
+    private Checkpoint resume = null;
+    private CheckpointStore store = null;
+    private String key = null;
+    private Pagination<T> latest = null;
+
+    PageGenerator(Resource.ClassData resource, Map<String, Object> params, User user, boolean paginate) {
+        this.resource = resource;
+        this.params = params;
+        this.user = user;
+        this.paginate = paginate;
+    }
+
+    /**
+     * Enable background prefetching of the next pages
+     * <p>
+     * Parameters:
+     * @param pages [integer]: number of pages requested ahead of the page being consumed, which also bounds how many pages are buffered. 0 disables prefetching. ex: 2
+     * <p>
+     * Return:
+     * @return this generator, for chaining
+     */
+    public PageGenerator<T> prefetch(int pages) {
+        if (pages < 0) {
+            throw new IllegalArgumentException("prefetch pages must be greater than or equal to 0");
+        }
+        this.prefetch = pages;
+        return this;
+    }
+
+    /**
+     * Split the query into date slices paginated in parallel
+     * <p>
+     * The range between the "after" and "before" parameters, which must both be set, is split into
+     * up to the given number of consecutive day ranges, and each of them is queried at the same time
+     * with its own cursor. Each slice keeps up to 4 pages buffered ahead of the consumer.
+     * If a "limit" is set, it applies to the merged results.
+     * <p>
+     * Parameters:
+     * @param slices [integer]: maximum number of date ranges queried in parallel. 1 disables slicing. ex: 8
+     * @param ordered [boolean]: if true, entities are returned in the same order as the sequential query, most recent range first. If false, entities are returned as soon as any slice receives them. ex: false
+     * <p>
+     * Return:
+     * @return this generator, for chaining
+     */
+    public PageGenerator<T> slice(int slices, boolean ordered) {
+        if (slices < 1) {
+            throw new IllegalArgumentException("slices must be greater than 0");
+        }
+        if (slices > 1 && (params.get("after") == null || params.get("before") == null)) {
+            throw new IllegalArgumentException("sliced queries require both \"after\" and \"before\" parameters");
+        }
+        this.slices = slices;
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * Resume the pagination from a checkpoint
+     * <p>
+     * Pages before the checkpoint are not requested. The page being consumed when it was taken is
+     * requested again and the entities already returned from it are skipped. If a "limit" is set,
+     * the entities returned before the checkpoint count towards it. Not supported by sliced queries.
+     * <p>
+     * Parameters:
+     * @param checkpoint [Checkpoint object]: checkpoint previously taken from a pagination of the same query, or null to start from the first page. ex: generator.checkpoint()
+     * <p>
+     * Return:
+     * @return this generator, for chaining
+     */
+    public PageGenerator<T> resume(Checkpoint checkpoint) {
+        this.resume = checkpoint;
+        return this;
+    }
+
+    /**
+     * Persist the pagination checkpoints in a store
+     * <p>
+     * When a pagination starts, it resumes from the checkpoint saved under the key, if any. A new
+     * checkpoint is saved each time a page has been fully consumed, and it is deleted once the
+     * pagination is complete, so the next run of the query starts over. Not supported by sliced queries.
+     * <p>
+     * Parameters:
+     * @param store [CheckpointStore object]: store where the checkpoints are kept. ex: new FileCheckpointStore(Paths.get("checkpoints"))
+     * @param key [string]: identifies this query in the store. ex: "events-2023-01"
+     * <p>
+     * Return:
+     * @return this generator, for chaining
+     */
+    public PageGenerator<T> checkpoint(CheckpointStore store, String key) {
+        if (store != null && key == null) {
+            throw new IllegalArgumentException("a checkpoint key is required");
+        }
+        this.store = store;
+        this.key = key;
+        return this;
+    }
+
+    /**
+     * Current position of the latest pagination started by this generator
+     * <p>
+     * Should be called from the thread consuming the entities.
+     * <p>
+     * Return:
+     * @return Checkpoint object with the cursor of the page being consumed and the number of entities already returned, or null if no pagination was started
+     */
+    public Checkpoint checkpoint() {
+        Pagination<T> pagination = latest;
+        if (pagination instanceof PageGenerator.PageIterator) {
+            return ((PageIterator) pagination).checkpoint();
+        }
+        if (pagination != null) {
+            throw new IllegalStateException("checkpoints are not supported by sliced queries");
+        }
+        return null;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return pagination();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new PageSpliterator();
+    }
+
+    /**
+     * Stream the generated entities, splitting at page boundaries
+     * <p>
+     * Pages are only requested once the stream's terminal operation starts. Closing the stream, for
+     * example with try-with-resources, stops the pagination and cancels pending page requests.
+     * <p>
+     * Return:
+     * @return sequential Stream of the generated entities, which may be made parallel with parallel()
+     */
+    @Override
+    public Stream<T> stream() {
+        PageSpliterator spliterator = new PageSpliterator();
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::cancel);
+    }
+
+    /**
+     * Publish the generated entities to a Reactive Streams Subscriber
+     * <p>
+     * Each subscription paginates the query from the first page without blocking any thread. Pages are
+     * requested only while the subscriber's demand is not covered by the entities already received,
+     * and cancelling the subscription stops the pagination. Prefetching, slicing and checkpoints
+     * do not apply to the publisher.
+     * <p>
+     * Return:
+     * @return Publisher of the generated entities. ex: Flux.from(generator.publisher())
+     */
+    public Publisher<T> publisher() {
+        return new PagePublisher<>(resource, params, user, paginate);
+    }
+
+    private Pagination<T> pagination() {
+        if (paginate && slices > 1) {
+            if (resume != null || store != null) {
+                throw new IllegalArgumentException("checkpoints are not supported by sliced queries");
+            }
+            return latest = new SlicedIterator(sliceParams(), ordered);
+        }
+        int pages = prefetch != null ? prefetch : Settings.queryPrefetch;
+        if (!paginate) {
+            return latest = new PageIterator(0, null, null, null);
+        }
+        Checkpoint start = resume;
+        if (store != null) {
+            try {
+                Checkpoint stored = store.load(key);
+                if (stored != null) {
+                    start = stored;
+                }
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return latest = new PageIterator(pages, start, store, key);
+    }
+
+    private interface Pagination<T> extends Iterator<T> {
+        // hands over the entities left in the current page, which the iterator then skips
+        List<T> splitPage();
+
+        // stops the pagination, discarding pages that were already requested
+        void cancel();
+    }
+
+    private final class PageSpliterator implements Spliterator<T> {
+        private Pagination<T> pages;
+        private boolean cancelled = false;
+
+        // created on first use, so the pagination starts with the terminal operation
+        private synchronized Pagination<T> pages() {
+            if (pages == null && !cancelled) {
+                pages = pagination();
+            }
+            return pages;
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (pages != null) {
+                pages.cancel();
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Pagination<T> pages = pages();
+            if (pages == null || !pages.hasNext()) {
+                return false;
+            }
+            action.accept(pages.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Pagination<T> pages = pages();
+            while (pages != null && pages.hasNext()) {
+                action.accept(pages.next());
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Pagination<T> pages = pages();
+            List<T> page = pages == null ? Collections.<T>emptyList() : pages.splitPage();
+            if (page.isEmpty()) {
+                return null;
+            }
+            return Spliterators.spliterator(page, characteristics() | Spliterator.IMMUTABLE);
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            if (paginate && slices > 1 && !ordered) {
+                return Spliterator.NONNULL;
+            }
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+    }
+
+    @Override
+    protected void run() throws Exception {
+        for (T element : this) {
+            this.yield(element);
+        }
+    }
+
+    private static final class Chunk {
+        final String cursor;
+        final Page page;
+        final Integer limit;
+        final boolean last;
+
+        Chunk(String cursor, Page page, Integer limit, boolean last) {
+            this.cursor = cursor;
+            this.page = page;
+            this.limit = limit;
+            this.last = last;
+        }
+    }
+
+    private Chunk request(String cursor, Integer limit) throws Exception {
+        return request(params, cursor, limit);
+    }
+
+    private Chunk request(Map<String, Object> params, String cursor, Integer limit) throws Exception {
+        Map<String, Object> query = new HashMap<>(params);
+        if (paginate) {
+            query.put("cursor", cursor);
+            if (limit != null) {
+                query.put("limit", limit > maxPageLimit ? String.valueOf(maxPageLimit) : limit.toString());
+                limit -= maxPageLimit;
+            }
+        }
+        Page page = Rest.fetchPage(resource, query, user);
+        boolean last = !paginate || page.cursor == null || page.cursor.isEmpty() || (limit != null && limit <= 0);
+        return new Chunk(cursor, page, limit, last);
+    }
+
+    private Chunk requestFirst(Checkpoint start) throws Exception {
+        Integer limit = paginate ? (Integer) params.get("limit") : null;
+        if (start == null) {
+            return request(null, limit);
+        }
+        if (limit != null) {
+            // entities of the resumed page that are skipped are requested again
+            long remaining = limit - start.position + start.offset;
+            if (remaining <= start.offset) {
+                return null;
+            }
+            limit = (int) remaining;
+        }
+        return request(start.cursor, limit);
+    }
+
+    private Chunk requestNext(Chunk previous) throws Exception {
+        if (previous == null || previous.last) {
+            return null;
+        }
+        return request(previous.page.cursor, previous.limit);
+    }
+
+    private interface StoreOperation {
+        void run() throws Exception;
+    }
+
+    private interface ChunkRequest {
+        Chunk get() throws Exception;
+    }
+
+    private static Chunk complete(ChunkRequest request) {
+        try {
+            return request.get();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private final class PageIterator implements Pagination<T> {
+        private final int prefetch;
+        private final ArrayDeque<CompletableFuture<Chunk>> pending = new ArrayDeque<>();
+        private CompletableFuture<Chunk> tail;
+        private Chunk current;
+        private boolean finished = false;
+        private Iterator<SubResource> page = Collections.emptyIterator();
+        private T nextItem;
+        private final Checkpoint start;
+        private CheckpointStore store;
+        private final String key;
+        private String pageCursor;
+        private int offset = 0;
+        private long position = 0;
+        private int skip = 0;
+
+        PageIterator(int prefetch, Checkpoint start, CheckpointStore store, String key) {
+            this.prefetch = prefetch;
+            this.start = start;
+            this.store = store;
+            this.key = key;
+            if (start != null) {
+                pageCursor = start.cursor;
+                position = start.position - start.offset;
+                skip = start.offset;
+            }
+        }
+
+        Checkpoint checkpoint() {
+            return new Checkpoint(pageCursor, offset, position);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (nextItem == null) {
+                if (page.hasNext()) {
+                    nextItem = cast(page.next());
+                    if (nextItem == null) {
+                        page = Collections.emptyIterator();
+                    }
+                    continue;
+                }
+                if (finished) {
+                    finish();
+                    return false;
+                }
+                fetchNextPage();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T item = nextItem;
+            nextItem = null;
+            offset++;
+            position++;
+            return item;
+        }
+
+        @Override
+        public List<T> splitPage() {
+            List<T> entities = new ArrayList<>();
+            if (!hasNext()) {
+                return entities;
+            }
+            entities.add(nextItem);
+            nextItem = null;
+            while (page.hasNext()) {
+                T entity = cast(page.next());
+                if (entity == null) {
+                    break;
+                }
+                entities.add(entity);
+            }
+            page = Collections.emptyIterator();
+            offset += entities.size();
+            position += entities.size();
+            return entities;
+        }
+
+        @Override
+        public void cancel() {
+            finished = true;
+            store = null;
+            nextItem = null;
+            page = Collections.emptyIterator();
+            for (CompletableFuture<Chunk> request : pending) {
+                request.cancel(false);
+            }
+            pending.clear();
+        }
+
+        private void fetchNextPage() {
+            if (current != null && store != null) {
+                // the current page was fully consumed, so the next run resumes from the next one
+                Checkpoint next = new Checkpoint(current.page.cursor, 0, position);
+                persist(() -> store.save(key, next));
+            }
+            try {
+                if (prefetch > 0) {
+                    current = takePrefetched();
+                } else {
+                    current = current == null ? requestFirst(start) : requestNext(current);
+                }
+            } catch (RuntimeException e) {
+                fail();
+                throw e;
+            } catch (Exception e) {
+                fail();
+                throw new RuntimeException(e);
+            }
+            if (current == null) {
+                finished = true;
+                return;
+            }
+            finished = current.last;
+            page = current.page.entities.iterator();
+            pageCursor = current.cursor;
+            offset = 0;
+            for (; skip > 0 && page.hasNext(); skip--) {
+                page.next();
+                offset++;
+                position++;
+            }
+            skip = 0;
+        }
+
+        // keeps the stored checkpoint, so that the query can be resumed
+        private void fail() {
+            finished = true;
+            store = null;
+        }
+
+        // deletes the stored checkpoint once, when the pagination is complete
+        private void finish() {
+            if (store != null) {
+                CheckpointStore completed = store;
+                store = null;
+                persist(() -> completed.delete(key));
+            }
+        }
+
+        private void persist(StoreOperation operation) {
+            try {
+                operation.run();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private Chunk takePrefetched() throws Exception {
+            if (tail == null) {
+                tail = CompletableFuture.supplyAsync(() -> complete(() -> requestFirst(start)), ThreadPool.shared());
+                pending.add(tail);
+            }
+            while (pending.size() <= prefetch) {
+                tail = tail.thenApplyAsync(previous -> complete(() -> requestNext(previous)), ThreadPool.shared());
+                pending.add(tail);
+            }
+            try {
+                return pending.poll().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private T cast(SubResource entity) {
+            return (T) entity;
+        }
+    }
+
+    // consecutive day ranges covering after..before (both inclusive), most recent first
+    private List<Map<String, Object>> sliceParams() {
+        LocalDate after = LocalDate.parse(params.get("after").toString());
+        LocalDate before = LocalDate.parse(params.get("before").toString());
+        long days = ChronoUnit.DAYS.between(after, before) + 1;
+        if (days < 1) {
+            throw new IllegalArgumentException("\"after\" must not be later than \"before\"");
+        }
+        int count = (int) Math.min(slices, days);
+        List<Map<String, Object>> sliced = new ArrayList<>();
+        for (int i = count - 1; i >= 0; i--) {
+            Map<String, Object> query = new HashMap<>(params);
+            query.remove("cursor");
+            query.put("after", after.plusDays(days * i / count).toString());
+            query.put("before", after.plusDays(days * (i + 1) / count - 1).toString());
+            sliced.add(query);
+        }
+        return sliced;
+    }
+
+    private final class Slice {
+        final Map<String, Object> params;
+        final ArrayDeque<Page> ready = new ArrayDeque<>();
+        Chunk last;
+        boolean requesting = false;
+        boolean exhausted = false;
+        Exception error;
+
+        Slice(Map<String, Object> params) {
+            this.params = params;
+        }
+
+        boolean isDone() {
+            return exhausted && ready.isEmpty();
+        }
+    }
+
+    /**
+     * Iterator over slices that request their pages in the background, each one up to
+     * slicePagesAhead pages ahead of the consumer. Page requests are chained asynchronously on
+     * the shared pool, so no thread is blocked while a slice buffer is full.
+     */
+    private final class SlicedIterator implements Pagination<T> {
+        private final List<Slice> slices = new ArrayList<>();
+        private final boolean ordered;
+        private final Integer limit;
+        private int delivered = 0;
+        private int current = 0;
+        private boolean finished = false;
+        private Iterator<SubResource> page = Collections.emptyIterator();
+        private T nextItem;
+
+        SlicedIterator(List<Map<String, Object>> sliceParams, boolean ordered) {
+            this.ordered = ordered;
+            this.limit = (Integer) params.get("limit");
+            for (Map<String, Object> query : sliceParams) {
+                slices.add(new Slice(query));
+            }
+            for (Slice slice : slices) {
+                requestMore(slice);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (nextItem == null) {
+                if (finished || (limit != null && delivered >= limit)) {
+                    finish();
+                    return false;
+                }
+                if (page.hasNext()) {
+                    nextItem = cast(page.next());
+                    if (nextItem == null) {
+                        page = Collections.emptyIterator();
+                    }
+                    continue;
+                }
+                Page next = takePage();
+                if (next == null) {
+                    finish();
+                    return false;
+                }
+                page = next.entities.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T item = nextItem;
+            nextItem = null;
+            delivered++;
+            return item;
+        }
+
+        @Override
+        public List<T> splitPage() {
+            List<T> entities = new ArrayList<>();
+            if (!hasNext()) {
+                return entities;
+            }
+            entities.add(nextItem);
+            nextItem = null;
+            while (page.hasNext() && (limit == null || delivered + entities.size() < limit)) {
+                T entity = cast(page.next());
+                if (entity == null) {
+                    break;
+                }
+                entities.add(entity);
+            }
+            page = Collections.emptyIterator();
+            delivered += entities.size();
+            return entities;
+        }
+
+        @Override
+        public void cancel() {
+            finish();
+            nextItem = null;
+            page = Collections.emptyIterator();
+        }
+
+        private synchronized Page takePage() {
+            while (true) {
+                boolean pending = false;
+                for (int i = ordered ? current : 0; i < slices.size(); i++) {
+                    Slice slice = slices.get(i);
+                    if (slice.error != null) {
+                        finished = true;
+                        Exception error = slice.error;
+                        throw error instanceof RuntimeException ? (RuntimeException) error : new RuntimeException(error);
+                    }
+                    if (!slice.ready.isEmpty()) {
+                        Page next = slice.ready.poll();
+                        requestMore(slice);
+                        return next;
+                    }
+                    if (slice.isDone()) {
+                        if (ordered && i == current) {
+                            current++;
+                        }
+                        continue;
+                    }
+                    pending = true;
+                    if (ordered) {
+                        break;
+                    }
+                }
+                if (!pending) {
+                    return null;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    finished = true;
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+
+        private synchronized void requestMore(Slice slice) {
+            if (finished || slice.requesting || slice.exhausted || slice.ready.size() >= slicePagesAhead) {
+                return;
+            }
+            slice.requesting = true;
+            Chunk previous = slice.last;
+            CompletableFuture.supplyAsync(() -> complete(() -> previous == null
+                    ? request(slice.params, null, limit)
+                    : request(slice.params, previous.page.cursor, previous.limit)
+            ), ThreadPool.shared()).whenComplete((chunk, error) -> received(slice, chunk, error));
+        }
+
+        private void received(Slice slice, Chunk chunk, Throwable error) {
+            synchronized (this) {
+                slice.requesting = false;
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    slice.error = cause instanceof Exception ? (Exception) cause : new RuntimeException(cause);
+                    slice.exhausted = true;
+                } else {
+                    slice.last = chunk;
+                    slice.ready.add(chunk.page);
+                    slice.exhausted = chunk.last;
+                }
+                notifyAll();
+            }
+            requestMore(slice);
+        }
+
+        // stops requesting pages for the remaining slices
+        private synchronized void finish() {
+            finished = true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T cast(SubResource entity) {
+            return (T) entity;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.starkbank.utils;
+
+import com.starkbank.User;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Reactive Streams Publisher that walks the cursor pagination of a resource without blocking any thread.
+ *
+ * Each subscription starts a new pagination from the first page. A page is requested only while
+ * the subscriber has demand that the entities already received do not cover, and the next one
+ * only after it arrives, so request(n) drives the page requests and at most one page is buffered.
+ * Pages are requested with RateLimit.Priority.BULK, like the pages of query generators.
+ *
+ * Cancelling the subscription stops the pagination and cancels the page request in flight.
+ */
+final class PagePublisher<T extends SubResource> implements Publisher<T> {
+
+    private static final int maxPageLimit = 100;
+
+    private final Resource.ClassData resource;
+    private final Map<String, Object> params;
+    private final User user;
+    private final boolean paginate;
+
+    PagePublisher(Resource.ClassData resource, Map<String, Object> params, User user, boolean paginate) {
+        this.resource = resource;
+        this.params = params;
+        this.user = user;
+        this.paginate = paginate;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber must not be null");
+        }
+        PageSubscription subscription = new PageSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * Signals are only sent from drain(), which runs on one thread at a time: the thread that
+     * enters it while others call it keeps looping until all of their work is done.
+     */
+    private final class PageSubscription implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger work = new AtomicInteger();
+        private final ArrayDeque<SubResource> buffer = new ArrayDeque<>();
+        private volatile boolean cancelled = false;
+        private volatile boolean fetching = false;
+        private volatile Page received;
+        private volatile Throwable error;
+        private volatile CompletableFuture<Page> pending;
+        private String cursor = null;
+        private Integer limit;
+        private boolean last = false;
+        private boolean done = false;
+
+        PageSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            this.limit = paginate ? (Integer) params.get("limit") : null;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("requested amount must be greater than 0, received " + n);
+                drain();
+                return;
+            }
+            long current;
+            do {
+                current = requested.get();
+                if (current == Long.MAX_VALUE) {
+                    break;
+                }
+            } while (!requested.compareAndSet(current, current + n < 0 ? Long.MAX_VALUE : current + n));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            CompletableFuture<Page> request = pending;
+            if (request != null) {
+                request.cancel(false);
+            }
+            drain();
+        }
+
+        void drain() {
+            if (work.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            while (true) {
+                emit();
+                missed = work.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void emit() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                done = true;
+                buffer.clear();
+                return;
+            }
+            Page page = received;
+            if (page != null) {
+                received = null;
+                for (SubResource entity : page.entities) {
+                    if (entity != null) {
+                        buffer.add(entity);
+                    }
+                }
+            }
+            long demand = requested.get();
+            long emitted = 0;
+            while (emitted < demand && !buffer.isEmpty() && !cancelled) {
+                subscriber.onNext(cast(buffer.poll()));
+                emitted++;
+            }
+            if (emitted > 0 && demand != Long.MAX_VALUE) {
+                demand = requested.addAndGet(-emitted);
+            }
+            if (cancelled) {
+                done = true;
+                buffer.clear();
+                return;
+            }
+            if (error != null) {
+                done = true;
+                buffer.clear();
+                subscriber.onError(error);
+                return;
+            }
+            if (fetching || received != null) {
+                return;
+            }
+            if (buffer.isEmpty() && last) {
+                done = true;
+                subscriber.onComplete();
+                return;
+            }
+            if (!last && demand > buffer.size()) {
+                fetching = true;
+                fetchNextPage();
+            }
+        }
+
+        private void fetchNextPage() {
+            Map<String, Object> query = new HashMap<>(params);
+            if (paginate) {
+                query.put("cursor", cursor);
+            }
+            if (limit != null) {
+                query.put("limit", limit > maxPageLimit ? String.valueOf(maxPageLimit) : limit.toString());
+            }
+            CompletableFuture<Page> request = Rest.fetchPageAsync(resource, query, user);
+            pending = request;
+            request.whenComplete((page, error) -> {
+                pending = null;
+                if (error != null) {
+                    this.error = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                } else {
+                    cursor = page.cursor;
+                    if (limit != null) {
+                        limit -= maxPageLimit;
+                    }
+                    last = !paginate || cursor == null || cursor.isEmpty() || (limit != null && limit <= 0);
+                    received = page;
+                }
+                fetching = false;
+                drain();
+            });
+            if (cancelled) {
+                request.cancel(false);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private T cast(SubResource entity) {
+            return (T) entity;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.starkbank.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonWriter;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Request body serialized once to UTF-8 bytes.
+ *
+ * Entities are written straight from their Gson adapters into a per-thread scratch buffer, with
+ * no JsonObject tree and no intermediate String, and are then copied once to an array of the
+ * exact size. The same bytes are hashed for the Access-Signature and sent as the request body,
+ * and are reused as they are when a request is retried.
+ */
+final class Payload {
+
+    private static final MediaType mediaType = MediaType.parse("text/plain; charset=utf-8");
+    // larger scratch buffers are dropped after use instead of being kept by the thread
+    private static final int maxRetainedSize = 1 << 20;
+    private static final ThreadLocal<Utf8Writer> scratch = new ThreadLocal<>();
+
+    private final byte[] bytes;
+
+    private Payload(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    // encodes chars to UTF-8 directly into a growable byte array, without the per call buffers of OutputStreamWriter
+    private static final class Utf8Writer extends Writer {
+        private byte[] buffer = new byte[4096];
+        private int count = 0;
+        private char highSurrogate = 0;
+
+        @Override
+        public void write(int c) {
+            ensureCapacity(4);
+            char character = (char) c;
+            if (highSurrogate != 0) {
+                char high = highSurrogate;
+                highSurrogate = 0;
+                if (Character.isLowSurrogate(character)) {
+                    int codePoint = Character.toCodePoint(high, character);
+                    buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                    return;
+                }
+                buffer[count++] = '?';
+                ensureCapacity(3);
+            }
+            if (character < 0x80) {
+                buffer[count++] = (byte) character;
+            } else if (character < 0x800) {
+                buffer[count++] = (byte) (0xC0 | (character >> 6));
+                buffer[count++] = (byte) (0x80 | (character & 0x3F));
+            } else if (Character.isHighSurrogate(character)) {
+                highSurrogate = character;
+            } else if (Character.isLowSurrogate(character)) {
+                buffer[count++] = '?';
+            } else {
+                buffer[count++] = (byte) (0xE0 | (character >> 12));
+                buffer[count++] = (byte) (0x80 | ((character >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (character & 0x3F));
+            }
+        }
+
+        @Override
+        public void write(char[] characters, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(characters[i]);
+            }
+        }
+
+        @Override
+        public void write(String string, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(string.charAt(i));
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void ensureCapacity(int extra) {
+            if (count + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + extra));
+            }
+        }
+
+        byte[] toByteArray() {
+            if (highSurrogate != 0) {
+                highSurrogate = 0;
+                ensureCapacity(1);
+                buffer[count++] = '?';
+            }
+            return Arrays.copyOf(buffer, count);
+        }
+
+        void reset() {
+            count = 0;
+            highSurrogate = 0;
+        }
+    }
+
+    private interface Body {
+        void write(Gson gson, JsonWriter writer) throws IOException;
+    }
+
+    static Payload of(JsonElement element) {
+        if (element == null) {
+            return null;
+        }
+        return write(true, (gson, writer) -> gson.getAdapter(JsonElement.class).write(writer, element));
+    }
+
+    static Payload entity(Object entity) {
+        return write(false, (gson, writer) -> writeEntity(gson, writer, entity));
+    }
+
+    static Payload list(String name, List<?> entities) {
+        return write(false, (gson, writer) -> {
+            writer.beginObject();
+            writer.name(name);
+            writer.beginArray();
+            for (Object entity : entities) {
+                writeEntity(gson, writer, entity);
+            }
+            writer.endArray();
+            writer.endObject();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeEntity(Gson gson, JsonWriter writer, Object entity) throws IOException {
+        if (entity == null) {
+            writer.nullValue();
+            return;
+        }
+        gson.getAdapter((Class<Object>) entity.getClass()).write(writer, entity);
+    }
+
+    // same output as JsonElement.toString(), which keeps explicit JsonNull members, while null
+    // entity fields are left out as Gson.toJsonTree() does
+    private static Payload write(boolean serializeNulls, Body body) {
+        Utf8Writer output = scratch.get();
+        if (output == null) {
+            output = new Utf8Writer();
+        }
+        scratch.remove();
+        try {
+            JsonWriter writer = new JsonWriter(output);
+            writer.setLenient(true);
+            writer.setSerializeNulls(serializeNulls);
+            body.write(GsonEvent.getInstance(), writer);
+            writer.flush();
+            return new Payload(output.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            output.reset();
+            if (output.buffer.length <= maxRetainedSize) {
+                scratch.set(output);
+            }
+        }
+    }
+
+    void update(MessageDigest digest) {
+        digest.update(bytes);
+    }
+
+    int size() {
+        return bytes.length;
+    }
+
+    RequestBody requestBody() {
+        return RequestBody.create(mediaType, bytes);
+    }
+
+    public String toString() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
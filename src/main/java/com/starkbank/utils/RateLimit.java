@@ -0,0 +1,190 @@
+package com.starkbank.utils;
+
+import com.starkbank.Settings;
+import com.starkbank.User;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * RateLimit object
+ * <p>
+ * Client-side token bucket rate limiter and in-flight request bulkhead.
+ * Each RateLimit object keeps, for each access id (each Project, and each Organization workspace)
+ * that uses it, its own bucket and in-flight counter, so one user's burst does not consume another
+ * one's budget. Users and clients with different RateLimit objects never share a bucket, even
+ * when they have the same access id.
+ * Requests waiting for a slot are served by priority: INTERACTIVE requests always go ahead of
+ * BULK ones. Pages requested by query generators are BULK, every other request is INTERACTIVE.
+ * <p>
+ * Attributes:
+ * requestsPerSecond [double, default 0]: sustained number of requests started per second. 0 means no rate limit. ex: 20
+ * burst [integer, default 10]: number of requests that can be started at once after an idle period. ex: 50
+ * maxInFlight [integer, default 0]: maximum number of requests in flight at once. 0 means no limit. ex: 32
+ * maxBulkInFlight [integer, default 0]: maximum number of BULK requests in flight at once, keeping the remaining slots for INTERACTIVE ones. 0 means the same as maxInFlight. ex: 16
+ */
+public final class RateLimit {
+    public double requestsPerSecond = 0;
+    public int burst = 10;
+    public int maxInFlight = 0;
+    public int maxBulkInFlight = 0;
+
+    private final transient ConcurrentHashMap<String, Limiter> limiters = new ConcurrentHashMap<>();
+    private static final Permit unlimited = new Permit(null, Priority.INTERACTIVE);
+
+    public RateLimit() {}
+
+    public enum Priority {
+        INTERACTIVE,
+        BULK
+    }
+
+    static final class Permit {
+        private final Limiter limiter;
+        private final Priority priority;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        Permit(Limiter limiter, Priority priority) {
+            this.limiter = limiter;
+            this.priority = priority;
+        }
+
+        void release() {
+            if (limiter != null && released.compareAndSet(false, true))
+                limiter.release(priority);
+        }
+    }
+
+    static CompletableFuture<Permit> acquire(User user, Priority priority) {
+        RateLimit config = user.rateLimit != null ? user.rateLimit : Settings.rateLimit;
+        if (config == null || (config.requestsPerSecond <= 0 && config.maxInFlight <= 0 && config.maxBulkInFlight <= 0)) {
+            return CompletableFuture.completedFuture(unlimited);
+        }
+        Limiter limiter = config.limiters.computeIfAbsent(user.environment + ":" + user.accessId(), key -> new Limiter(config));
+        return limiter.acquire(priority);
+    }
+
+    static Permit await(User user, Priority priority) throws InterruptedException {
+        CompletableFuture<Permit> future = acquire(user, priority);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            if (!future.cancel(false))
+                future.join().release();
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static final class Limiter {
+        private final ArrayDeque<CompletableFuture<Permit>> interactive = new ArrayDeque<>();
+        private final ArrayDeque<CompletableFuture<Permit>> bulk = new ArrayDeque<>();
+        private final RateLimit config;
+        private int inFlight = 0;
+        private int bulkInFlight = 0;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+        private boolean refillScheduled = false;
+
+        Limiter(RateLimit config) {
+            this.config = config;
+            this.tokens = Math.max(1, config.burst);
+        }
+
+        CompletableFuture<Permit> acquire(Priority priority) {
+            CompletableFuture<Permit> waiter = new CompletableFuture<>();
+            synchronized (this) {
+                (priority == Priority.BULK ? bulk : interactive).add(waiter);
+            }
+            dispatch();
+            return waiter;
+        }
+
+        void release(Priority priority) {
+            synchronized (this) {
+                inFlight--;
+                if (priority == Priority.BULK)
+                    bulkInFlight--;
+            }
+            dispatch();
+        }
+
+        private void dispatch() {
+            List<CompletableFuture<Permit>> granted = new ArrayList<>();
+            List<Priority> priorities = new ArrayList<>();
+            synchronized (this) {
+                while (true) {
+                    dropCancelled(interactive);
+                    dropCancelled(bulk);
+                    ArrayDeque<CompletableFuture<Permit>> queue;
+                    if (!interactive.isEmpty()) {
+                        queue = interactive;
+                    } else if (!bulk.isEmpty() && hasBulkSlot()) {
+                        queue = bulk;
+                    } else {
+                        break;
+                    }
+                    if (config.maxInFlight > 0 && inFlight >= config.maxInFlight)
+                        break;
+                    if (!takeToken())
+                        break;
+                    granted.add(queue.poll());
+                    inFlight++;
+                    if (queue == bulk) {
+                        bulkInFlight++;
+                        priorities.add(Priority.BULK);
+                    } else {
+                        priorities.add(Priority.INTERACTIVE);
+                    }
+                }
+            }
+            for (int i = 0; i < granted.size(); i++) {
+                Permit permit = new Permit(this, priorities.get(i));
+                if (!granted.get(i).complete(permit))
+                    permit.release();
+            }
+        }
+
+        private boolean hasBulkSlot() {
+            int maxBulk = config.maxBulkInFlight > 0 ? config.maxBulkInFlight : config.maxInFlight;
+            return maxBulk <= 0 || bulkInFlight < maxBulk;
+        }
+
+        // must hold the lock
+        private boolean takeToken() {
+            if (config.requestsPerSecond <= 0)
+                return true;
+            long now = System.nanoTime();
+            tokens = Math.min(Math.max(1, config.burst), tokens + (now - refilledAt) / 1e9 * config.requestsPerSecond);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            if (!refillScheduled) {
+                refillScheduled = true;
+                long wait = (long) Math.ceil((1 - tokens) / config.requestsPerSecond * 1e6);
+                ThreadPool.scheduler().schedule(() -> {
+                    synchronized (this) {
+                        refillScheduled = false;
+                    }
+                    dispatch();
+                }, wait, TimeUnit.MICROSECONDS);
+            }
+            return false;
+        }
+
+        private static void dropCancelled(ArrayDeque<CompletableFuture<Permit>> queue) {
+            while (!queue.isEmpty() && queue.peek().isDone())
+                queue.poll();
+        }
+    }
+}
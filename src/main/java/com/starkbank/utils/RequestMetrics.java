@@ -0,0 +1,64 @@
+package com.starkbank.utils;
+
+
+/**
+ * RequestMetrics object
+ * <p>
+ * Metrics of a single call to the Stark Bank API, including all of its retries. Connection and
+ * first byte timings refer to the last attempt and are only measured by the SDK HTTP clients.
+ * <p>
+ * Attributes:
+ * resource [string]: name of the resource decoded from the response, or null if the response was not decoded by a resource function. ex: "Transfer"
+ * method [string]: HTTP method. ex: "POST"
+ * path [string]: requested path, without the query string. ex: "transfer"
+ * status [integer]: HTTP status of the last attempt, or 0 if no response was received. ex: 200
+ * attempts [integer]: number of attempts, including retries. ex: 1
+ * bytesSent [long]: size of the request body. ex: 1534
+ * bytesReceived [long]: size of the response body, or -1 if unknown. ex: 20480
+ * signNanos [long]: nanoseconds spent signing the request. ex: 95000
+ * connectNanos [long]: nanoseconds from the start of the last attempt until a connection was acquired, including DNS, TCP and TLS for new connections. ex: 30000
+ * firstByteNanos [long]: nanoseconds from sending the request headers until the response headers started to arrive. ex: 120000000
+ * decodeNanos [long]: nanoseconds spent decoding the response body into entities. ex: 2000000
+ * totalNanos [long]: nanoseconds from the start of the call until it was decoded or failed, including retry delays. ex: 125000000
+ * error [Throwable]: error raised by the call, or null if it succeeded. ex: InputErrors
+ */
+public final class RequestMetrics {
+    public final String resource;
+    public final String method;
+    public final String path;
+    public final int status;
+    public final int attempts;
+    public final long bytesSent;
+    public final long bytesReceived;
+    public final long signNanos;
+    public final long connectNanos;
+    public final long firstByteNanos;
+    public final long decodeNanos;
+    public final long totalNanos;
+    public final Throwable error;
+
+    RequestMetrics(String resource, String method, String path, int status, int attempts, long bytesSent,
+                   long bytesReceived, long signNanos, long connectNanos, long firstByteNanos, long decodeNanos,
+                   long totalNanos, Throwable error) {
+        this.resource = resource;
+        this.method = method;
+        this.path = path;
+        this.status = status;
+        this.attempts = attempts;
+        this.bytesSent = bytesSent;
+        this.bytesReceived = bytesReceived;
+        this.signNanos = signNanos;
+        this.connectNanos = connectNanos;
+        this.firstByteNanos = firstByteNanos;
+        this.decodeNanos = decodeNanos;
+        this.totalNanos = totalNanos;
+        this.error = error;
+    }
+
+    public String toString() {
+        return "RequestMetrics(resource=" + resource + ", method=" + method + ", path=" + path + ", status=" + status
+                + ", attempts=" + attempts + ", bytesSent=" + bytesSent + ", bytesReceived=" + bytesReceived
+                + ", signNanos=" + signNanos + ", connectNanos=" + connectNanos + ", firstByteNanos=" + firstByteNanos
+                + ", decodeNanos=" + decodeNanos + ", totalNanos=" + totalNanos + ", error=" + error + ")";
+    }
+}
@@ -0,0 +1,19 @@
+package com.starkbank.utils;
+
+import com.starkbank.ellipticcurve.PrivateKey;
+
+
+/**
+ * Signs the Access-Signature of the requests sent to the Stark Bank API.
+ *
+ * Implementations receive the SHA-256 digest of the UTF-8 encoded request message
+ * ("accessId:accessTime:body") and must return the base64 encoded DER ECDSA signature
+ * of that digest. They are shared by every request made with a User, so they must be thread-safe.
+ *
+ * Available implementations:
+ * Secp256k1Signer: default, fast fixed-base signer for secp256k1 keys
+ * EcdsaSigner: reference signer built on the starkbank-ecdsa library arithmetic
+ */
+public interface RequestSigner {
+    String sign(byte[] digest, PrivateKey privateKey);
+}
@@ -1,8 +1,9 @@
 package com.starkbank.utils;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.starkbank.User;
-import com.starkbank.ellipticcurve.Ecdsa;
+import com.starkbank.Settings;
 import com.starkbank.error.InputErrors;
 import com.starkbank.error.InternalServerError;
 import com.starkbank.error.UnknownError;
@@ -10,24 +11,31 @@ import com.starkbank.error.UnknownError;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Callback;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
-import java.io.BufferedReader;
 import java.io.InputStreamReader;
-import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
-import static com.starkbank.Settings.userAgentOverride;
 import static java.lang.System.currentTimeMillis;
 
 
 public final class Response {
 
+    private static final RequestBody emptyBody = RequestBody.create(MediaType.parse("text/plain; charset=utf-8"), "");
+
     public int status;
     public InputStream stream;
+    CallTimer timer;
 
     public Response(int status, InputStream stream) {
         this.status = status;
@@ -36,19 +44,240 @@ public final class Response {
 
     public String content() throws java.io.IOException {
         StringBuilder textBuilder = new StringBuilder();
-        try (Reader reader = new BufferedReader(new InputStreamReader
-                (stream, Charset.forName(StandardCharsets.UTF_8.name())))) {
-            int c;
-            while ((c = reader.read()) != -1) {
-                textBuilder.append((char) c);
+        try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            char[] buffer = new char[8192];
+            int length;
+            while ((length = reader.read(buffer)) != -1) {
+                textBuilder.append(buffer, 0, length);
             }
         }
         return textBuilder.toString();
     }
 
+    public JsonReader reader() {
+        return new JsonReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+
     public static Response fetch(String path, String method, JsonObject payload, Map<String, Object> query, User user) throws Exception {
+        return fetch(path, method, payload, query, user, method.equals("GET"));
+    }
+
+    public static Response fetch(String path, String method, JsonObject payload, Map<String, Object> query, User user, boolean retryable) throws Exception {
+        return fetch(path, method, payload, query, user, retryable, RateLimit.Priority.INTERACTIVE);
+    }
+
+    public static Response fetch(String path, String method, JsonObject payload, Map<String, Object> query, User user, boolean retryable, RateLimit.Priority priority) throws Exception {
+        return received(send(null, path, method, Payload.of(payload), query, user, retryable, priority));
+    }
+
+    // resource is the name reported to the MetricsListener, which is called once the response is decoded
+    static Response send(String resource, String path, String method, Payload payload, Map<String, Object> query, User user, boolean retryable, RateLimit.Priority priority) throws Exception {
+        user = Check.user(user);
+        CallTimer timer = CallTimer.start(user, resource, method, path);
+        try {
+            return execute(path, method, payload, query, user, retryable, priority, timer);
+        } catch (Exception e) {
+            if (timer != null)
+                timer.report(0, e);
+            throw e;
+        }
+    }
+
+    private static Response execute(String path, String method, Payload payload, Map<String, Object> query, User user, boolean retryable, RateLimit.Priority priority, CallTimer timer) throws Exception {
+        RetryPolicy policy = retryPolicy(user);
+        policy.deposit();
+        for (int attempt = 1; ; attempt++) {
+            RateLimit.Permit permit = RateLimit.await(user, priority);
+            retrofit2.Response<ResponseBody> response = null;
+            IOException failure = null;
+            try {
+                response = prepareCall(path, method, payload, query, user, timer).execute();
+            } catch (IOException e) {
+                failure = e;
+            } finally {
+                permit.release();
+            }
+            if (failure != null) {
+                long delay = retryable ? policy.delay(attempt, -1) : -1;
+                if (delay < 0)
+                    throw failure;
+                Thread.sleep(delay);
+                continue;
+            }
+            long delay = retryDelay(policy, attempt, retryable, response);
+            if (delay < 0)
+                return check(read(response, timer));
+            discard(response);
+            Thread.sleep(delay);
+        }
+    }
+
+    public static CompletableFuture<Response> fetchAsync(String path, String method, JsonObject payload, Map<String, Object> query, User user) {
+        return fetchAsync(path, method, payload, query, user, method.equals("GET"));
+    }
+
+    public static CompletableFuture<Response> fetchAsync(String path, String method, JsonObject payload, Map<String, Object> query, User user, boolean retryable) {
+        return fetchAsync(path, method, payload, query, user, retryable, RateLimit.Priority.INTERACTIVE);
+    }
+
+    public static CompletableFuture<Response> fetchAsync(String path, String method, JsonObject payload, Map<String, Object> query, User user, boolean retryable, RateLimit.Priority priority) {
+        return sendAsync(null, path, method, Payload.of(payload), query, user, retryable, priority).thenApply(Response::received);
+    }
+
+    static CompletableFuture<Response> sendAsync(String resource, String path, String method, Payload payload, Map<String, Object> query, User user, boolean retryable, RateLimit.Priority priority) {
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        AtomicReference<Call<ResponseBody>> current = new AtomicReference<>();
+        RetryPolicy policy;
+        CallTimer timer;
+        try {
+            user = Check.user(user);
+            policy = retryPolicy(user);
+            timer = CallTimer.start(user, resource, method, path);
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+        policy.deposit();
+        future.whenComplete((response, error) -> {
+            Call<ResponseBody> call = current.get();
+            if (future.isCancelled() && call != null)
+                call.cancel();
+            if (error != null && timer != null)
+                timer.report(0, error);
+        });
+        new AsyncAttempt(path, method, payload, query, user, retryable, priority, policy, timer, future, current).run(1);
+        return future;
+    }
+
+    private static final class AsyncAttempt {
+        private final String path;
+        private final String method;
+        private final Payload payload;
+        private final Map<String, Object> query;
+        private final User user;
+        private final boolean retryable;
+        private final RateLimit.Priority priority;
+        private final RetryPolicy policy;
+        private final CallTimer timer;
+        private final CompletableFuture<Response> future;
+        private final AtomicReference<Call<ResponseBody>> current;
+
+        AsyncAttempt(String path, String method, Payload payload, Map<String, Object> query, User user,
+                     boolean retryable, RateLimit.Priority priority, RetryPolicy policy, CallTimer timer,
+                     CompletableFuture<Response> future, AtomicReference<Call<ResponseBody>> current) {
+            this.path = path;
+            this.method = method;
+            this.payload = payload;
+            this.query = query;
+            this.user = user;
+            this.retryable = retryable;
+            this.priority = priority;
+            this.policy = policy;
+            this.timer = timer;
+            this.future = future;
+            this.current = current;
+        }
+
+        void run(int attempt) {
+            if (future.isDone())
+                return;
+            RateLimit.acquire(user, priority).thenAccept(permit -> send(attempt, permit));
+        }
+
+        private void send(int attempt, RateLimit.Permit permit) {
+            if (future.isDone()) {
+                permit.release();
+                return;
+            }
+            Call<ResponseBody> call;
+            try {
+                call = prepareCall(path, method, payload, query, user, timer);
+            } catch (Throwable e) {
+                permit.release();
+                future.completeExceptionally(e);
+                return;
+            }
+            current.set(call);
+            if (future.isCancelled()) {
+                permit.release();
+                call.cancel();
+                return;
+            }
+            call.enqueue(new Callback<ResponseBody>() {
+                @Override
+                public void onResponse(Call<ResponseBody> call, retrofit2.Response<ResponseBody> response) {
+                    permit.release();
+                    try {
+                        long delay = retryDelay(policy, attempt, retryable, response);
+                        if (delay < 0) {
+                            Response received = check(read(response, timer));
+                            if (!future.complete(received))
+                                received.close();
+                            return;
+                        }
+                        discard(response);
+                        retry(attempt, delay);
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    }
+                }
+
+                @Override
+                public void onFailure(Call<ResponseBody> call, Throwable e) {
+                    permit.release();
+                    long delay = retryable && e instanceof IOException && !call.isCanceled() ? policy.delay(attempt, -1) : -1;
+                    if (delay < 0) {
+                        future.completeExceptionally(e);
+                        return;
+                    }
+                    retry(attempt, delay);
+                }
+            });
+        }
+
+        private void retry(int attempt, long delay) {
+            ThreadPool.scheduler().schedule(() -> run(attempt + 1), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // reports the metrics of a response returned as it is, without being decoded into entities
+    private static Response received(Response response) {
+        response.decoded(System.nanoTime(), null);
+        return response;
+    }
+
+    void close() {
+        try {
+            stream.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    void decoded(long decodeStart, Throwable error) {
+        if (timer != null)
+            timer.report(System.nanoTime() - decodeStart, error);
+    }
+
+    private static RetryPolicy retryPolicy(User user) {
+        return user.retryPolicy != null ? user.retryPolicy : Settings.retryPolicy;
+    }
+
+    private static long retryDelay(RetryPolicy policy, int attempt, boolean retryable, retrofit2.Response<ResponseBody> response) {
+        int status = response.code();
+        if (status == 429 || (retryable && RetryPolicy.isRetryableStatus(status)))
+            return policy.delay(attempt, RetryPolicy.retryAfter(response.headers().get("Retry-After")));
+        return -1;
+    }
+
+    private static void discard(retrofit2.Response<ResponseBody> response) {
+        ResponseBody body = response.isSuccessful() ? response.body() : response.errorBody();
+        if (body != null)
+            body.close();
+    }
+
+    private static Call<ResponseBody> prepareCall(String path, String method, Payload payload, Map<String, Object> query, User user, CallTimer timer) throws Exception {
         user = Check.user(user);
-        String language = Check.language();
+        String language = user.language != null ? Check.language(user.language) : Check.language();
 
         if (query != null) {
             path += Url.encode(query);
@@ -59,21 +288,35 @@ public final class Response {
 
         String accessTime = String.valueOf(currentTimeMillis() / 1000L);
         String message = user.accessId() + ':' + accessTime + ':';
-        String body = "";
-        if (payload != null) {
-            body = payload.toString();
-            message += body;
-        }
 
         Map<String, String> headers = new HashMap<>();
         headers.put("Access-Id", user.accessId());
         headers.put("Access-Time", accessTime);
-        headers.put("Access-Signature", Ecdsa.sign(message, user.privateKey()).toBase64());
-        headers.put("User-Agent", getUserAgent());
+        long signStart = System.nanoTime();
+        headers.put("Access-Signature", sign(message, payload, user));
+        if (timer != null) {
+            timer.signed(System.nanoTime() - signStart);
+            timer.attempt(payload != null ? payload.size() : 0);
+        }
+        headers.put("User-Agent", userAgent(user));
         headers.put("Content-Type", "application/json");
         headers.put("Accept-Language", language);
 
-        Response response = executeMethod(user, path, method, body, headers);
+        return makeCall(user, path, method, payload, headers, timer);
+    }
+
+    // the signed message is the prefix followed by the body bytes, hashed without joining them
+    private static String sign(String prefix, Payload payload, User user) throws Exception {
+        RequestSigner signer = user.signer != null ? user.signer : Settings.signer;
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(prefix.getBytes(StandardCharsets.UTF_8));
+        if (payload != null) {
+            payload.update(digest);
+        }
+        return signer.sign(digest.digest(), user.privateKey());
+    }
+
+    private static Response check(Response response) throws Exception {
         if (response.status == 400) {
             throw new InputErrors(response.content());
         }
@@ -86,49 +329,55 @@ public final class Response {
         return response;
     }
 
-    private static Response executeMethod(User user, String path, String method, String body, Map<String, String> headers) throws Exception {
+    private static Call<ResponseBody> makeCall(User user, String path, String method, Payload payload, Map<String, String> headers, CallTimer timer) throws Exception {
         ClientService service = HttpClient.getProjectInstance(user);
-        retrofit2.Response<ResponseBody> response;
-        RequestBody requestBody = RequestBody.create(MediaType.parse("text/plain"), body);
+        RequestBody requestBody = payload != null ? payload.requestBody() : emptyBody;
         switch (method) {
             case "GET":
-                response = service.get(path, headers).execute();
-                break;
+                return service.get(path, headers, timer);
             case "POST":
-                response = service.post(path, requestBody, headers).execute();
-                break;
+                return service.post(path, requestBody, headers, timer);
             case "PATCH":
-                response = service.patch(path, requestBody, headers).execute();
-                break;
+                return service.patch(path, requestBody, headers, timer);
             case "PUT":
-                response = service.put(path, requestBody, headers).execute();
-                break;
+                return service.put(path, requestBody, headers, timer);
             case "DELETE":
-                response = service.delete(path, headers).execute();
-                break;
+                return service.delete(path, headers, timer);
             default:
                 throw new Exception("unknown HTTP method");
         }
+    }
 
+    private static Response read(retrofit2.Response<ResponseBody> response, CallTimer timer) {
         int status = response.code();
 
-        InputStream contentStream;
-        if (status == 200) {
-            try (ResponseBody responseBody = response.body()) {
-                assert responseBody != null;
-                contentStream = responseBody.byteStream();
-            }
-        } else {
-            try (ResponseBody responseBody = response.errorBody()) {
-                assert responseBody != null;
-                contentStream = responseBody.byteStream();
-            }
+        // the body is read straight from the connection, which is released when the stream is closed
+        ResponseBody responseBody = status == 200 ? response.body() : response.errorBody();
+        assert responseBody != null;
+        InputStream contentStream = responseBody.byteStream();
+        long contentLength = responseBody.contentLength();
+
+        Response received = new Response(status, contentStream);
+        if (timer != null) {
+            timer.received(status, contentLength);
+            received.timer = timer;
         }
+        return received;
+    }
 
-        return new Response(status, contentStream);
+    private static String userAgent(User user) {
+        if (user.userAgent != null)
+            return user.userAgent;
+        return Settings.userAgentOverride != null ? Settings.userAgentOverride : defaultUserAgent();
     }
 
-    private static String getUserAgent() {
-        return (userAgentOverride == null) ? "Java-" + System.getProperty("java.version") + "-SDK-2.11.0" : userAgentOverride;
+    /**
+     * User-Agent sent when neither User.userAgent nor Settings.userAgentOverride are set
+     * <p>
+     * Return:
+     * @return User-Agent of this SDK version. ex: "Java-1.8.0_392-SDK-2.11.0"
+     */
+    public static String defaultUserAgent() {
+        return "Java-" + System.getProperty("java.version") + "-SDK-2.11.0";
     }
 }
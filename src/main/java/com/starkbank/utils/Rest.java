@@ -1,156 +1,253 @@
 package com.starkbank.utils;
 
 import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.starkbank.User;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
-import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
 
 public final class Rest {
 
     public static <T extends Resource> T getId(Resource.ClassData resource, String id, User user) throws Exception {
-        String content = Response.fetch(Api.endpoint(resource, id), "GET", null, null, user).content();
-        Gson gson = GsonEvent.getInstance();
-        JsonObject contentJson = gson.fromJson(content, JsonObject.class);
-        JsonObject jsonObject = contentJson.get(Api.getLastName(resource)).getAsJsonObject();
-        return gson.fromJson(jsonObject, (Type) resource.cls);
+        Response response = Response.send(resource.name, Api.endpoint(resource, id), "GET", null, null, user, true, RateLimit.Priority.INTERACTIVE);
+        return readObject(response, Api.getLastName(resource), resource.cls);
+    }
+
+    public static <T extends Resource> CompletableFuture<T> getIdAsync(Resource.ClassData resource, String id, User user) {
+        return decode(Response.sendAsync(resource.name, Api.endpoint(resource, id), "GET", null, null, user, true, RateLimit.Priority.INTERACTIVE),
+                response -> readObject(response, Api.getLastName(resource), resource.cls));
     }
 
     public static <T extends Resource> List<T> post(Resource.ClassData resource, List<T> entities, User user) throws Exception {
-        JsonObject payload = new JsonObject();
-        payload.add(Api.getLastNamePlural(resource), new Gson().toJsonTree(entities).getAsJsonArray());
-        String content = Response.fetch(Api.endpoint(resource), "POST", payload, null, user).content();
-        JsonObject contentJson = new Gson().fromJson(content, JsonObject.class);
+        return post(resource, entities, user, false);
+    }
+
+    public static <T extends Resource> List<T> post(Resource.ClassData resource, List<T> entities, User user, boolean retryable) throws Exception {
+        Response response = Response.send(resource.name, Api.endpoint(resource), "POST", listPayload(resource, entities), null, user, retryable, RateLimit.Priority.INTERACTIVE);
         List<T> postEntities = new ArrayList<>();
-        JsonArray jsonArray = contentJson.get(Api.getLastNamePlural(resource)).getAsJsonArray();
-        for (JsonElement resourceElement : jsonArray) {
-            JsonObject jsonObject = resourceElement.getAsJsonObject();
-            postEntities.add(GsonEvent.getInstance().fromJson(jsonObject, (Type) resource.cls));
-        }
+        readList(response, Api.getLastNamePlural(resource), resource.cls, postEntities);
         return postEntities;
     }
 
+    public static <T extends Resource> CompletableFuture<List<T>> postAsync(Resource.ClassData resource, List<T> entities, User user) {
+        return postAsync(resource, entities, user, false);
+    }
+
+    public static <T extends Resource> CompletableFuture<List<T>> postAsync(Resource.ClassData resource, List<T> entities, User user, boolean retryable) {
+        return decode(Response.sendAsync(resource.name, Api.endpoint(resource), "POST", listPayload(resource, entities), null, user, retryable, RateLimit.Priority.INTERACTIVE),
+                response -> {
+                    List<T> postEntities = new ArrayList<>();
+                    readList(response, Api.getLastNamePlural(resource), resource.cls, postEntities);
+                    return postEntities;
+                });
+    }
+
+    // the API rejects repeated externalIds, so a creation request where every entity has one can be safely retried
+    public static <T extends Resource> boolean hasExternalIds(List<T> entities, Function<T, String> externalId) {
+        for (T entity : entities) {
+            if (externalId.apply(entity) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static <T extends Resource> T patch(Resource.ClassData resource, String id, Map<String, Object> data, User user) throws Exception {
-        JsonObject payload = new Gson().fromJson(new Gson().toJson(data), JsonObject.class);
-        String content = Response.fetch(Api.endpoint(resource, id), "PATCH", payload, null, user).content();
-        Gson gson = GsonEvent.getInstance();
-        JsonObject contentJson = gson.fromJson(content, JsonObject.class);
-        JsonObject jsonObject = contentJson.get(Api.getLastName(resource)).getAsJsonObject();
-        return gson.fromJson(jsonObject, (Type) resource.cls);
+        Response response = Response.send(resource.name, Api.endpoint(resource, id), "PATCH", Payload.entity(data), null, user, false, RateLimit.Priority.INTERACTIVE);
+        return readObject(response, Api.getLastName(resource), resource.cls);
     }
 
-    public static Page getPage(Resource.ClassData resource, Map<String, Object> params, User user) throws Exception {
-        String content = Response.fetch(Api.endpoint(resource), "GET", null, params, user).content();
-        Gson gson = GsonEvent.getInstance();
-        JsonObject contentJson = gson.fromJson(content, JsonObject.class);
-        JsonElement cursorJson = contentJson.get("cursor");
-        String cursor = cursorJson.isJsonNull() ? null : cursorJson.getAsString();
+    public static <T extends Resource> CompletableFuture<T> patchAsync(Resource.ClassData resource, String id, Map<String, Object> data, User user) {
+        return decode(Response.sendAsync(resource.name, Api.endpoint(resource, id), "PATCH", Payload.entity(data), null, user, false, RateLimit.Priority.INTERACTIVE),
+                response -> readObject(response, Api.getLastName(resource), resource.cls));
+    }
 
-        List<SubResource> entities = new ArrayList<>();
-        JsonArray jsonArray = contentJson.get(Api.getLastNamePlural(resource)).getAsJsonArray();
-        for (JsonElement resourceElement : jsonArray) {
-            JsonObject jsonObject = resourceElement.getAsJsonObject();
-            entities.add(GsonEvent.getInstance().fromJson(jsonObject, (Type) resource.cls));
-        };
+    public static Page getPage(Resource.ClassData resource, Map<String, Object> params, User user) throws Exception {
+        return readPage(Response.send(resource.name, Api.endpoint(resource), "GET", null, params, user, true, RateLimit.Priority.INTERACTIVE), resource);
+    }
 
-        return new Page(entities, cursor);
+    public static CompletableFuture<Page> getPageAsync(Resource.ClassData resource, Map<String, Object> params, User user) {
+        return decode(Response.sendAsync(resource.name, Api.endpoint(resource), "GET", null, params, user, true, RateLimit.Priority.INTERACTIVE),
+                response -> readPage(response, resource));
     }
 
     public static <T extends SubResource> Generator<T> getStream(Resource.ClassData resource, Map<String, Object> params, User user) {
-        return new Generator<T>() {
-            public void run() throws Exception {
-                Map<String, Object> paramsCopy = new HashMap<>();
-                for (Map.Entry<String, Object> entry: params.entrySet()) {
-                    paramsCopy.put(entry.getKey(), entry.getValue());
-                }
-                Integer limit = (Integer) paramsCopy.get("limit");
-                String cursor = null;
-                do {
-                    paramsCopy.put("cursor", cursor);
-                    if (limit != null) {
-                        paramsCopy.put("limit", limit > 100 ? "100" : limit.toString());
-                        limit -= 100;
-                    }
-                    String content = Response.fetch(Api.endpoint(resource), "GET", null, paramsCopy, user).content();
-                    Gson gson = GsonEvent.getInstance();
-                    JsonObject contentJson = gson.fromJson(content, JsonObject.class);
-                    JsonElement cursorJson = contentJson.get("cursor");
-                    cursor = cursorJson.isJsonNull() ? "" : cursorJson.getAsString();
-                    JsonArray jsonArray = contentJson.get(Api.getLastNamePlural(resource)).getAsJsonArray();
-                    for (JsonElement resourceElement : jsonArray) {
-                        JsonObject jsonObject = resourceElement.getAsJsonObject();
-                        T element = gson.fromJson(jsonObject, (Type) resource.cls);
-                        if(element == null)
-                            break;
-                        this.yield(element);
-                    }
-                } while (!cursor.isEmpty() && (limit == null || limit > 0));
-            }
-        };
+        return new PageGenerator<>(resource, params, user, true);
     }
 
     public static <T extends SubResource> Generator<T> getSimpleList(Resource.ClassData resource, Map<String, Object> params, User user) {
-        return new Generator<T>() {
-            public void run() throws Exception {
-                Map<String, Object> paramsCopy = new HashMap<>();
-                for (Map.Entry<String, Object> entry: params.entrySet()) {
-                    paramsCopy.put(entry.getKey(), entry.getValue());
-                }
-                String content = Response.fetch(Api.endpoint(resource), "GET", null, paramsCopy, user).content();
-                Gson gson = GsonEvent.getInstance();
-                JsonObject contentJson = gson.fromJson(content, JsonObject.class);
-                JsonArray jsonArray = contentJson.get(Api.getLastNamePlural(resource)).getAsJsonArray();
-                for (JsonElement resourceElement : jsonArray) {
-                    JsonObject jsonObject = resourceElement.getAsJsonObject();
-                    T element = gson.fromJson(jsonObject, (Type) resource.cls);
-                    if(element == null)
-                        break;
-                    this.yield(element);
-                }
-            }
-        };
+        return new PageGenerator<>(resource, params, user, false);
+    }
+
+    // pages requested by query generators yield to interactive requests when a RateLimit is set
+    static Page fetchPage(Resource.ClassData resource, Map<String, Object> params, User user) throws Exception {
+        Response response = Response.send(resource.name, Api.endpoint(resource), "GET", null, params, user, true, RateLimit.Priority.BULK);
+        return readPage(response, resource);
+    }
+
+    static CompletableFuture<Page> fetchPageAsync(Resource.ClassData resource, Map<String, Object> params, User user) {
+        return decode(Response.sendAsync(resource.name, Api.endpoint(resource), "GET", null, params, user, true, RateLimit.Priority.BULK),
+                response -> readPage(response, resource));
     }
 
     public static InputStream getContent(Resource.ClassData resource, String id, String subResourceName ,User user, Map<String, Object> options) throws Exception {
-        return Response.fetch(Api.endpoint(resource, id) + "/" + subResourceName, "GET", null, options, user).stream;
+        Response response = Response.send(resource.name, Api.endpoint(resource, id) + "/" + subResourceName, "GET", null, options, user, true, RateLimit.Priority.INTERACTIVE);
+        return readContent(response);
+    }
+
+    public static CompletableFuture<InputStream> getContentAsync(Resource.ClassData resource, String id, String subResourceName, User user, Map<String, Object> options) {
+        return decode(Response.sendAsync(resource.name, Api.endpoint(resource, id) + "/" + subResourceName, "GET", null, options, user, true, RateLimit.Priority.INTERACTIVE),
+                Rest::readContent);
     }
 
     public static <T extends SubResource> T getSubResource(Resource.ClassData resource, String id, SubResource.ClassData subResource, User user, Map<String, Object> options) throws Exception {
-        String content = Response.fetch(Api.endpoint(resource, id) + "/" + Api.endpoint(subResource), "GET", null, options, user).content();
-        JsonObject contentJson = new Gson().fromJson(content, JsonObject.class);
-        JsonObject jsonObject = contentJson.get(Api.getLastName(subResource)).getAsJsonObject();
-        Gson gson = GsonEvent.getInstance();
-        return gson.fromJson(jsonObject, (Type) subResource.cls);
+        Response response = Response.send(subResource.name, Api.endpoint(resource, id) + "/" + Api.endpoint(subResource), "GET", null, options, user, true, RateLimit.Priority.INTERACTIVE);
+        return readObject(response, Api.getLastName(subResource), subResource.cls);
+    }
+
+    public static <T extends SubResource> CompletableFuture<T> getSubResourceAsync(Resource.ClassData resource, String id, SubResource.ClassData subResource, User user, Map<String, Object> options) {
+        return decode(Response.sendAsync(subResource.name, Api.endpoint(resource, id) + "/" + Api.endpoint(subResource), "GET", null, options, user, true, RateLimit.Priority.INTERACTIVE),
+                response -> readObject(response, Api.getLastName(subResource), subResource.cls));
     }
 
     public static <T extends SubResource> List<T> getSubResources(Resource.ClassData resource, String id, SubResource.ClassData subResource, User user, Map<String, Object> options) throws Exception {
-        String content = Response.fetch(Api.endpoint(resource, id) + "/" + Api.endpoint(subResource), "GET", null, options, user).content();
-        JsonObject contentJson = new Gson().fromJson(content, JsonObject.class);
-        JsonArray jsonArray = contentJson.get(Api.getLastNamePlural(subResource)).getAsJsonArray();
+        Response response = Response.send(subResource.name, Api.endpoint(resource, id) + "/" + Api.endpoint(subResource), "GET", null, options, user, true, RateLimit.Priority.INTERACTIVE);
         List<T> entities = new ArrayList<>();
-        for (JsonElement resourceElement : jsonArray) {
-            JsonObject jsonObject = resourceElement.getAsJsonObject();
-            entities.add(GsonEvent.getInstance().fromJson(jsonObject, (Type) subResource.cls));
-        }
+        readList(response, Api.getLastNamePlural(subResource), subResource.cls, entities);
         return entities;
     }
 
     public static <T extends Resource> T delete(Resource.ClassData resource, String id, User user) throws Exception {
-        String content = Response.fetch(Api.endpoint(resource, id), "DELETE", null, null, user).content();
-        Gson gson = GsonEvent.getInstance();
-        JsonObject contentJson = gson.fromJson(content, JsonObject.class);
-        JsonObject jsonObject = contentJson.get(Api.getLastName(resource)).getAsJsonObject();
-        return gson.fromJson(jsonObject, (Type) resource.cls);
+        Response response = Response.send(resource.name, Api.endpoint(resource, id), "DELETE", null, null, user, false, RateLimit.Priority.INTERACTIVE);
+        return readObject(response, Api.getLastName(resource), resource.cls);
+    }
+
+    public static <T extends Resource> CompletableFuture<T> deleteAsync(Resource.ClassData resource, String id, User user) {
+        return decode(Response.sendAsync(resource.name, Api.endpoint(resource, id), "DELETE", null, null, user, false, RateLimit.Priority.INTERACTIVE),
+                response -> readObject(response, Api.getLastName(resource), resource.cls));
     }
 
     public static <T extends Resource> T postSingle(Resource.ClassData resource, Resource entity, User user) throws Exception {
-        JsonObject payload = (JsonObject) new Gson().toJsonTree((entity));
-        String content = Response.fetch(Api.endpoint(resource), "POST", payload, null, user).content();
+        Response response = Response.send(resource.name, Api.endpoint(resource), "POST", Payload.entity(entity), null, user, false, RateLimit.Priority.INTERACTIVE);
+        return readObject(response, Api.getLastName(resource), resource.cls);
+    }
+
+    public static <T extends Resource> CompletableFuture<T> postSingleAsync(Resource.ClassData resource, Resource entity, User user) {
+        return decode(Response.sendAsync(resource.name, Api.endpoint(resource), "POST", Payload.entity(entity), null, user, false, RateLimit.Priority.INTERACTIVE),
+                response -> readObject(response, Api.getLastName(resource), resource.cls));
+    }
+
+    private static <T extends Resource> Payload listPayload(Resource.ClassData resource, List<T> entities) {
+        return Payload.list(Api.getLastNamePlural(resource), entities);
+    }
+
+    private static Page readPage(Response response, Resource.ClassData resource) throws Exception {
+        List<SubResource> entities = new ArrayList<>();
+        String cursor = readList(response, Api.getLastNamePlural(resource), resource.cls, entities);
+        return new Page(entities, cursor);
+    }
+
+    // files are read into memory, so the connection is released even if the caller never closes the returned stream
+    private static InputStream readContent(Response response) throws Exception {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        long start = System.nanoTime();
+        try (InputStream stream = response.stream) {
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = stream.read(buffer)) != -1) {
+                content.write(buffer, 0, length);
+            }
+        } catch (Exception e) {
+            response.decoded(start, e);
+            throw e;
+        }
+        response.decoded(start, null);
+        return new ByteArrayInputStream(content.toByteArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T readObject(Response response, String objectName, Class<?> cls) throws Exception {
         Gson gson = GsonEvent.getInstance();
-        JsonObject contentJson = gson.fromJson(content, JsonObject.class);
-        JsonObject jsonObject = contentJson.get(Api.getLastName(resource)).getAsJsonObject();
-        return gson.fromJson(jsonObject, (Type) resource.cls);
+        T entity = null;
+        long start = System.nanoTime();
+        try (JsonReader reader = response.reader()) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals(objectName)) {
+                    entity = (T) gson.fromJson(reader, cls);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (Exception e) {
+            response.decoded(start, e);
+            throw e;
+        }
+        response.decoded(start, null);
+        return entity;
+    }
+
+    // binds each list element straight from the body stream, without an intermediate String or JsonObject tree
+    @SuppressWarnings("unchecked")
+    private static <T> String readList(Response response, String listName, Class<?> cls, List<T> entities) throws Exception {
+        Gson gson = GsonEvent.getInstance();
+        String cursor = null;
+        long start = System.nanoTime();
+        try (JsonReader reader = response.reader()) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals(listName)) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        entities.add((T) gson.fromJson(reader, cls));
+                    }
+                    reader.endArray();
+                } else if (name.equals("cursor") && reader.peek() == JsonToken.STRING) {
+                    cursor = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (Exception e) {
+            response.decoded(start, e);
+            throw e;
+        }
+        response.decoded(start, null);
+        return cursor;
+    }
+
+    private interface Decoder<T> {
+        T decode(Response response) throws Exception;
+    }
+
+    // cancelling the returned future also cancels the HTTP call, or closes the response body if it already arrived
+    private static <T> CompletableFuture<T> decode(CompletableFuture<Response> response, Decoder<T> decoder) {
+        CompletableFuture<T> decoded = response.thenApply(received -> {
+            try {
+                return decoder.decode(received);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+        decoded.whenComplete((value, error) -> {
+            if (decoded.isCancelled()) {
+                response.cancel(false);
+                response.thenAccept(Response::close);
+            }
+        });
+        return decoded;
     }
 }
@@ -0,0 +1,115 @@
+package com.starkbank.utils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * RetryPolicy object
+ * <p>
+ * Automatic retry of failed requests, using capped exponential backoff with full jitter.
+ * GET requests and POST requests that are safe to repeat (such as Transfers that all have an externalId)
+ * are retried on connection failures and on 500, 502, 503 and 504 responses.
+ * 429 responses are retried for any request, since they are rejected before being processed.
+ * A Retry-After header, when present, replaces the computed backoff.
+ * <p>
+ * Retries are limited by a retry budget shared by every request using the same policy: each request
+ * deposits budgetRatio tokens, up to budgetCapacity, and each retry spends a whole token. This keeps
+ * clients from multiplying the load on the API during an incident.
+ * <p>
+ * Attributes:
+ * maxAttempts [integer, default 3]: maximum number of attempts for each request, including the first one. 1 disables retries. ex: 5
+ * baseDelay [long, default 100]: milliseconds of the backoff ceiling after the first failure, doubled after each new failure. ex: 200
+ * maxDelay [long, default 5000]: maximum milliseconds to wait before a retry. Retry-After values above it are not honored and the error is raised instead. ex: 10000
+ * budgetRatio [double, default 0.1]: retry tokens deposited by each request. ex: 0.2
+ * budgetCapacity [integer, default 10]: maximum number of retry tokens kept in the budget. ex: 20
+ */
+public final class RetryPolicy {
+    public int maxAttempts = 3;
+    public long baseDelay = 100;
+    public long maxDelay = 5000;
+    public double budgetRatio = 0.1;
+    public int budgetCapacity = 10;
+
+    private Double budget = null;
+
+    public RetryPolicy() {}
+
+    /**
+     * Retry policy that never retries
+     * <p>
+     * Return:
+     * @return RetryPolicy object with maxAttempts = 1
+     */
+    public static RetryPolicy none() {
+        RetryPolicy policy = new RetryPolicy();
+        policy.maxAttempts = 1;
+        return policy;
+    }
+
+    synchronized void deposit() {
+        if (budget == null) {
+            budget = (double) budgetCapacity;
+        }
+        budget = Math.min(budgetCapacity, budget + budgetRatio);
+    }
+
+    private synchronized boolean withdraw() {
+        if (budget == null || budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        return true;
+    }
+
+    /**
+     * Milliseconds to wait before the next attempt, or -1 if the request must not be retried.
+     *
+     * @param attempt number of attempts already made
+     * @param retryAfter milliseconds requested by a Retry-After header, or -1 if there was none
+     */
+    long delay(int attempt, long retryAfter) {
+        if (attempt >= maxAttempts) {
+            return -1;
+        }
+        long delay;
+        if (retryAfter >= 0) {
+            if (retryAfter > maxDelay) {
+                return -1;
+            }
+            delay = retryAfter;
+        } else {
+            long ceiling = Math.min(maxDelay, baseDelay << Math.min(attempt - 1, 30));
+            delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        }
+        if (!withdraw()) {
+            return -1;
+        }
+        return delay;
+    }
+
+    static boolean isRetryableStatus(int status) {
+        return status == 500 || status == 502 || status == 503 || status == 504;
+    }
+
+    // Retry-After may hold either delay-seconds or an HTTP-date
+    static long retryAfter(String header) {
+        if (header == null) {
+            return -1;
+        }
+        header = header.trim();
+        try {
+            return Math.max(0, Long.parseLong(header) * 1000);
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(header, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+        } catch (DateTimeParseException ignored) {
+        }
+        return -1;
+    }
+}
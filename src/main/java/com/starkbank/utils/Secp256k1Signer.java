@@ -0,0 +1,411 @@
+package com.starkbank.utils;
+
+import com.starkbank.ellipticcurve.Curve;
+import com.starkbank.ellipticcurve.PrivateKey;
+import com.starkbank.ellipticcurve.Signature;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+
+/**
+ * RequestSigner specialized for secp256k1 keys.
+ *
+ * The nonce point k * G is the only elliptic curve multiplication needed to sign, and G is
+ * fixed, so every multiple j * 16^i * G (j from 1 to 15, i from 0 to 63) is computed once
+ * and kept in affine coordinates. A multiplication then takes one table lookup per 4-bit
+ * window of k and 64 mixed Jacobian-affine additions, with no point doublings and a single
+ * modular inversion, instead of the library's double-and-add over every bit.
+ *
+ * The work done does not depend on the secret nonce: every window reads all of its table
+ * entries and makes one addition, also when its digit is 0, and the result is chosen with
+ * masks instead of branches. The inversions of k and of the final z coordinate are blinded
+ * with random factors, so their BigInteger timings depend on random values instead of k.
+ *
+ * Field elements are kept as eight 32-bit limbs and reduced without branches with the special
+ * form of the secp256k1 prime, p = 2^256 - 2^32 - 977, so no BigInteger division happens
+ * inside the loop.
+ *
+ * The table holds 960 points (about 60KB) and is built on first use.
+ */
+public final class Secp256k1Signer implements RequestSigner {
+
+    private static final int windowBits = 4;
+    private static final int windowSize = 1 << windowBits;
+    private static final int windowCount = 256 / windowBits;
+
+    private static final Curve curve = Curve.secp256k1;
+    private static final BigInteger N = curve.N;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private static class Generator {
+        static final Table table = new Table(curve.G.x, curve.G.y);
+    }
+
+    /**
+     * Every multiple j * 16^i * B of a fixed point B, in affine coordinates.
+     */
+    static final class Table {
+        private final int[][][] x = new int[windowCount][windowSize][];
+        private final int[][][] y = new int[windowCount][windowSize][];
+        // 2^256 * B, the sum starts from it so no addition starts from the point at infinity
+        private final int[] offsetX;
+        private final int[] offsetY;
+        private final int[] negatedOffsetY;
+
+        Table(BigInteger pointX, BigInteger pointY) {
+            int[] baseX = Field.fromBigInteger(pointX);
+            int[] baseY = Field.fromBigInteger(pointY);
+            for (int window = 0; window < windowCount; window++) {
+                Jacobian multiple = new Jacobian();
+                for (int digit = 1; digit < windowSize; digit++) {
+                    multiple.add(baseX, baseY);
+                    x[window][digit] = Field.fromBigInteger(multiple.affineX());
+                    y[window][digit] = Field.fromBigInteger(multiple.affineY());
+                }
+                multiple.add(baseX, baseY);
+                baseX = Field.fromBigInteger(multiple.affineX());
+                baseY = Field.fromBigInteger(multiple.affineY());
+            }
+            offsetX = baseX;
+            offsetY = baseY;
+            negatedOffsetY = Field.subtract(new int[8], baseY);
+        }
+
+        // a window with digit 0 adds the invalid point (0, 0) to a copy that is then discarded
+        Jacobian multiply(BigInteger k) {
+            Jacobian result = new Jacobian();
+            result.add(offsetX, offsetY);
+            int[] entryX = new int[8];
+            int[] entryY = new int[8];
+            for (int window = 0; window < windowCount; window++) {
+                int bit = window * windowBits;
+                int digit = 0;
+                for (int i = 0; i < windowBits; i++) {
+                    digit |= (k.testBit(bit + i) ? 1 : 0) << i;
+                }
+                Field.clear(entryX);
+                Field.clear(entryY);
+                for (int j = 1; j < windowSize; j++) {
+                    int selected = ((j ^ digit) - 1) >> 31;
+                    Field.select(entryX, x[window][j], selected);
+                    Field.select(entryY, y[window][j], selected);
+                }
+                Jacobian sum = result.copy();
+                sum.add(entryX, entryY);
+                result.select(sum, -((digit | -digit) >>> 31));
+            }
+            result.add(offsetX, negatedOffsetY);
+            return result;
+        }
+    }
+
+    @Override
+    public String sign(byte[] digest, PrivateKey privateKey) {
+        if (!privateKey.curve.name.equals(curve.name)) {
+            throw new IllegalArgumentException("Secp256k1Signer only signs with secp256k1 private keys");
+        }
+        BigInteger numberMessage = new BigInteger(1, digest);
+        while (true) {
+            BigInteger k = nonce();
+            BigInteger r = multiplyGenerator(k).affineX(blind(Field.P)).mod(N);
+            if (r.signum() == 0) {
+                continue;
+            }
+            // s = (z + r * d) / k = (z + r * d) * b / (k * b), so k is never inverted itself
+            BigInteger blind = blind(N);
+            BigInteger blindedInverse = k.multiply(blind).mod(N).modInverse(N);
+            BigInteger s = numberMessage.add(r.multiply(privateKey.secret)).mod(N)
+                    .multiply(blindedInverse).mod(N).multiply(blind).mod(N);
+            if (s.signum() == 0) {
+                continue;
+            }
+            return new Signature(r, s).toBase64();
+        }
+    }
+
+    private BigInteger nonce() {
+        BigInteger k;
+        do {
+            k = new BigInteger(N.bitLength(), random);
+        } while (k.signum() == 0 || k.compareTo(N) >= 0);
+        return k;
+    }
+
+    // random value in [1, modulus)
+    private BigInteger blind(BigInteger modulus) {
+        BigInteger value;
+        do {
+            value = new BigInteger(modulus.bitLength(), random);
+        } while (value.signum() == 0 || value.compareTo(modulus) >= 0);
+        return value;
+    }
+
+    static Jacobian multiplyGenerator(BigInteger k) {
+        return Generator.table.multiply(k);
+    }
+
+    /**
+     * Mutable point in Jacobian coordinates (x / z^2, y / z^3). z == 0 is the point at infinity.
+     */
+    static final class Jacobian {
+        int[] x = new int[8];
+        int[] y = new int[8];
+        int[] z = new int[8];
+
+        boolean isInfinity() {
+            return Field.isZero(z);
+        }
+
+        BigInteger affineX() {
+            BigInteger zInverse = Field.toBigInteger(z).modInverse(Field.P);
+            return Field.toBigInteger(x).multiply(zInverse.multiply(zInverse)).mod(Field.P);
+        }
+
+        // 1 / z is computed as b / (z * b), for points that depend on secret values
+        BigInteger affineX(BigInteger blind) {
+            BigInteger zInverse = Field.toBigInteger(z).multiply(blind).mod(Field.P).modInverse(Field.P).multiply(blind).mod(Field.P);
+            return Field.toBigInteger(x).multiply(zInverse.multiply(zInverse)).mod(Field.P);
+        }
+
+        Jacobian copy() {
+            Jacobian copy = new Jacobian();
+            copy.x = x.clone();
+            copy.y = y.clone();
+            copy.z = z.clone();
+            return copy;
+        }
+
+        // replaces this point with other where mask is -1, keeps it where mask is 0
+        void select(Jacobian other, int mask) {
+            Field.select(x, other.x, mask);
+            Field.select(y, other.y, mask);
+            Field.select(z, other.z, mask);
+        }
+
+        BigInteger affineY() {
+            BigInteger zInverse = Field.toBigInteger(z).modInverse(Field.P);
+            return Field.toBigInteger(y).multiply(zInverse.multiply(zInverse).multiply(zInverse)).mod(Field.P);
+        }
+
+        // mixed addition of an affine point (madd-2007-bl, without the final z doubling)
+        void add(int[] otherX, int[] otherY) {
+            if (isInfinity()) {
+                x = otherX.clone();
+                y = otherY.clone();
+                z = Field.one();
+                return;
+            }
+            int[] zz = Field.square(z);
+            int[] u2 = Field.multiply(otherX, zz);
+            int[] s2 = Field.multiply(otherY, Field.multiply(z, zz));
+            int[] h = Field.subtract(u2, x);
+            int[] r = Field.subtract(s2, y);
+            if (Field.isZero(h)) {
+                if (Field.isZero(r)) {
+                    twice();
+                } else {
+                    z = new int[8];
+                }
+                return;
+            }
+            int[] hh = Field.square(h);
+            int[] hhh = Field.multiply(h, hh);
+            int[] v = Field.multiply(x, hh);
+            int[] newX = Field.subtract(Field.subtract(Field.square(r), hhh), Field.add(v, v));
+            int[] newY = Field.subtract(Field.multiply(r, Field.subtract(v, newX)), Field.multiply(y, hhh));
+            z = Field.multiply(z, h);
+            x = newX;
+            y = newY;
+        }
+
+        // doubling for curves with a = 0 (dbl-2009-l)
+        void twice() {
+            if (isInfinity() || Field.isZero(y)) {
+                z = new int[8];
+                return;
+            }
+            int[] a = Field.square(x);
+            int[] b = Field.square(y);
+            int[] c = Field.square(b);
+            int[] d = Field.subtract(Field.subtract(Field.square(Field.add(x, b)), a), c);
+            d = Field.add(d, d);
+            int[] e = Field.add(Field.add(a, a), a);
+            int[] c8 = Field.add(c, c);
+            c8 = Field.add(c8, c8);
+            c8 = Field.add(c8, c8);
+            int[] newX = Field.subtract(Field.square(e), Field.add(d, d));
+            int[] newY = Field.subtract(Field.multiply(e, Field.subtract(d, newX)), c8);
+            int[] yz = Field.multiply(y, z);
+            z = Field.add(yz, yz);
+            x = newX;
+            y = newY;
+        }
+    }
+
+    /**
+     * Arithmetic modulo p = 2^256 - 2^32 - 977 on little-endian arrays of eight 32-bit limbs.
+     * Every result is fully reduced to [0, p).
+     */
+    static final class Field {
+        static final BigInteger P = curve.P;
+        private static final long mask = 0xFFFFFFFFL;
+        // 2^256 mod p
+        private static final long reductionLow = 977;
+        private static final int[] prime = fromBigInteger(P);
+
+        static int[] one() {
+            int[] one = new int[8];
+            one[0] = 1;
+            return one;
+        }
+
+        static void clear(int[] a) {
+            for (int i = 0; i < 8; i++) {
+                a[i] = 0;
+            }
+        }
+
+        // copies source into target where mask is -1, leaves target unchanged where mask is 0
+        static void select(int[] target, int[] source, int mask) {
+            for (int i = 0; i < 8; i++) {
+                target[i] = (target[i] & ~mask) | (source[i] & mask);
+            }
+        }
+
+        static boolean isZero(int[] a) {
+            int bits = 0;
+            for (int limb : a) {
+                bits |= limb;
+            }
+            return bits == 0;
+        }
+
+        static int[] fromBigInteger(BigInteger value) {
+            int[] result = new int[8];
+            for (int i = 0; i < 8; i++) {
+                result[i] = value.shiftRight(32 * i).intValue();
+            }
+            return result;
+        }
+
+        static BigInteger toBigInteger(int[] a) {
+            byte[] bytes = new byte[33];
+            for (int i = 0; i < 8; i++) {
+                int limb = a[i];
+                int offset = 32 - 4 * i;
+                bytes[offset] = (byte) limb;
+                bytes[offset - 1] = (byte) (limb >>> 8);
+                bytes[offset - 2] = (byte) (limb >>> 16);
+                bytes[offset - 3] = (byte) (limb >>> 24);
+            }
+            return new BigInteger(bytes);
+        }
+
+        static int[] add(int[] a, int[] b) {
+            int[] result = new int[8];
+            long carry = 0;
+            for (int i = 0; i < 8; i++) {
+                long sum = (a[i] & mask) + (b[i] & mask) + carry;
+                result[i] = (int) sum;
+                carry = sum >>> 32;
+            }
+            reduceOnce(result, (int) carry);
+            return result;
+        }
+
+        static int[] subtract(int[] a, int[] b) {
+            int[] result = new int[8];
+            long borrow = 0;
+            for (int i = 0; i < 8; i++) {
+                long difference = (a[i] & mask) - (b[i] & mask) - borrow;
+                result[i] = (int) difference;
+                borrow = (difference >> 32) & 1;
+            }
+            long primeMask = -borrow & mask;
+            long carry = 0;
+            for (int i = 0; i < 8; i++) {
+                long sum = (result[i] & mask) + (prime[i] & primeMask) + carry;
+                result[i] = (int) sum;
+                carry = sum >>> 32;
+            }
+            return result;
+        }
+
+        static int[] square(int[] a) {
+            return multiply(a, a);
+        }
+
+        static int[] multiply(int[] a, int[] b) {
+            long[] product = new long[16];
+            for (int i = 0; i < 8; i++) {
+                long ai = a[i] & mask;
+                long carry = 0;
+                for (int j = 0; j < 8; j++) {
+                    long term = ai * (b[j] & mask) + product[i + j] + carry;
+                    product[i + j] = term & mask;
+                    carry = term >>> 32;
+                }
+                product[i + 8] = carry;
+            }
+            return reduce(product);
+        }
+
+        // folds the upper 256 bits back using 2^256 = 2^32 + 977 (mod p)
+        private static int[] reduce(long[] product) {
+            long[] folded = new long[9];
+            long carry = 0;
+            for (int i = 0; i < 8; i++) {
+                long term = product[i] + product[i + 8] * reductionLow + carry;
+                if (i > 0) {
+                    term += product[i + 7];
+                }
+                folded[i] = term & mask;
+                carry = term >>> 32;
+            }
+            folded[8] = product[15] + carry;
+
+            long high = folded[8];
+            int[] result = new int[8];
+            long term = folded[0] + high * reductionLow;
+            result[0] = (int) term;
+            carry = term >>> 32;
+            term = folded[1] + high + carry;
+            result[1] = (int) term;
+            carry = term >>> 32;
+            for (int i = 2; i < 8; i++) {
+                term = folded[i] + carry;
+                result[i] = (int) term;
+                carry = term >>> 32;
+            }
+            // an overflow of 2^256 is folded back as 2^32 + 977, which cannot overflow again
+            long overflow = carry;
+            term = (result[0] & mask) + overflow * reductionLow;
+            result[0] = (int) term;
+            carry = term >>> 32;
+            term = (result[1] & mask) + overflow + carry;
+            result[1] = (int) term;
+            carry = term >>> 32;
+            for (int i = 2; i < 8; i++) {
+                term = (result[i] & mask) + carry;
+                result[i] = (int) term;
+                carry = term >>> 32;
+            }
+            reduceOnce(result, 0);
+            return result;
+        }
+
+        // replaces a with a - p when a is at least p, or when carry is 1 (a + 2^256 is at least p)
+        private static void reduceOnce(int[] a, int carry) {
+            int[] difference = new int[8];
+            long borrow = 0;
+            for (int i = 0; i < 8; i++) {
+                long limb = (a[i] & mask) - (prime[i] & mask) - borrow;
+                difference[i] = (int) limb;
+                borrow = (limb >> 32) & 1;
+            }
+            select(a, difference, -(carry | (1 - (int) borrow)));
+        }
+    }
+}
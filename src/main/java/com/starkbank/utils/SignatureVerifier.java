@@ -0,0 +1,139 @@
+package com.starkbank.utils;
+
+import com.starkbank.ellipticcurve.Curve;
+import com.starkbank.ellipticcurve.Math;
+import com.starkbank.ellipticcurve.Point;
+import com.starkbank.ellipticcurve.PublicKey;
+import com.starkbank.ellipticcurve.Signature;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * ECDSA verification over raw bytes.
+ *
+ * The library's Ecdsa.verify only accepts Strings, which it encodes with the platform charset.
+ * Here the SHA-256 digest is computed directly over the received bytes, so webhook bodies can be
+ * verified without being decoded first.
+ *
+ * For secp256k1 keys, u1 * G uses the fixed-base table of Secp256k1Signer and u2 * Q uses a table
+ * built for Q on first use. Webhooks are verified against the same few Stark Bank public keys, so
+ * the tables are kept for up to maxTables keys.
+ */
+public final class SignatureVerifier {
+
+    private static final int maxTables = 8;
+    private static final ConcurrentHashMap<BigInteger, Secp256k1Signer.Table> tables = new ConcurrentHashMap<>();
+
+    private SignatureVerifier() {}
+
+    /**
+     * Verify a signature over the bytes of a message
+     * <p>
+     * Parameters:
+     * @param message [byte array]: signed content. ex: webhook request body
+     * @param signature [Signature object]: signature to be verified
+     * @param publicKey [PublicKey object]: public key of the signer
+     * <p>
+     * Return:
+     * @return true if the signature matches the message and public key
+     */
+    public static boolean verify(byte[] message, Signature signature, PublicKey publicKey) {
+        MessageDigest digest = sha256();
+        digest.update(message);
+        return verifyDigest(digest.digest(), signature, publicKey);
+    }
+
+    /**
+     * Verify a signature over the remaining bytes of a buffer, without changing its position
+     * <p>
+     * Parameters:
+     * @param message [ByteBuffer]: signed content. ex: webhook request body
+     * @param signature [Signature object]: signature to be verified
+     * @param publicKey [PublicKey object]: public key of the signer
+     * <p>
+     * Return:
+     * @return true if the signature matches the message and public key
+     */
+    public static boolean verify(ByteBuffer message, Signature signature, PublicKey publicKey) {
+        MessageDigest digest = sha256();
+        digest.update(message.duplicate());
+        return verifyDigest(digest.digest(), signature, publicKey);
+    }
+
+    /**
+     * Verify a signature over a SHA-256 digest
+     * <p>
+     * Parameters:
+     * @param digest [byte array]: SHA-256 digest of the signed content
+     * @param signature [Signature object]: signature to be verified
+     * @param publicKey [PublicKey object]: public key of the signer
+     * <p>
+     * Return:
+     * @return true if the signature matches the digest and public key
+     */
+    public static boolean verifyDigest(byte[] digest, Signature signature, PublicKey publicKey) {
+        Curve curve = publicKey.curve;
+        BigInteger r = signature.r;
+        BigInteger s = signature.s;
+        if (r.signum() < 1 || r.compareTo(curve.N) >= 0 || s.signum() < 1 || s.compareTo(curve.N) >= 0) {
+            return false;
+        }
+        BigInteger numberMessage = new BigInteger(1, digest);
+        BigInteger inverse = s.modInverse(curve.N);
+        BigInteger u1 = numberMessage.multiply(inverse).mod(curve.N);
+        BigInteger u2 = r.multiply(inverse).mod(curve.N);
+
+        BigInteger x;
+        if (curve.name.equals(Curve.secp256k1.name)) {
+            Secp256k1Signer.Jacobian point = Secp256k1Signer.multiplyGenerator(u1);
+            Secp256k1Signer.Jacobian keyPoint = table(publicKey.point).multiply(u2);
+            if (!keyPoint.isInfinity()) {
+                point.add(
+                        Secp256k1Signer.Field.fromBigInteger(keyPoint.affineX()),
+                        Secp256k1Signer.Field.fromBigInteger(keyPoint.affineY())
+                );
+            }
+            if (point.isInfinity()) {
+                return false;
+            }
+            x = point.affineX();
+        } else {
+            Point point = Math.add(
+                    Math.multiply(curve.G, u1, curve.N, curve.A, curve.P),
+                    Math.multiply(publicKey.point, u2, curve.N, curve.A, curve.P),
+                    curve.A,
+                    curve.P
+            );
+            if (point.isAtInfinity()) {
+                return false;
+            }
+            x = point.x;
+        }
+        return x.mod(curve.N).equals(r);
+    }
+
+    private static Secp256k1Signer.Table table(Point point) {
+        BigInteger coordinates = point.x.shiftLeft(256).or(point.y);
+        Secp256k1Signer.Table table = tables.get(coordinates);
+        if (table != null) {
+            return table;
+        }
+        if (tables.size() >= maxTables) {
+            tables.clear();
+        }
+        return tables.computeIfAbsent(coordinates, key -> new Secp256k1Signer.Table(point.x, point.y));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
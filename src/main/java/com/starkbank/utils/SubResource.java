@@ -1,9 +1,5 @@
 package com.starkbank.utils;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-
-
 public abstract class SubResource {
     protected static class ClassData {
         public String name;
@@ -17,7 +13,6 @@ public abstract class SubResource {
 
     public String toString() {
         String name = this.getClass().getSimpleName();
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        return name + "(" + gson.toJson(this) + ")";
+        return name + "(" + GsonEvent.getPrettyInstance().toJson(this) + ")";
     }
 }
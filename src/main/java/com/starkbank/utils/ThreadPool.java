@@ -0,0 +1,127 @@
+package com.starkbank.utils;
+
+import com.starkbank.Settings;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Threads and executors used internally by the SDK.
+ *
+ * When Settings.virtualThreads is enabled and the runtime supports them (Java 21 or later),
+ * the shared executor, Generator producers and the HTTP dispatchers run on virtual threads.
+ * The SDK is compiled for Java 8, so virtual threads are created through reflection.
+ * The scheduler only hands delayed tasks over and always uses a platform thread.
+ */
+final class ThreadPool {
+
+    private ThreadPool() {}
+
+    private static class SharedInstance {
+        static final ExecutorService instance = Executors.newCachedThreadPool(daemonFactory("starkbank-worker"));
+    }
+
+    private static class VirtualSharedInstance {
+        static final ExecutorService instance = Virtual.executor("starkbank-worker");
+    }
+
+    private static class SchedulerInstance {
+        static final ScheduledExecutorService instance = Executors.newSingleThreadScheduledExecutor(daemonFactory("starkbank-scheduler"));
+    }
+
+    private static class ProducerFactory {
+        static final ThreadFactory instance = Virtual.factory("starkbank-generator");
+    }
+
+    static ExecutorService shared() {
+        if (virtualThreads()) {
+            return VirtualSharedInstance.instance;
+        }
+        return SharedInstance.instance;
+    }
+
+    static ScheduledExecutorService scheduler() {
+        return SchedulerInstance.instance;
+    }
+
+    static boolean virtualThreads() {
+        return Settings.virtualThreads && Virtual.available;
+    }
+
+    // executor that starts a new virtual thread per task, or null if virtual threads are not in use
+    static ExecutorService virtualExecutor(String name) {
+        return virtualThreads() ? Virtual.executor(name) : null;
+    }
+
+    static Thread producer(ThreadGroup group, Runnable runnable) {
+        if (virtualThreads()) {
+            return ProducerFactory.instance.newThread(runnable);
+        }
+        Thread thread = new Thread(group, runnable);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    static ThreadFactory daemonFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Virtual {
+        private static final Method ofVirtual;
+        private static final Method name;
+        private static final Method factory;
+        private static final Method newThreadPerTaskExecutor;
+        static final boolean available;
+
+        static {
+            Method ofVirtualMethod = null;
+            Method nameMethod = null;
+            Method factoryMethod = null;
+            Method executorMethod = null;
+            try {
+                Class<?> builder = Class.forName("java.lang.Thread$Builder");
+                ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+                nameMethod = builder.getMethod("name", String.class, long.class);
+                factoryMethod = builder.getMethod("factory");
+                executorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+                // fails on Java 19 and 20 unless preview features are enabled
+                ofVirtualMethod.invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                ofVirtualMethod = null;
+            }
+            ofVirtual = ofVirtualMethod;
+            name = nameMethod;
+            factory = factoryMethod;
+            newThreadPerTaskExecutor = executorMethod;
+            available = ofVirtual != null;
+        }
+
+        // virtual threads are always daemon threads, named prefix-1, prefix-2, ...
+        static ThreadFactory factory(String prefix) {
+            try {
+                Object builder = name.invoke(ofVirtual.invoke(null), prefix + "-", 1L);
+                return (ThreadFactory) factory.invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("virtual threads are not available", e);
+            }
+        }
+
+        static ExecutorService executor(String prefix) {
+            try {
+                return (ExecutorService) newThreadPerTaskExecutor.invoke(null, factory(prefix));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("virtual threads are not available", e);
+            }
+        }
+    }
+}
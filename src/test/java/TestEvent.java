@@ -5,10 +5,14 @@ import org.junit.Assert;
 import org.junit.AssumptionViolatedException;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class TestEvent {
 
@@ -173,6 +177,52 @@ public class TestEvent {
         }
     }
 
+    @Test
+    public void testEventParseBytes() throws Exception{
+        String content = "{\"event\": {\"log\": {\"transfer\": {\"status\": \"processing\", \"updated\": \"2020-04-03T13:20:33.485644+00:00\", \"fee\": 160, \"name\": \"Lawrence James\", \"accountNumber\": \"10000-0\", \"id\": \"5107489032896512\", \"tags\": [], \"taxId\": \"91.642.017/0001-06\", \"created\": \"2020-04-03T13:20:32.530367+00:00\", \"amount\": 2, \"transactionIds\": [\"6547649079541760\"], \"bankCode\": \"01\", \"branchCode\": \"0001\"}, \"errors\": [], \"type\": \"sending\", \"id\": \"5648419829841920\", \"created\": \"2020-04-03T13:20:33.164373+00:00\"}, \"subscription\": \"transfer\", \"id\": \"6234355449987072\", \"created\": \"2020-04-03T13:20:40.784479+00:00\"}}";
+        String valid_signature = "MEYCIQCmFCAn2Z+6qEHmf8paI08Ee5ZJ9+KvLWSS3ddp8+RF3AIhALlK7ltfRvMCXhjS7cy8SPlcSlpQtjBxmhN6ClFC0Tv6";
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+
+        Settings.user = utils.User.defaultProject();
+        Event event = Event.parse(bytes, valid_signature);
+        Event bufferEvent = Event.parse(ByteBuffer.wrap(bytes), valid_signature);
+
+        Assert.assertEquals("6234355449987072", event.id);
+        Assert.assertEquals(event.id, bufferEvent.id);
+        Assert.assertEquals("5107489032896512", ((Event.TransferEvent) bufferEvent).log.transfer.id);
+    }
+
+    @Test
+    public void testEventParseAll() throws Exception{
+        String content = "{\"event\": {\"log\": {\"transfer\": {\"status\": \"processing\", \"updated\": \"2020-04-03T13:20:33.485644+00:00\", \"fee\": 160, \"name\": \"Lawrence James\", \"accountNumber\": \"10000-0\", \"id\": \"5107489032896512\", \"tags\": [], \"taxId\": \"91.642.017/0001-06\", \"created\": \"2020-04-03T13:20:32.530367+00:00\", \"amount\": 2, \"transactionIds\": [\"6547649079541760\"], \"bankCode\": \"01\", \"branchCode\": \"0001\"}, \"errors\": [], \"type\": \"sending\", \"id\": \"5648419829841920\", \"created\": \"2020-04-03T13:20:33.164373+00:00\"}, \"subscription\": \"transfer\", \"id\": \"6234355449987072\", \"created\": \"2020-04-03T13:20:40.784479+00:00\"}}";
+        String valid_signature = "MEYCIQCmFCAn2Z+6qEHmf8paI08Ee5ZJ9+KvLWSS3ddp8+RF3AIhALlK7ltfRvMCXhjS7cy8SPlcSlpQtjBxmhN6ClFC0Tv6";
+        String invalid_signature = "MEUCIQDOpo1j+V40DNZK2URL2786UQK/8mDXon9ayEd8U0/l7AIgYXtIZJBTs8zCRR3vmted6Ehz/qfw1GRut/eYyvf1yOk=";
+
+        List<Event.Delivery> deliveries = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            deliveries.add(new Event.Delivery(content, i == 3 ? invalid_signature : valid_signature));
+        }
+
+        Settings.user = utils.User.defaultProject();
+        Event.ParseResult result = Event.parseAll(deliveries);
+
+        Assert.assertEquals(deliveries.size(), result.events.size());
+        Assert.assertEquals(1, result.failures.size());
+        Assert.assertEquals(3, result.failures.get(0).index);
+        Assert.assertTrue(result.failures.get(0).error instanceof InvalidSignatureError);
+        Assert.assertNull(result.events.get(3));
+        Assert.assertEquals(9, result.parsed().size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            Event.ParseResult limited = Event.parseAll(deliveries, executor, 2, Settings.user);
+            Assert.assertEquals(1, limited.failures.size());
+            Assert.assertEquals(9, limited.parsed().size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testEventParseInvalidSignature() throws Exception{
         String content = "{\"event\": {\"log\": {\"transfer\": {\"status\": \"processing\", \"updated\": \"2020-04-03T13:20:33.485644+00:00\", \"fee\": 160, \"name\": \"Lawrence James\", \"accountNumber\": \"10000-0\", \"id\": \"5107489032896512\", \"tags\": [], \"taxId\": \"91.642.017/0001-06\", \"created\": \"2020-04-03T13:20:32.530367+00:00\", \"amount\": 2, \"transactionIds\": [\"6547649079541760\"], \"bankCode\": \"01\", \"branchCode\": \"0001\"}, \"errors\": [], \"type\": \"sending\", \"id\": \"5648419829841920\", \"created\": \"2020-04-03T13:20:33.164373+00:00\"}, \"subscription\": \"transfer\", \"id\": \"6234355449987072\", \"created\": \"2020-04-03T13:20:40.784479+00:00\"}}";
@@ -187,6 +237,24 @@ public class TestEvent {
         }
     }
 
+    @Test
+    public void testEventParseInvalidSignatureBurst() throws Exception{
+        String content = "{\"event\": {\"log\": {\"transfer\": {\"status\": \"processing\", \"updated\": \"2020-04-03T13:20:33.485644+00:00\", \"fee\": 160, \"name\": \"Lawrence James\", \"accountNumber\": \"10000-0\", \"id\": \"5107489032896512\", \"tags\": [], \"taxId\": \"91.642.017/0001-06\", \"created\": \"2020-04-03T13:20:32.530367+00:00\", \"amount\": 2, \"transactionIds\": [\"6547649079541760\"], \"bankCode\": \"01\", \"branchCode\": \"0001\"}, \"errors\": [], \"type\": \"sending\", \"id\": \"5648419829841920\", \"created\": \"2020-04-03T13:20:33.164373+00:00\"}, \"subscription\": \"transfer\", \"id\": \"6234355449987072\", \"created\": \"2020-04-03T13:20:40.784479+00:00\"}}";
+        String invalid_signature = "MEUCIQDOpo1j+V40DNZK2URL2786UQK/8mDXon9ayEd8U0/l7AIgYXtIZJBTs8zCRR3vmted6Ehz/qfw1GRut/eYyvf1yOk=";
+
+        Settings.user = utils.User.defaultProject();
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 20; i++) {
+            try{
+                Event.parse(content, invalid_signature);
+                throw new Error("Signature incorrectly validated");
+            } catch (InvalidSignatureError e){
+                continue;
+            }
+        }
+        System.out.println("20 invalid signatures rejected in " + (System.currentTimeMillis() - start) + "ms");
+    }
+
     @Test
     public void testEventParseMalformedSignature() throws Exception{
         String content = "{\"event\": {\"log\": {\"transfer\": {\"status\": \"processing\", \"updated\": \"2020-04-03T13:20:33.485644+00:00\", \"fee\": 160, \"name\": \"Lawrence James\", \"accountNumber\": \"10000-0\", \"id\": \"5107489032896512\", \"tags\": [], \"taxId\": \"91.642.017/0001-06\", \"created\": \"2020-04-03T13:20:32.530367+00:00\", \"amount\": 2, \"transactionIds\": [\"6547649079541760\"], \"bankCode\": \"01\", \"branchCode\": \"0001\"}, \"errors\": [], \"type\": \"sending\", \"id\": \"5648419829841920\", \"created\": \"2020-04-03T13:20:33.164373+00:00\"}, \"subscription\": \"transfer\", \"id\": \"6234355449987072\", \"created\": \"2020-04-03T13:20:40.784479+00:00\"}}";
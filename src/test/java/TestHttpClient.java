@@ -0,0 +1,37 @@
+import com.starkbank.Transaction;
+import com.starkbank.Settings;
+import com.starkbank.utils.HttpClient;
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.util.HashMap;
+
+
+public class TestHttpClient {
+
+    @Test
+    public void testConfigureAndStats() throws Exception {
+        Settings.user = utils.User.defaultProject();
+
+        HttpClient.Config config = new HttpClient.Config();
+        config.maxIdleConnections = 20;
+        config.keepAliveDuration = 600;
+        config.maxRequests = 128;
+        config.maxRequestsPerHost = 128;
+        HttpClient.configure("sandbox", config);
+
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("limit", 1);
+        for (Transaction transaction : Transaction.query(params)) {
+            Assert.assertNotNull(transaction.id);
+        }
+
+        HttpClient.Stats stats = HttpClient.stats("sandbox");
+        System.out.println(stats);
+        Assert.assertEquals(20, stats.maxIdleConnections);
+        Assert.assertEquals(128, stats.maxRequests);
+        Assert.assertTrue(stats.connectionCount >= stats.idleConnectionCount);
+
+        HttpClient.configure("sandbox", new HttpClient.Config());
+    }
+}
@@ -0,0 +1,73 @@
+import com.starkbank.Balance;
+import com.starkbank.Project;
+import com.starkbank.Transaction;
+import com.starkbank.utils.LatencyHistogram;
+import com.starkbank.utils.LatencyRecorder;
+import com.starkbank.utils.RequestMetrics;
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+public class TestMetrics {
+
+    @Test
+    public void testLatencyRecorder() throws Exception {
+        Project project = utils.User.defaultProject();
+        LatencyRecorder recorder = new LatencyRecorder();
+        List<RequestMetrics> received = Collections.synchronizedList(new ArrayList<>());
+        project.metricsListener = metrics -> {
+            received.add(metrics);
+            recorder.onRequest(metrics);
+        };
+
+        Balance.get(project);
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("limit", 10);
+        for (Transaction transaction : Transaction.query(params, project)) {
+            Assert.assertNotNull(transaction.id);
+        }
+
+        Assert.assertEquals(2, received.size());
+        for (RequestMetrics metrics : received) {
+            System.out.println(metrics);
+            Assert.assertEquals("GET", metrics.method);
+            Assert.assertEquals(200, metrics.status);
+            Assert.assertNull(metrics.error);
+            Assert.assertTrue(metrics.signNanos > 0);
+            Assert.assertTrue(metrics.totalNanos >= metrics.decodeNanos);
+        }
+
+        Map<String, LatencyRecorder.Snapshot> snapshot = recorder.snapshot();
+        Assert.assertTrue(snapshot.containsKey("Balance GET"));
+        LatencyRecorder.Snapshot transactions = snapshot.get("Transaction GET");
+        Assert.assertEquals(1, transactions.requests);
+        Assert.assertEquals(0, transactions.errors);
+        Assert.assertEquals(1, transactions.total.count());
+        System.out.println(transactions);
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100000; value++) {
+            histogram.record(value * 1000);
+        }
+        Assert.assertEquals(100000, histogram.count());
+        Assert.assertEquals(1000, histogram.min());
+        Assert.assertEquals(100000000, histogram.max());
+        Assert.assertEquals(50000000, histogram.valueAtPercentile(50), 50000000 / 64);
+        Assert.assertEquals(99000000, histogram.valueAtPercentile(99), 99000000 / 64);
+        Assert.assertEquals(100000000, histogram.valueAtPercentile(100));
+
+        LatencyHistogram copy = histogram.copy();
+        histogram.record(0);
+        Assert.assertEquals(100000, copy.count());
+        Assert.assertEquals(0, histogram.min());
+    }
+}
@@ -0,0 +1,60 @@
+import com.starkbank.Project;
+import com.starkbank.Settings;
+import com.starkbank.Transaction;
+import com.starkbank.utils.RateLimit;
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+
+public class TestRateLimit {
+
+    @Test
+    public void testUserRateLimit() throws Exception {
+        Project project = utils.User.defaultProject();
+        RateLimit rateLimit = new RateLimit();
+        rateLimit.requestsPerSecond = 5;
+        rateLimit.burst = 1;
+        rateLimit.maxInFlight = 2;
+        project.rateLimit = rateLimit;
+
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("limit", 1);
+        List<CompletableFuture<Transaction.Page>> pages = new ArrayList<>();
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 6; i++) {
+            pages.add(Transaction.pageAsync(params, project));
+        }
+        for (CompletableFuture<Transaction.Page> page : pages) {
+            Assert.assertNotNull(page.get());
+        }
+        Assert.assertTrue(System.currentTimeMillis() - start >= 1000);
+    }
+
+    @Test
+    public void testQueryWithRateLimit() throws Exception {
+        Settings.user = utils.User.defaultProject();
+        RateLimit rateLimit = new RateLimit();
+        rateLimit.requestsPerSecond = 10;
+        rateLimit.maxInFlight = 4;
+        rateLimit.maxBulkInFlight = 1;
+        Settings.rateLimit = rateLimit;
+
+        try {
+            HashMap<String, Object> params = new HashMap<>();
+            params.put("limit", 150);
+            int count = 0;
+            for (Transaction transaction : Transaction.query(params)) {
+                Assert.assertNotNull(transaction.id);
+                count++;
+            }
+            Assert.assertTrue(count <= 150);
+        } finally {
+            Settings.rateLimit = null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+import com.starkbank.Project;
+import com.starkbank.Transaction;
+import com.starkbank.Settings;
+import com.starkbank.ellipticcurve.Ecdsa;
+import com.starkbank.ellipticcurve.PrivateKey;
+import com.starkbank.ellipticcurve.Signature;
+import com.starkbank.ellipticcurve.utils.ByteString;
+import com.starkbank.utils.EcdsaSigner;
+import com.starkbank.utils.RequestSigner;
+import com.starkbank.utils.Secp256k1Signer;
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+
+
+public class TestRequestSigner {
+
+    @Test
+    public void testSignatureVerifies() throws Exception {
+        RequestSigner[] signers = {new Secp256k1Signer(), new EcdsaSigner()};
+        for (int i = 0; i < 20; i++) {
+            PrivateKey privateKey = new PrivateKey();
+            String message = "project/5656565656565656:" + (1673000000 + i) + ":{\"transfers\": []}";
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(message.getBytes(StandardCharsets.UTF_8));
+            for (RequestSigner signer : signers) {
+                String signature = signer.sign(digest, privateKey);
+                Assert.assertTrue(Ecdsa.verify(message, Signature.fromBase64(new ByteString(signature.getBytes())), privateKey.publicKey()));
+            }
+        }
+    }
+
+    @Test
+    public void testUserSigner() throws Exception {
+        Project project = utils.User.defaultProject();
+        project.signer = new EcdsaSigner();
+        Settings.user = project;
+
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("limit", 1);
+        for (Transaction transaction : Transaction.query(params)) {
+            Assert.assertNotNull(transaction.id);
+        }
+    }
+}
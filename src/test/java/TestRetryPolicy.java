@@ -0,0 +1,62 @@
+import com.starkbank.Project;
+import com.starkbank.Settings;
+import com.starkbank.Transfer;
+import com.starkbank.User;
+import com.starkbank.utils.RetryPolicy;
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+
+public class TestRetryPolicy {
+
+    @Test
+    public void testUserRetryPolicy() throws Exception {
+        Project project = utils.User.defaultProject();
+        RetryPolicy policy = new RetryPolicy();
+        policy.maxAttempts = 5;
+        policy.maxDelay = 2000;
+        project.retryPolicy = policy;
+        User user = Settings.user;
+        try {
+            Settings.user = project;
+
+            HashMap<String, Object> params = new HashMap<>();
+            params.put("limit", 1);
+            Transfer.Page page = Transfer.page(params);
+            Assert.assertNotNull(page);
+        } finally {
+            Settings.user = user;
+        }
+    }
+
+    @Test
+    public void testCreateWithExternalId() throws Exception {
+        User user = Settings.user;
+        RetryPolicy policy = Settings.retryPolicy;
+        try {
+            Settings.user = utils.User.defaultProject();
+            Settings.retryPolicy = new RetryPolicy();
+
+            Transfer transfer = TestTransfer.example(false);
+            Assert.assertNotNull(transfer.externalId);
+            List<Transfer> transfers = new ArrayList<>();
+            transfers.add(transfer);
+
+            transfers = Transfer.create(transfers);
+            Assert.assertEquals(transfer.externalId, transfers.get(0).externalId);
+        } finally {
+            Settings.user = user;
+            Settings.retryPolicy = policy;
+        }
+    }
+
+    @Test
+    public void testNone() {
+        RetryPolicy policy = RetryPolicy.none();
+        Assert.assertEquals(1, policy.maxAttempts);
+    }
+}
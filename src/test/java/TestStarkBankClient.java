@@ -0,0 +1,112 @@
+import com.starkbank.Balance;
+import com.starkbank.Project;
+import com.starkbank.Settings;
+import com.starkbank.StarkBankClient;
+import com.starkbank.Transaction;
+import com.starkbank.error.InputErrors;
+import com.starkbank.utils.Generator;
+import com.starkbank.utils.HttpClient;
+import org.junit.Test;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+
+public class TestStarkBankClient {
+
+    @Test
+    public void testClientCall() throws Exception {
+        Settings.user = null;
+        StarkBankClient client = new StarkBankClient(utils.User.defaultProject());
+
+        Balance balance = client.call(user -> Balance.get(user));
+        Assert.assertNotNull(balance.id);
+
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("limit", 10);
+        Generator<Transaction> transactions = client.call(user -> Transaction.query(params, user));
+        for (Transaction transaction : transactions) {
+            Assert.assertNotNull(transaction.id);
+        }
+    }
+
+    @Test
+    public void testClientsInParallel() throws Exception {
+        Settings.user = null;
+        Project project = utils.User.defaultProject();
+        StarkBankClient.Config config = new StarkBankClient.Config();
+        config.language = "pt-BR";
+        config.httpClient = new HttpClient.Config();
+        StarkBankClient portuguese = new StarkBankClient(project, config);
+        StarkBankClient english = new StarkBankClient(project);
+        Assert.assertEquals("pt-BR", portuguese.language);
+        Assert.assertEquals("en-US", english.language);
+
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("limit", 5);
+        List<CompletableFuture<Transaction.Page>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(portuguese.call(user -> Transaction.pageAsync(params, user)));
+            futures.add(english.call(user -> Transaction.pageAsync(params, user)));
+        }
+        for (CompletableFuture<Transaction.Page> future : futures) {
+            Assert.assertNotNull(future.get().transactions);
+        }
+    }
+
+    @Test
+    public void testClientLanguage() throws Exception {
+        Project project = utils.User.defaultProject();
+        StarkBankClient.Config config = new StarkBankClient.Config();
+        config.language = "pt-BR";
+        StarkBankClient portuguese = new StarkBankClient(project, config);
+        config.language = "en-US";
+        StarkBankClient english = new StarkBankClient(project, config);
+
+        String portugueseMessage = invalidTransactionMessage(portuguese);
+        String englishMessage = invalidTransactionMessage(english);
+        System.out.println(portugueseMessage);
+        System.out.println(englishMessage);
+        Assert.assertNotEquals(englishMessage, portugueseMessage);
+    }
+
+    @Test
+    public void testClientSettingsSnapshot() throws Exception {
+        Project project = utils.User.defaultProject();
+        StarkBankClient client = new StarkBankClient(project);
+        Assert.assertNotNull(client.userAgent);
+        Assert.assertNotNull(client.retryPolicy);
+        Assert.assertNotNull(client.rateLimit);
+        Assert.assertNotNull(client.metricsListener);
+
+        String language = Settings.language;
+        try {
+            Settings.language = "pt-BR";
+            Assert.assertEquals("en-US", client.language);
+            client.call(user -> {
+                Assert.assertEquals("en-US", user.language);
+                user.language = "pt-BR";
+                return null;
+            });
+            client.call(user -> {
+                Assert.assertEquals("en-US", user.language);
+                return null;
+            });
+        } finally {
+            Settings.language = language;
+        }
+    }
+
+    private static String invalidTransactionMessage(StarkBankClient client) throws Exception {
+        try {
+            client.call(user -> Transaction.get("0", user));
+            throw new Exception("Oops, invalid id was accepted");
+        } catch (InputErrors e) {
+            Assert.assertFalse(e.errors.isEmpty());
+            return e.errors.get(0).message;
+        }
+    }
+}
@@ -1,14 +1,27 @@
 import com.starkbank.Transaction;
 import com.starkbank.Settings;
+import com.starkbank.utils.Checkpoint;
+import com.starkbank.utils.CheckpointStore;
+import com.starkbank.utils.FileCheckpointStore;
 import com.starkbank.utils.Generator;
+import com.starkbank.utils.PageGenerator;
 import org.junit.Test;
 import org.junit.Assert;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class TestTransaction {
 
@@ -47,6 +60,187 @@ public class TestTransaction {
         System.out.println(i);
     }
 
+    @Test
+    public void testQueryPrefetch() throws Exception {
+        Settings.user = utils.User.defaultProject();
+
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("limit", 250);
+        params.put("after", "2019-04-01");
+        params.put("before", "2030-04-30");
+        PageGenerator<Transaction> transactions = ((PageGenerator<Transaction>) Transaction.query(params)).prefetch(2);
+
+        List<String> ids = new ArrayList<>();
+        for (Transaction transaction : transactions) {
+            Assert.assertNotNull(transaction.id);
+            if (ids.contains(transaction.id)) {
+                throw new Exception("repeated id");
+            }
+            ids.add(transaction.id);
+        }
+        Assert.assertTrue(ids.size() <= 250);
+        System.out.println(ids.size());
+    }
+
+    @Test
+    public void testQueryVirtualThreads() throws Exception {
+        Settings.user = utils.User.defaultProject();
+        Settings.virtualThreads = true;
+
+        try {
+            HashMap<String, Object> params = new HashMap<>();
+            params.put("limit", 250);
+            PageGenerator<Transaction> transactions = ((PageGenerator<Transaction>) Transaction.query(params)).prefetch(2);
+
+            List<String> ids = new ArrayList<>();
+            for (Transaction transaction : transactions) {
+                Assert.assertNotNull(transaction.id);
+                ids.add(transaction.id);
+            }
+            Assert.assertTrue(ids.size() <= 250);
+        } finally {
+            Settings.virtualThreads = false;
+        }
+    }
+
+    @Test
+    public void testQueryStream() throws Exception {
+        Settings.user = utils.User.defaultProject();
+
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("limit", 250);
+
+        List<String> sequentialIds = new ArrayList<>();
+        for (Transaction transaction : Transaction.query(params)) {
+            sequentialIds.add(transaction.id);
+        }
+
+        try (Stream<Transaction> transactions = Transaction.query(params).stream()) {
+            List<String> ids = transactions.parallel().map(transaction -> transaction.id).collect(Collectors.toList());
+            Assert.assertEquals(sequentialIds, ids);
+        }
+    }
+
+    @Test
+    public void testQueryCheckpoint() throws Exception {
+        Settings.user = utils.User.defaultProject();
+
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("limit", 250);
+
+        List<String> sequentialIds = new ArrayList<>();
+        for (Transaction transaction : Transaction.query(params)) {
+            sequentialIds.add(transaction.id);
+        }
+
+        Path directory = Files.createTempDirectory("checkpoints");
+        CheckpointStore store = new FileCheckpointStore(directory);
+
+        PageGenerator<Transaction> transactions = ((PageGenerator<Transaction>) Transaction.query(params)).checkpoint(store, "transactions");
+        List<String> ids = new ArrayList<>();
+        for (Transaction transaction : transactions) {
+            ids.add(transaction.id);
+            if (ids.size() == 150) {
+                break;
+            }
+        }
+        Checkpoint checkpoint = transactions.checkpoint();
+        Assert.assertEquals(150, checkpoint.position);
+
+        for (Transaction transaction : ((PageGenerator<Transaction>) Transaction.query(params)).resume(checkpoint)) {
+            ids.add(transaction.id);
+        }
+        Assert.assertEquals(sequentialIds, ids);
+
+        Checkpoint stored = store.load("transactions");
+        Assert.assertNotNull(stored);
+        Assert.assertEquals(100, stored.position);
+
+        ids = new ArrayList<>(ids.subList(0, 100));
+        for (Transaction transaction : ((PageGenerator<Transaction>) Transaction.query(params)).checkpoint(store, "transactions")) {
+            ids.add(transaction.id);
+        }
+        Assert.assertEquals(sequentialIds, ids);
+        Assert.assertNull(store.load("transactions"));
+    }
+
+    @Test
+    public void testQueryPublisher() throws Exception {
+        Settings.user = utils.User.defaultProject();
+
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("limit", 250);
+
+        List<String> sequentialIds = new ArrayList<>();
+        for (Transaction transaction : Transaction.query(params)) {
+            sequentialIds.add(transaction.id);
+        }
+
+        List<String> ids = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Boolean> completed = new CompletableFuture<>();
+        Publisher<Transaction> transactions = ((PageGenerator<Transaction>) Transaction.query(params)).publisher();
+        transactions.subscribe(new Subscriber<Transaction>() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(30);
+            }
+
+            @Override
+            public void onNext(Transaction transaction) {
+                ids.add(transaction.id);
+                if (ids.size() % 30 == 0) {
+                    subscription.request(30);
+                }
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                completed.completeExceptionally(error);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.complete(true);
+            }
+        });
+        Assert.assertTrue(completed.get(30, TimeUnit.SECONDS));
+        Assert.assertEquals(sequentialIds, ids);
+    }
+
+    @Test
+    public void testQuerySliced() throws Exception {
+        Settings.user = utils.User.defaultProject();
+
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("after", "2019-04-01");
+        params.put("before", "2030-04-30");
+        params.put("limit", 250);
+
+        List<String> sequentialIds = new ArrayList<>();
+        for (Transaction transaction : Transaction.query(params)) {
+            sequentialIds.add(transaction.id);
+        }
+
+        for (boolean ordered : new boolean[]{true, false}) {
+            PageGenerator<Transaction> transactions = ((PageGenerator<Transaction>) Transaction.query(params)).slice(4, ordered);
+            List<String> ids = new ArrayList<>();
+            for (Transaction transaction : transactions) {
+                Assert.assertNotNull(transaction.id);
+                if (ids.contains(transaction.id)) {
+                    throw new Exception("repeated id");
+                }
+                ids.add(transaction.id);
+            }
+            Assert.assertTrue(ids.size() <= 250);
+            if (ordered) {
+                Assert.assertEquals(sequentialIds, ids);
+            }
+        }
+    }
+
     @Test
     public void testPage() throws Exception {
         Settings.user = utils.User.defaultProject();
@@ -1,5 +1,7 @@
 import com.starkbank.Transfer;
 import com.starkbank.Settings;
+import com.starkbank.utils.BatchingCreator;
+import com.starkbank.utils.Bulk;
 import com.starkbank.utils.Generator;
 import org.junit.Test;
 import org.junit.Assert;
@@ -15,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 
 public class TestTransfer {
@@ -54,6 +57,59 @@ public class TestTransfer {
         System.out.println(deletedTransfer);
     }
 
+    @Test
+    public void testCreateAndGetAsync() throws Exception {
+        Settings.user = utils.User.defaultProject();
+        List<Transfer> transfers = new ArrayList<>();
+
+        transfers.add(TestTransfer.example(false));
+
+        transfers = Transfer.createAsync(transfers).get();
+        Transfer createdTransfer = transfers.get(0);
+        Transfer transfer = Transfer.getAsync(createdTransfer.id).get();
+
+        Assert.assertEquals(createdTransfer.id, transfer.id);
+        System.out.println(transfer);
+    }
+
+    @Test
+    public void testBulkCreate() throws Exception {
+        Settings.user = utils.User.defaultProject();
+        List<Transfer> transfers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            transfers.add(TestTransfer.example(false));
+        }
+
+        Bulk.Result<Transfer> result = Bulk.create(transfers, Transfer::create, 2, 2, null);
+
+        Assert.assertTrue(result.isSuccessful());
+        Assert.assertEquals(transfers.size(), result.entities.size());
+        for (int i = 0; i < transfers.size(); i++) {
+            Assert.assertEquals(transfers.get(i).externalId, result.entities.get(i).externalId);
+        }
+    }
+
+    @Test
+    public void testBatchingCreator() throws Exception {
+        Settings.user = utils.User.defaultProject();
+        List<Transfer> transfers = new ArrayList<>();
+        List<CompletableFuture<Transfer>> futures = new ArrayList<>();
+
+        try (BatchingCreator<Transfer> creator = new BatchingCreator<>(Transfer::create, 3, 100)) {
+            for (int i = 0; i < 5; i++) {
+                Transfer transfer = TestTransfer.example(false);
+                transfers.add(transfer);
+                futures.add(creator.submit(transfer));
+            }
+        }
+
+        for (int i = 0; i < transfers.size(); i++) {
+            Transfer created = futures.get(i).get();
+            Assert.assertNotNull(created.id);
+            Assert.assertEquals(transfers.get(i).externalId, created.externalId);
+        }
+    }
+
     @Test
     public void testQueryGetAndPdf() throws Exception {
         Settings.user = utils.User.defaultProject();
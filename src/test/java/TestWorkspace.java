@@ -30,6 +30,16 @@ public class TestWorkspace {
         System.out.println(i);
     }
 
+    @Test
+    public void testReplaceSharesPrivateKey() throws Exception {
+        Organization organization = utils.User.defaultOrganization();
+        Organization workspaceOrganization = Organization.replace(organization, "4848484848484848");
+
+        Assert.assertSame(organization.privateKey(), workspaceOrganization.privateKey());
+        Assert.assertEquals(organization.pem, workspaceOrganization.pem);
+        Assert.assertEquals("organization/" + organization.id + "/workspace/4848484848484848", workspaceOrganization.accessId());
+    }
+
     @Test
     public void testCreateAndUpdate() throws Exception {
         Organization organization = utils.User.defaultOrganization();
@@ -0,0 +1,82 @@
+package com.starkbank.utils;
+
+import com.starkbank.error.InputErrors;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+public class TestBatchingCreator {
+
+    @Test
+    public void testInvalidItem() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        Bulk.Creator<String> creator = (items, user) -> {
+            requests.incrementAndGet();
+            if (items.contains("invalid")) {
+                int index = items.indexOf("invalid");
+                throw new InputErrors("{\"errors\":[{\"code\":\"invalidAmount\",\"message\":\"Element " + index + ": Invalid amount\"}]}");
+            }
+            List<String> created = new ArrayList<>();
+            for (Object item : items) {
+                created.add("created " + item);
+            }
+            return created;
+        };
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        try (BatchingCreator<String> batching = new BatchingCreator<>(creator, 5, 1000)) {
+            futures.add(batching.submit("a"));
+            futures.add(batching.submit("b"));
+            futures.add(batching.submit("invalid"));
+            futures.add(batching.submit("c"));
+            futures.add(batching.submit("d"));
+        }
+
+        Assert.assertEquals("created a", futures.get(0).get());
+        Assert.assertEquals("created b", futures.get(1).get());
+        Assert.assertEquals("created c", futures.get(3).get());
+        Assert.assertEquals("created d", futures.get(4).get());
+        try {
+            futures.get(2).get();
+            throw new Exception("Oops, invalid item was created");
+        } catch (ExecutionException e) {
+            InputErrors errors = (InputErrors) e.getCause();
+            Assert.assertEquals(1, errors.errors.size());
+            Assert.assertEquals("invalidAmount", errors.errors.get(0).code);
+        }
+        Assert.assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testBatchError() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        InputErrors rejection = new InputErrors("{\"errors\":[{\"code\":\"invalidSignature\",\"message\":\"The provided digital signature is invalid\"}]}");
+        Bulk.Creator<String> creator = (items, user) -> {
+            requests.incrementAndGet();
+            throw rejection;
+        };
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        try (BatchingCreator<String> batching = new BatchingCreator<>(creator, 8, 1000)) {
+            for (int i = 0; i < 8; i++) {
+                futures.add(batching.submit("item " + i));
+            }
+        }
+
+        for (CompletableFuture<String> future : futures) {
+            try {
+                future.get();
+                throw new Exception("Oops, rejected item was created");
+            } catch (ExecutionException e) {
+                Assert.assertSame(rejection, e.getCause());
+            }
+        }
+        Assert.assertEquals(1, requests.get());
+    }
+}
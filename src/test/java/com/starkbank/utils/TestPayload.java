@@ -0,0 +1,34 @@
+package com.starkbank.utils;
+
+import okhttp3.Request;
+import okio.Buffer;
+import org.junit.Assert;
+import org.junit.Test;
+import retrofit2.Retrofit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+
+public class TestPayload {
+
+    @Test
+    public void testRequestBodyCharset() throws Exception {
+        Map<String, Object> data = new HashMap<>();
+        data.put("description", "Pagamento de ação");
+        Payload payload = Payload.entity(data);
+
+        ClientService service = new Retrofit.Builder().baseUrl("http://localhost/").build().create(ClientService.class);
+        Request request = service.post("transfer", payload.requestBody(), new HashMap<>(), null).request();
+
+        Assert.assertNotNull(request.body());
+        Assert.assertEquals("text/plain; charset=utf-8", request.body().contentType().toString());
+        Assert.assertEquals(StandardCharsets.UTF_8, request.body().contentType().charset());
+
+        Buffer body = new Buffer();
+        request.body().writeTo(body);
+        Assert.assertEquals(payload.size(), body.size());
+        Assert.assertEquals("{\"description\":\"Pagamento de ação\"}", body.readString(StandardCharsets.UTF_8));
+    }
+}
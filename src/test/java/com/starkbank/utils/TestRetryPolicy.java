@@ -0,0 +1,95 @@
+package com.starkbank.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+
+public class TestRetryPolicy {
+
+    @Test
+    public void testDelay() {
+        RetryPolicy policy = new RetryPolicy();
+        policy.maxAttempts = 3;
+        policy.baseDelay = 100;
+        policy.budgetCapacity = 1000;
+        policy.deposit();
+
+        for (int i = 0; i < 200; i++) {
+            long first = policy.delay(1, -1);
+            Assert.assertTrue(first >= 0 && first <= 100);
+            long second = policy.delay(2, -1);
+            Assert.assertTrue(second >= 0 && second <= 200);
+        }
+        Assert.assertEquals(-1, policy.delay(3, -1));
+    }
+
+    @Test
+    public void testDelayCap() {
+        RetryPolicy policy = new RetryPolicy();
+        policy.maxAttempts = 100;
+        policy.baseDelay = 1000;
+        policy.maxDelay = 1500;
+        policy.budgetCapacity = 1000;
+        policy.deposit();
+
+        long max = 0;
+        for (int i = 0; i < 500; i++) {
+            long delay = policy.delay(80, -1);
+            Assert.assertTrue(delay >= 0 && delay <= 1500);
+            max = Math.max(max, delay);
+        }
+        Assert.assertTrue(max > 1000);
+
+        Assert.assertEquals(1200, policy.delay(1, 1200));
+        Assert.assertEquals(-1, policy.delay(1, 1501));
+    }
+
+    @Test
+    public void testBudget() {
+        RetryPolicy policy = new RetryPolicy();
+        policy.maxAttempts = 10;
+        policy.budgetCapacity = 2;
+        policy.budgetRatio = 0.5;
+
+        Assert.assertEquals(-1, policy.delay(1, 0));
+
+        policy.deposit();
+        Assert.assertEquals(0, policy.delay(1, 0));
+        Assert.assertEquals(0, policy.delay(1, 0));
+        Assert.assertEquals(-1, policy.delay(1, 0));
+
+        policy.deposit();
+        Assert.assertEquals(-1, policy.delay(1, 0));
+        policy.deposit();
+        Assert.assertEquals(0, policy.delay(1, 0));
+        Assert.assertEquals(-1, policy.delay(1, 0));
+
+        for (int i = 0; i < 10; i++) {
+            policy.deposit();
+        }
+        Assert.assertEquals(0, policy.delay(1, 0));
+        Assert.assertEquals(0, policy.delay(1, 0));
+        Assert.assertEquals(-1, policy.delay(1, 0));
+    }
+
+    @Test
+    public void testRetryAfter() {
+        Assert.assertEquals(-1, RetryPolicy.retryAfter(null));
+        Assert.assertEquals(3000, RetryPolicy.retryAfter("3"));
+        Assert.assertEquals(0, RetryPolicy.retryAfter(" 0 "));
+        Assert.assertEquals(0, RetryPolicy.retryAfter("-5"));
+        Assert.assertEquals(-1, RetryPolicy.retryAfter(""));
+        Assert.assertEquals(-1, RetryPolicy.retryAfter("soon"));
+        Assert.assertEquals(-1, RetryPolicy.retryAfter("1.5"));
+
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        long future = RetryPolicy.retryAfter(DateTimeFormatter.RFC_1123_DATE_TIME.format(now.plusSeconds(10)));
+        Assert.assertTrue(future > 8000 && future <= 10000);
+        Assert.assertEquals(0, RetryPolicy.retryAfter(DateTimeFormatter.RFC_1123_DATE_TIME.format(now.minusSeconds(10))));
+        Assert.assertEquals(0, RetryPolicy.retryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+    }
+}